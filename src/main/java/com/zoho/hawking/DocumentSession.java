@@ -0,0 +1,147 @@
+//$Id$
+package com.zoho.hawking;
+
+import com.zoho.hawking.datetimeparser.configuration.CompiledConfiguration;
+import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
+import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
+import com.zoho.hawking.language.AbstractLanguage;
+import com.zoho.hawking.language.LanguageFactory;
+import com.zoho.hawking.language.english.model.*;
+import com.zoho.hawking.utils.CoreNlpUtils;
+import com.zoho.hawking.utils.DateTimeProperties;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Dates of a document that is being edited, parsed again sentence by sentence
+ *
+ * update splits the text into sentences. A sentence is compiled (CRF, tense and recognizer) the first time its text
+ * is seen, and resolved the first time it is seen with a reference date; the other sentences give the dates found
+ * before, copied with their offsets moved to where the sentence now is in the text. The sentences of the last update
+ * are the only ones kept, so an edited sentence is dropped at the next update. A session is not thread safe.
+ */
+public class DocumentSession {
+
+    private final HawkingConfiguration config;
+
+    private final String lang;
+
+    private final AbstractLanguage abstractLanguage;
+
+    private Map<String, List<CompiledDate>> compiledSentences = new HashMap<>();
+
+    private Map<String, List<List<DateTimeProperties>>> resolvedSentences = new HashMap<>();
+
+    private int compiledCount;
+
+    private int resolvedCount;
+
+    public DocumentSession(HawkingConfiguration config, String lang) {
+        this.config = config;
+        this.lang = lang;
+        this.abstractLanguage = LanguageFactory.getLanguageImpl(lang);
+        if (abstractLanguage == null) {
+            throw new IllegalArgumentException("Unsupported language " + lang); //No I18N
+        }
+    }
+
+    /*
+     * Parses the text as it is after an edit
+     *
+     * returns the dates found in it, as HawkingTimeParser.parse gives them*/
+    public DatesFound update(String text, Date referenceDate) {
+        ConfigurationConstants.setConfiguration(CompiledConfiguration.of(config).getConfiguration());
+        Map<String, List<CompiledDate>> compiled = new HashMap<>();
+        Map<String, List<List<DateTimeProperties>>> resolved = new HashMap<>();
+        compiledCount = 0;
+        resolvedCount = 0;
+        List<ParserOutput> parserOutputs = new ArrayList<>();
+        List<DateGroup> dateGroups = new ArrayList<>();
+        int maxParseDates = config.getMaxParseDate();
+        int dateCounter = 0;
+        int searchFrom = 0;
+        for (String sentence : CoreNlpUtils.sentenceTokenize(text)) {
+            int sentenceStart = text.indexOf(sentence, searchFrom);
+            if (sentenceStart < 0) {
+                sentenceStart = text.indexOf(sentence);
+            } else {
+                searchFrom = sentenceStart + sentence.length();
+            }
+            List<CompiledDate> compiledDates = compiled.computeIfAbsent(sentence, this::compile);
+            List<List<DateTimeProperties>> resolvedDates = resolved.computeIfAbsent(referenceDate.getTime() + "\u0000" + sentence, //No I18N
+                key -> resolve(key, compiledDates, referenceDate));
+            for (List<DateTimeProperties> dateList : resolvedDates) {
+                if (maxParseDates != 0 && dateCounter == maxParseDates) {
+                    break;
+                }
+                if (dateList.isEmpty()) {
+                    continue;
+                }
+                dateCounter++;
+                for (DateTimeProperties date : dateList) {
+                    parserOutputs.add(shifted(date.getParserOutput(), sentenceStart));
+                    dateGroups.add(date.getDateGroup());
+                }
+            }
+        }
+        compiledSentences = compiled;
+        resolvedSentences = resolved;
+        return HawkingTimeParser.datesFound(parserOutputs, dateGroups, config);
+    }
+
+    /*
+     * returns the number of sentences the last update compiled, the others were compiled before*/
+    public int getCompiledCount() {
+        return compiledCount;
+    }
+
+    /*
+     * returns the number of sentences the last update resolved, the others reused the dates found before*/
+    public int getResolvedCount() {
+        return resolvedCount;
+    }
+
+    public String getLanguage() {
+        return lang;
+    }
+
+    private List<CompiledDate> compile(String sentence) {
+        List<CompiledDate> compiledDates = compiledSentences.get(sentence);
+        if (compiledDates == null) {
+            compiledDates = abstractLanguage.compile(sentence, config);
+            compiledCount++;
+        }
+        return compiledDates;
+    }
+
+    /*
+     * The dates of each compiled date of the sentence, with offsets in the sentence*/
+    private List<List<DateTimeProperties>> resolve(String key, List<CompiledDate> compiledDates, Date referenceDate) {
+        List<List<DateTimeProperties>> resolvedDates = resolvedSentences.get(key);
+        if (resolvedDates == null) {
+            resolvedDates = new ArrayList<>(compiledDates.size());
+            for (CompiledDate compiledDate : compiledDates) {
+                resolvedDates.add(abstractLanguage.resolve(compiledDate, referenceDate, config.getTimeZone()));
+            }
+            resolvedCount++;
+        }
+        return resolvedDates;
+    }
+
+    /*
+     * A copy of the parser output at an offset in the text, the kept one stays as it was resolved since the
+     * default time is added to the copy*/
+    private static ParserOutput shifted(ParserOutput parserOutput, int sentenceStart) {
+        DateRange dateRange = parserOutput.getDateRange();
+        DateRange shiftedRange = dateRange == null ? null
+            : new DateRange(dateRange.getMatchType(), dateRange.getStartMillis(), dateRange.getEndMillis(), dateRange.getTimeZoneOffset());
+        return new ParserOutput(parserOutput.getId(), shiftedRange, parserOutput.getParserLabel(),
+            parserOutput.getParserStartIndex() + sentenceStart, parserOutput.getText(), parserOutput.getIsTimeZonePresent(),
+            parserOutput.getIsExactTimePresent(), parserOutput.getTimezoneOffset(), parserOutput.getParserEndIndex() + sentenceStart,
+            parserOutput.getRecognizerOutputs());
+    }
+}
@@ -4,13 +4,16 @@ package com.zoho.hawking;
 
 import com.zoho.hawking.datetimeparser.DateAndTime;
 import com.zoho.hawking.datetimeparser.DateTimeParser;
+import com.zoho.hawking.datetimeparser.configuration.CompiledConfiguration;
 import com.zoho.hawking.datetimeparser.configuration.Configuration;
+import com.zoho.hawking.datetimeparser.configuration.DetailLevel;
 import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
 import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
 import com.zoho.hawking.language.AbstractLanguage;
 import com.zoho.hawking.language.LanguageFactory;
 import com.zoho.hawking.language.english.Parser;
 import com.zoho.hawking.language.english.model.*;
+import com.zoho.hawking.language.english.tensepredictor.TenseClass;
 import com.zoho.hawking.utils.Constants;
 import com.zoho.hawking.utils.DateTimeProperties;
 import com.zoho.hawking.utils.TimeZoneExtractor;
@@ -19,8 +22,11 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.joda.time.DateTime;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 import java.util.logging.Logger;
 
@@ -30,18 +36,33 @@ public class HawkingTimeParser {
 
 
     public DatesFound parse(String inputSentence, Date referenceDate, HawkingConfiguration config, String lang) {
+        return resolve(compile(inputSentence, config, lang), referenceDate, config);
+    }
+
+    /*
+     * First phase of parse: finds the dates of the text with the CRF, their tense and their recognized components.
+     * The result does not depend on a reference date and can be kept to be resolved any number of times.*/
+    public CompiledDateExpression compile(String inputSentence, HawkingConfiguration config, String lang) {
         /*
             Configuration just holds years, hours, days, etc. (class of constants)
          */
-        Configuration configuration = new Configuration(config);
-        ConfigurationConstants.setConfiguration(configuration);
+        ConfigurationConstants.setConfiguration(CompiledConfiguration.of(config).getConfiguration());
+        AbstractLanguage abstractLanguage = LanguageFactory.getLanguageImpl(lang);
+        assert abstractLanguage != null;
+        return new CompiledDateExpression(lang, inputSentence, abstractLanguage.compile(inputSentence, config));
+    }
+
+    /*
+     * Second phase of parse: resolves the compiled dates against the reference date with the configuration, only the
+     * time zone of the reference date and the date time parsers are run*/
+    public DatesFound resolve(CompiledDateExpression compiledDateExpression, Date referenceDate, HawkingConfiguration config) {
+        ConfigurationConstants.setConfiguration(CompiledConfiguration.of(config).getConfiguration());
         List<ParserOutput> parserOutputs = new ArrayList<>();
         List<DateGroup> dateGroups = new ArrayList<>();
-        DatesFound datesFound = new DatesFound();
 
-        AbstractLanguage abstractLanguage = LanguageFactory.getLanguageImpl(lang);
+        AbstractLanguage abstractLanguage = LanguageFactory.getLanguageImpl(compiledDateExpression.getLanguage());
         assert abstractLanguage != null;
-        List<DateTimeProperties> dateList = abstractLanguage.predict(inputSentence, referenceDate, config);
+        List<DateTimeProperties> dateList = abstractLanguage.resolve(compiledDateExpression.getCompiledDates(), referenceDate, config);
         /*
             Uses EnglishLanguage class to extract dates from input lang string
          */
@@ -49,7 +70,23 @@ public class HawkingTimeParser {
             parserOutputs.add(date.getParserOutput());
             dateGroups.add(date.getDateGroup());
         }
+        return datesFound(parserOutputs, dateGroups, config);
+    }
+
+    /*
+     * The dates found as the detail level of the configuration wants them, the dates that were not parsed left out*/
+    static DatesFound datesFound(List<ParserOutput> parserOutputs, List<DateGroup> dateGroups, HawkingConfiguration config) {
+        DetailLevel detailLevel = ConfigurationConstants.getDetailLevel();
+        if (detailLevel == DetailLevel.MINIMAL) {
+            return minimalDatesFound(parserOutputs, dateGroups);
+        }
+        DatesFound datesFound = new DatesFound();
         parserOutputs = DateTimeProperties.addDefaultTime(parserOutputs, config.getDayhourStart(), config.getDayhourEnd());
+        if (detailLevel == DetailLevel.STANDARD) {
+            for (ParserOutput parserOutput : parserOutputs) {
+                parserOutput.setRecognizerOutputs(null);
+            }
+        }
         datesFound.setParserOutputs(parserOutputs);
         datesFound.setDateGroups(dateGroups);
         LOGGER.info(datesFound.toString());
@@ -57,25 +94,156 @@ public class HawkingTimeParser {
     }
 
 
+    /*
+     * Resolves one compiled expression against many reference instants, each in its own zone
+     *
+     * referenceMillis and zoneIds are read in pairs; either may hold a single value used with every value of the
+     * other, and zoneIds may be null for the zone of the configuration. The language, the component tags and the
+     * prepositions are set up once. References with the same wall clock and offset, the same instant in zones that
+     * agree at that instant for one, give the same dates and are resolved once.
+     *
+     * throws IllegalArgumentException when the lengths do not pair*/
+    public ResolvedDates resolveAll(CompiledDateExpression compiledDateExpression, long[] referenceMillis, List<String> zoneIds, HawkingConfiguration config) {
+        int size = zoneIds == null ? referenceMillis.length : Math.max(referenceMillis.length, zoneIds.size());
+        if ((referenceMillis.length != 1 && referenceMillis.length != size) || (zoneIds != null && zoneIds.size() != 1 && zoneIds.size() != size)) {
+            throw new IllegalArgumentException("Cannot pair " + referenceMillis.length + " reference dates with " + zoneIds.size() + " zones"); //No I18N
+        }
+        Configuration configuration = CompiledConfiguration.of(config).getConfiguration();
+        ConfigurationConstants.setConfiguration(configuration);
+        AbstractLanguage abstractLanguage = LanguageFactory.getLanguageImpl(compiledDateExpression.getLanguage());
+        assert abstractLanguage != null;
+        List<CompiledDate> compiledDates = compiledDateExpression.getCompiledDates();
+        int dateCount = 0;
+        for (CompiledDate compiledDate : compiledDates) {
+            dateCount += compiledDate.getDateCount();
+        }
+        ResolvedDates resolvedDates = new ResolvedDates(dateCount, size);
+        Map<String, Integer> resolvedByInput = new HashMap<>();
+        Map<String, Integer> resolvedByWallClock = new HashMap<>();
+        for (int reference = 0; reference < size; reference++) {
+            long millis = referenceMillis[referenceMillis.length == 1 ? 0 : reference];
+            String timeZone = zoneIds == null ? config.getTimeZone() : zoneIds.get(zoneIds.size() == 1 ? 0 : reference);
+            String inputKey = millis + " " + timeZone; //No I18N
+            Integer resolved = resolvedByInput.get(inputKey);
+            if (resolved == null) {
+                Date referenceDate = new Date(millis);
+                StringBuilder wallClockKey = new StringBuilder();
+                for (CompiledDate compiledDate : compiledDates) {
+                    DateTimeOffsetReturn dateTimeOffsetReturn = abstractLanguage.referenceDateOf(compiledDate, referenceDate, timeZone);
+                    wallClockKey.append(dateTimeOffsetReturn.getReferenceDate().getTime()).append(' ').append(dateTimeOffsetReturn.getTimeOffset()).append(' ');
+                }
+                resolved = resolvedByWallClock.get(wallClockKey.toString());
+                if (resolved == null) {
+                    resolve(abstractLanguage, compiledDates, referenceDate, timeZone, config, resolvedDates, reference);
+                    resolvedByWallClock.put(wallClockKey.toString(), reference);
+                    resolved = reference;
+                }
+                resolvedByInput.put(inputKey, resolved);
+            }
+            if (resolved != reference) {
+                resolvedDates.copy(resolved, reference);
+            }
+        }
+        return resolvedDates;
+    }
+
+    private static void resolve(AbstractLanguage abstractLanguage, List<CompiledDate> compiledDates, Date referenceDate, String timeZone,
+                                HawkingConfiguration config, ResolvedDates resolvedDates, int reference) {
+        int date = 0;
+        for (CompiledDate compiledDate : compiledDates) {
+            List<ParserOutput> parserOutputs = new ArrayList<>();
+            for (DateTimeProperties dateTimeProperties : abstractLanguage.resolve(compiledDate, referenceDate, timeZone)) {
+                parserOutputs.add(dateTimeProperties.getParserOutput());
+            }
+            parserOutputs = DateTimeProperties.addDefaultTime(parserOutputs, config.getDayhourStart(), config.getDayhourEnd());
+            for (int i = 0; i < parserOutputs.size() && i < compiledDate.getDateCount(); i++) {
+                DateRange dateRange = parserOutputs.get(i).getDateRange();
+                resolvedDates.set(date + i, reference, dateRange.getStartMillis(), dateRange.getEndMillis());
+            }
+            date += compiledDate.getDateCount();
+        }
+        resolvedDates.addResolution();
+    }
+
+    /*
+     * Parses each document with the same reference date and configuration into one columnar result*/
+    public DatesFoundBatch parseBatch(List<String> documents, Date referenceDate, HawkingConfiguration config, String lang) {
+        DatesFoundBatch datesFoundBatch = new DatesFoundBatch();
+        for (String document : documents) {
+            datesFoundBatch.add(document, parse(document, referenceDate, config, lang));
+        }
+        return datesFoundBatch;
+    }
+
+    /*
+     * Parses text that is known to be one date as a whole, like a form field, a cell or the time of an invite
+     *
+     * The sentence splitting, the date detection and the tense prediction are skipped: the trimmed text is the span,
+     * compiled by the language and resolved with the tense given, PRESENT, PAST or FUTURE, or none when null.*/
+    public DatesFound parseExpression(String expression, Date referenceDate, HawkingConfiguration config, String lang, TenseClass hint) {
+        ConfigurationConstants.setConfiguration(CompiledConfiguration.of(config).getConfiguration());
+        AbstractLanguage abstractLanguage = LanguageFactory.getLanguageImpl(lang);
+        assert abstractLanguage != null;
+        int start = 0;
+        int end = expression.length();
+        while (start < end && Character.isWhitespace(expression.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(expression.charAt(end - 1))) {
+            end--;
+        }
+        List<CompiledDate> compiledDates = start < end
+                ? abstractLanguage.compileSpan(expression, start, end, hint != null ? hint.name() : "")
+                : Collections.emptyList();
+        return resolve(new CompiledDateExpression(lang, expression, compiledDates), referenceDate, config);
+    }
+
+    /*
+     * Spans with their start and end, the dates that were not parsed are left out while collecting*/
+    private static DatesFound minimalDatesFound(List<ParserOutput> parsedOutputs, List<DateGroup> parsedGroups) {
+        List<ParserOutput> parserOutputs = new ArrayList<>(parsedOutputs.size());
+        List<DateGroup> dateGroups = new ArrayList<>(parsedGroups.size());
+        for (int i = 0; i < parsedOutputs.size(); i++) {
+            if (DateTimeProperties.isEmptyDate(parsedOutputs.get(i))) {
+                LOGGER.info("DateTimeExtractor :: Unparsed date is present :: " + parsedOutputs.get(i).getText());
+                continue;
+            }
+            parserOutputs.add(parsedOutputs.get(i));
+            dateGroups.add(parsedGroups.get(i));
+        }
+        DatesFound datesFound = new DatesFound();
+        datesFound.setParserOutputs(parserOutputs);
+        datesFound.setDateGroups(dateGroups);
+        return datesFound;
+    }
+
     public static Pair<ParserOutput, DateGroup> setDateAndTime(DateTimeProperties dateTimeProperties, AbstractLanguage abstractLanguage) {
         ParserOutput parserOutput = dateTimeProperties.getParserOutput();
         DateTimeEssentials dateTimeEssentials = dateTimeProperties.getDateTimeEssentials();
-        System.out.println("Tense: " + dateTimeProperties.getDateTimeEssentials().getTense());
         DateAndTime dateAndTime = DateTimeParser.timeParser(
             dateTimeProperties.getReferenceTime() != null ? dateTimeProperties.getReferenceTime() : dateTimeEssentials.getReferenceTime(),
             dateTimeProperties.getDateTimeEssentials().getTense(),
             dateTimeProperties.getComponentsMap(),
             abstractLanguage);
-        DateTime start = dateAndTime.getStart() != null ? new DateTime(TimeZoneExtractor.offsetDateConverter(dateAndTime.getStart().getMillis(), dateTimeEssentials.getTimeZoneOffSet())) : null;
-        DateTime end = dateAndTime.getEnd() != null ? new DateTime(TimeZoneExtractor.offsetDateConverter(dateAndTime.getEnd().getMillis(), dateTimeEssentials.getTimeZoneOffSet())) : null;
-        String startFormat = dateAndTime.getStart() != null ? TimeZoneExtractor.dateFormatter(dateAndTime.getStart().getMillis()) : null;
-        String endFormat = dateAndTime.getEnd() != null ? TimeZoneExtractor.dateFormatter(dateAndTime.getEnd().getMillis()) : null;
-        DateRange dateRange = new DateRange("", start, end, startFormat, endFormat); //No I18N
-        parserOutput.setTimezoneOffset(dateTimeEssentials.getTimeZoneOffSet());
+        String timeZoneOffset = dateTimeEssentials.getTimeZoneOffSet();
+        DateRange dateRange = new DateRange("", toOffsetMillis(dateAndTime.getStart(), timeZoneOffset), toOffsetMillis(dateAndTime.getEnd(), timeZoneOffset), timeZoneOffset); //No I18N
+        parserOutput.setTimezoneOffset(timeZoneOffset);
         parserOutput.setDateRange(dateRange);
         parserOutput.setIsTimeZonePresent(TimeZoneExtractor.isTimeZonePresent);
         DateGroup dateGroup = dateAndTime.getDateGroup();
-        dateGroup.setExpression(Constants.OPEN_PARENTHESIS + parserOutput.getId() + Constants.CLOSE_PARENTHESIS);
+        dateGroup.setFirstOccurrence(dateRange);
+        if (ConfigurationConstants.getDetailLevel() != DetailLevel.MINIMAL) {
+            dateGroup.setExpressionId(parserOutput.getId());
+        }
         return Pair.of(parserOutput, dateGroup);
     }
+
+    /*
+     * Instant the parsed wall clock stands for at the offset of the text, NO_DATE for an open end*/
+    private static long toOffsetMillis(DateTime date, String timeZoneOffset) {
+        if (date == null) {
+            return DateRange.NO_DATE;
+        }
+        return timeZoneOffset != null ? TimeZoneExtractor.offsetMillisConverter(date.getMillis(), timeZoneOffset) : date.getMillis();
+    }
 }
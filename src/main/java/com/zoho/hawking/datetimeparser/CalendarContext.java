@@ -0,0 +1,131 @@
+//$Id$
+package com.zoho.hawking.datetimeparser;
+
+import com.zoho.hawking.datetimeparser.configuration.Configuration;
+import com.zoho.hawking.datetimeparser.configuration.CustomDate;
+import com.zoho.hawking.datetimeparser.configuration.WeekDayAndEnd;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Map;
+
+/*
+ * The week and fiscal year of a configuration
+ *
+ * Worked out once when CompiledConfiguration freezes its Configuration, which keeps it; the component parsers read
+ * the week days and the current quarter, half and fiscal year of a month from here instead of going through the
+ * configuration each time. Nothing in it depends on the reference time.
+ */
+public final class CalendarContext {
+
+    private final int weekStart;
+    private final int weekEnd;
+    private final int weekDiff;
+    private final int weekDayStart;
+    private final int weekDayEnd;
+    private final int weekDayDiff;
+    private final int weekEndStart;
+    private final int weekEndEnd;
+    private final int weekEndDiff;
+    private final int weekRange;
+    private final int fiscalYearStart;
+
+    private final String[] currentQuarter = new String[13];
+    private final String[] currentHalf = new String[13];
+    private final String[] currentAnnualYear = new String[13];
+
+    public CalendarContext(Configuration configuration) {
+        WeekDayAndEnd weekDayAndEnd = configuration.getWeekDayAndEnd();
+        CustomDate customDate = configuration.getCustomDate();
+        weekStart = weekDayAndEnd.getWeekStart();
+        weekEnd = weekDayAndEnd.getWeekEnd();
+        weekDiff = weekDayAndEnd.getWeekDiff();
+        weekDayStart = weekDayAndEnd.getWeekDayStart();
+        weekDayEnd = weekDayAndEnd.getWeekDayEnd();
+        weekDayDiff = weekDayAndEnd.getWeekDayDiff();
+        weekEndStart = weekDayAndEnd.getWeekEndStart();
+        weekEndEnd = weekDayAndEnd.getWeekEndEnd();
+        weekEndDiff = weekDayAndEnd.getWeekEndDiff();
+        weekRange = weekDayAndEnd.getWeekRange();
+        fiscalYearStart = customDate.getFiscalYearStart();
+        for (int month = 1; month <= 12; month++) {
+            currentQuarter[month] = currentCustomDate(customDate.getQuarter(), month);
+            currentHalf[month] = currentCustomDate(customDate.getHalf(), month);
+            currentAnnualYear[month] = currentCustomDate(customDate.getAnnualYears(), month);
+        }
+    }
+
+    /*
+     * The custom date a month is in, matched the way CustomDateParser always did: the last custom date of the map
+     * whose months hold the month without wrapping over the year*/
+    private static String currentCustomDate(Map<String, Pair<Integer, Integer>> customDateMonths, int month) {
+        String current = "";
+        for (Map.Entry<String, Pair<Integer, Integer>> customDate : customDateMonths.entrySet()) {
+            if (month <= customDate.getValue().getValue() && month >= customDate.getValue().getKey()) {
+                current = customDate.getKey();
+            }
+        }
+        return current;
+    }
+
+    public int getWeekStart() {
+        return weekStart;
+    }
+
+    public int getWeekEnd() {
+        return weekEnd;
+    }
+
+    public int getWeekDiff() {
+        return weekDiff;
+    }
+
+    public int getWeekDayStart() {
+        return weekDayStart;
+    }
+
+    public int getWeekDayEnd() {
+        return weekDayEnd;
+    }
+
+    public int getWeekDayDiff() {
+        return weekDayDiff;
+    }
+
+    public int getWeekEndStart() {
+        return weekEndStart;
+    }
+
+    public int getWeekEndEnd() {
+        return weekEndEnd;
+    }
+
+    public int getWeekEndDiff() {
+        return weekEndDiff;
+    }
+
+    public int getWeekRange() {
+        return weekRange;
+    }
+
+    public int getFiscalYearStart() {
+        return fiscalYearStart;
+    }
+
+    /*
+     * returns the quarter the month is in, like q2, or an empty string*/
+    public String getCurrentQuarter(int month) {
+        return currentQuarter[month];
+    }
+
+    /*
+     * returns the half the month is in, like h1, or an empty string*/
+    public String getCurrentHalf(int month) {
+        return currentHalf[month];
+    }
+
+    /*
+     * returns the annual year the month is in, or an empty string*/
+    public String getCurrentAnnualYear(int month) {
+        return currentAnnualYear[month];
+    }
+}
@@ -1,6 +1,7 @@
 //$Id$
 package com.zoho.hawking.datetimeparser;
 
+import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
 import com.zoho.hawking.language.english.model.DateGroup;
 import com.zoho.hawking.language.english.model.RepeatCount;
 import com.zoho.hawking.language.english.model.RepeatPeriod;
@@ -11,6 +12,11 @@ import java.util.HashMap;
 
 public class DateAndTime {
 
+    /*
+     * Recurrences are counted when the set has a span to count in, otherwise the count is the default*/
+    private static final long UNCOUNTED = -1;
+    private static final long DEFAULT_RECURRENT_COUNT = 6;
+
     private boolean isStart = true;
     private boolean isEnd = true;
     private boolean isAfter = false;
@@ -23,17 +29,17 @@ public class DateAndTime {
     private DateTime end = null;
     private DateTime dateAndTime;
     private long yearRecurrentPeriod;
-    private long yearRecurrentCount = 6;
+    private long yearRecurrentCount = UNCOUNTED;
     private long monthRecurrentPeriod;
-    private long monthRecurrentCount = 6;
+    private long monthRecurrentCount = UNCOUNTED;
     private long weekRecurrentPeriod;
-    private long weekRecurrentCount = 6;
+    private long weekRecurrentCount = UNCOUNTED;
     private long dayRecurrentPeriod;
-    private long dayRecurrentCount = 6;
+    private long dayRecurrentCount = UNCOUNTED;
     private long hourRecurrentPeriod;
-    private long hourRecurrentCount = 6;
+    private long hourRecurrentCount = UNCOUNTED;
     private long customRecurrentPeriod;
-    private long customRecurrentCount = 6;
+    private long customRecurrentCount = UNCOUNTED;
     private DateTime tmpStartTime;
     private DateTime referenceTime;
     private DateTime tmpEndTime;
@@ -118,7 +124,7 @@ public class DateAndTime {
             c.setTimeInMillis(monthRecurrentPeriod);
             range += "month:" + c.get(Calendar.MONTH); //NO I18n
 
-            range += "monthReccurentCount:" + this.monthRecurrentCount; //No I18N
+            range += "monthReccurentCount:" + getMonthRecurrentCount(); //No I18N
         }
 
         if (weekRecurrentPeriod != 0) {
@@ -128,7 +134,7 @@ public class DateAndTime {
             c.setTimeInMillis(weekRecurrentPeriod);
             range += "week:" + (c.get(Calendar.DAY_OF_MONTH) - 1) / 7; //NO I18n
 
-            range += "weekReccurentCount:" + this.weekRecurrentCount; //No I18N
+            range += "weekReccurentCount:" + getWeekRecurrentCount(); //No I18N
         }
 
         if (dayRecurrentPeriod != 0) {
@@ -138,7 +144,7 @@ public class DateAndTime {
             c.setTimeInMillis(dayRecurrentPeriod);
             range += "day:" + (this.dayRecurrentPeriod / (60 * 60 * 24 * 1000)); //NO I18n
 
-            range += "dayReccurentCount:" + this.dayRecurrentCount; //No I18N
+            range += "dayReccurentCount:" + getDayRecurrentCount(); //No I18N
         }
 
         if (hourRecurrentPeriod != 0) {
@@ -148,7 +154,7 @@ public class DateAndTime {
             c.setTimeInMillis(hourRecurrentPeriod);
             range += "hour:" + (this.hourRecurrentPeriod / (60 * 60 * 24 * 1000)); //NO I18n
 
-            range += "hourReccurentCount:" + this.hourRecurrentCount; //No I18N
+            range += "hourReccurentCount:" + getHourRecurrentCount(); //No I18N
         }
 
         if (customRecurrentPeriod != 0) {
@@ -158,7 +164,7 @@ public class DateAndTime {
             c.setTimeInMillis(customRecurrentPeriod);
             range += "custom:" + (this.customRecurrentPeriod / (60 * 60 * 24 * 1000)); //NO I18n
 
-            range += "customReccurentCount:" + this.customRecurrentCount; //No I18N
+            range += "customReccurentCount:" + getCustomRecurrentCount(); //No I18N
         }
         return range;
     }
@@ -216,7 +222,7 @@ public class DateAndTime {
     }
 
     public long getYearRecurrentCount() {
-        return yearRecurrentCount;
+        return countOrDefault(yearRecurrentCount);
     }
 
     public void setYearRecurrentCount(long yearRecurrentCount) {
@@ -232,7 +238,7 @@ public class DateAndTime {
     }
 
     public long getMonthRecurrentCount() {
-        return monthRecurrentCount;
+        return countOrDefault(monthRecurrentCount);
     }
 
     public void setMonthRecurrentCount(long monthRecurrentCount) {
@@ -256,7 +262,7 @@ public class DateAndTime {
     }
 
     public long getWeekRecurrentCount() {
-        return weekRecurrentCount;
+        return countOrDefault(weekRecurrentCount);
     }
 
     public void setWeekRecurrentCount(long weekRecurrentCount) {
@@ -272,7 +278,7 @@ public class DateAndTime {
     }
 
     public long getDayRecurrentCount() {
-        return dayRecurrentCount;
+        return countOrDefault(dayRecurrentCount);
     }
 
     public void setDayRecurrentCount(long dayRecurrentCount) {
@@ -288,7 +294,7 @@ public class DateAndTime {
     }
 
     public long getHourRecurrentCount() {
-        return hourRecurrentCount;
+        return countOrDefault(hourRecurrentCount);
     }
 
     public void setHourRecurrentCount(long hourRecurrentCount) {
@@ -313,7 +319,7 @@ public class DateAndTime {
      * @return the customRecurrentCount
      */
     public long getCustomRecurrentCount() {
-        return customRecurrentCount;
+        return countOrDefault(customRecurrentCount);
     }
 
     /**
@@ -327,28 +333,53 @@ public class DateAndTime {
         return referenceTime;
     }
 
+    /*
+     * returns the week and fiscal year tables of the configuration being parsed with*/
+    public CalendarContext getCalendarContext() {
+        return ConfigurationConstants.getConfiguration().getCalendarContext();
+    }
+
 
     public DateGroup getDateGroup() {
         DateGroup dateGroup = new DateGroup();
         if (yearRecurrentPeriod != 0 || monthRecurrentPeriod != 0 || weekRecurrentPeriod != 0 ||
-                dayRecurrentPeriod != 0 || hourRecurrentPeriod != 0) {
+                dayRecurrentPeriod != 0 || hourRecurrentPeriod != 0 || customRecurrentPeriod != 0) {
             dateGroup.setSequenceType("REPEAT"); //No I18N
 
             RepeatPeriod recurrentPeriod = new RepeatPeriod(yearRecurrentPeriod, monthRecurrentPeriod, weekRecurrentPeriod,
                     dayRecurrentPeriod, hourRecurrentPeriod, customRecurrentPeriod);
             dateGroup.setRecurrentPeriod(recurrentPeriod);
-            long recurrentCountYear = (yearRecurrentPeriod != 0) ? yearRecurrentCount : 0;
-            long recurrentCountMonth = (monthRecurrentPeriod != 0) ? monthRecurrentCount : 0;
-            long recurrentCountWeek = (weekRecurrentPeriod != 0) ? weekRecurrentCount : 0;
-            long recurrentCountDay = (dayRecurrentPeriod != 0) ? dayRecurrentCount : 0;
-            long recurrentCountHour = (hourRecurrentPeriod != 0) ? hourRecurrentCount : 0;
-            long recurrentCountCustomDate = customRecurrentCount;
+            long recurrentCountYear = (yearRecurrentPeriod != 0) ? getYearRecurrentCount() : 0;
+            long recurrentCountMonth = (monthRecurrentPeriod != 0) ? getMonthRecurrentCount() : 0;
+            long recurrentCountWeek = (weekRecurrentPeriod != 0) ? getWeekRecurrentCount() : 0;
+            long recurrentCountDay = (dayRecurrentPeriod != 0) ? getDayRecurrentCount() : 0;
+            long recurrentCountHour = (hourRecurrentPeriod != 0) ? getHourRecurrentCount() : 0;
+            long recurrentCountCustomDate = getCustomRecurrentCount();
             RepeatCount recurrentCount = new RepeatCount(recurrentCountYear, recurrentCountMonth, recurrentCountWeek,
                     recurrentCountDay, recurrentCountHour, recurrentCountCustomDate);
             dateGroup.setRecurrentCount(recurrentCount);
+            dateGroup.setOccurrenceLimit(occurrenceLimit());
         }
         return dateGroup;
     }
 
+    /*
+     * Count of the shortest period, the one occurrences are stepped by; -1 when it was not counted in a span*/
+    private long occurrenceLimit() {
+        long[] periods = {yearRecurrentPeriod, monthRecurrentPeriod, weekRecurrentPeriod, dayRecurrentPeriod, hourRecurrentPeriod, customRecurrentPeriod};
+        long[] counts = {yearRecurrentCount, monthRecurrentCount, weekRecurrentCount, dayRecurrentCount, hourRecurrentCount, customRecurrentCount};
+        int shortest = -1;
+        for (int i = 0; i < periods.length; i++) {
+            if (periods[i] > 0 && (shortest == -1 || periods[i] < periods[shortest])) {
+                shortest = i;
+            }
+        }
+        return shortest == -1 ? UNCOUNTED : counts[shortest];
+    }
+
+    private static long countOrDefault(long count) {
+        return count == UNCOUNTED ? DEFAULT_RECURRENT_COUNT : count;
+    }
+
 
 }
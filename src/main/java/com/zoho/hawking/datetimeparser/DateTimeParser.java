@@ -25,10 +25,6 @@ public class DateTimeParser {
 
     private static DateTimeComponent getInstance(String span, String sentenceToParse, String sentenceTense, DateAndTime dateAndTime, AbstractLanguage abstractLanguage) {
         DateTimeComponent localDateTimeComponent = null;
-        //ADDED:
-        System.out.println("Current Span: " + span);
-        System.out.println("\t" + sentenceToParse);
-        System.out.println("\tTense: " + sentenceTense);
         switch (span) {
             case "year":
                 localDateTimeComponent = new YearParser(sentenceToParse, sentenceTense, dateAndTime, abstractLanguage);
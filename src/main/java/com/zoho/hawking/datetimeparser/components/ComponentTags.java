@@ -0,0 +1,132 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.components;
+
+import com.zoho.hawking.datetimeparser.utils.NumberNormalizer;
+import com.zoho.hawking.datetimeparser.utils.NumberParser;
+import com.zoho.hawking.datetimeparser.utils.PrepositionParser;
+import com.zoho.hawking.datetimeparser.utils.TagParser;
+import com.zoho.hawking.language.AbstractLanguage;
+import com.zoho.hawking.utils.Constants;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+
+import java.util.HashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/*
+ * The tags, number and prepositions of a component text, all a DateTimeComponent reads before it looks at the
+ * reference date
+ *
+ * They depend on the text and the word lists of the language only, so AbstractLanguage keeps them by text and a
+ * component resolved again, against another reference date, does not parse them again.
+ */
+public final class ComponentTags {
+
+    private static final Logger LOGGER = Logger.getLogger(ComponentTags.class.getName());
+
+    private final HashMap<String, String> mapTags;
+    private String implicitPrefix = "";
+    private String implicitPostfix = "";
+    private String exactNumber = "";
+    private Integer number;
+    private boolean isOrdinal;
+    private boolean isNumberPresent;
+    private final boolean isSet;
+    private final String primaryPrefix;
+    private final String secondaryPrefix;
+    private final String tenseIndicator;
+
+    private ComponentTags(String sentenceToParse, AbstractLanguage abstractLanguage) {
+        mapTags = TagParser.tagParser(sentenceToParse);
+        if (mapTags.containsKey(Constants.PREFIX_TAG)) {
+            implicitPrefix = mapTags.get(Constants.PREFIX_TAG);
+        }
+
+        if (mapTags.containsKey(Constants.POSTFIX_TAG)) {
+            implicitPostfix = mapTags.get(Constants.POSTFIX_TAG);
+        }
+
+        if (mapTags.containsKey(Constants.NUMBER_TAG)) {
+            exactNumber = mapTags.get(Constants.NUMBER_TAG);
+            parseNumber(exactNumber);
+        }
+
+        isSet = mapTags.containsKey(Constants.SET_PREFIX_TAG);
+
+        Triple<String, String, String> prefixAndTenseIndicator = PrepositionParser.prePositionParsing(implicitPrefix, implicitPostfix, abstractLanguage);
+        primaryPrefix = prefixAndTenseIndicator.getLeft();
+        secondaryPrefix = prefixAndTenseIndicator.getMiddle();
+        tenseIndicator = prefixAndTenseIndicator.getRight();
+    }
+
+    public static ComponentTags of(String sentenceToParse, AbstractLanguage abstractLanguage) {
+        return new ComponentTags(sentenceToParse, abstractLanguage);
+    }
+
+    private void parseNumber(String wordToNumber) {
+        int parsedNumber = NumberNormalizer.parseNumber(wordToNumber);
+        if (parsedNumber != NumberNormalizer.NOT_A_NUMBER) {
+            number = NumberNormalizer.getNumber(parsedNumber);
+            isOrdinal = NumberNormalizer.isOrdinal(parsedNumber);
+            isNumberPresent = true;
+            return;
+        }
+        Pair<Integer, Boolean> numberPair;
+        try {
+            numberPair = NumberParser.numberParser(wordToNumber);
+            number = numberPair.getLeft();
+            isOrdinal = numberPair.getRight();
+            isNumberPresent = true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Recognizer :: Error While Loading model", e.getMessage()); //No I18N
+        }
+
+    }
+
+    /*
+     * returns the tags of the text, shared by the components of the same text and not to be changed*/
+    HashMap<String, String> getMapTags() {
+        return mapTags;
+    }
+
+    String getImplicitPrefix() {
+        return implicitPrefix;
+    }
+
+    String getImplicitPostfix() {
+        return implicitPostfix;
+    }
+
+    String getExactNumber() {
+        return exactNumber;
+    }
+
+    Integer getNumber() {
+        return number;
+    }
+
+    boolean isOrdinal() {
+        return isOrdinal;
+    }
+
+    boolean isNumberPresent() {
+        return isNumberPresent;
+    }
+
+    boolean isSet() {
+        return isSet;
+    }
+
+    String getPrimaryPrefix() {
+        return primaryPrefix;
+    }
+
+    String getSecondaryPrefix() {
+        return secondaryPrefix;
+    }
+
+    String getTenseIndicator() {
+        return tenseIndicator;
+    }
+}
@@ -12,8 +12,7 @@ import org.joda.time.DateTime;
 import org.joda.time.Duration;
 import org.joda.time.Months;
 
-import java.util.HashMap;
-import java.util.Map.Entry;
+import java.util.Map;
 
 public class CustomDateParser extends DateTimeComponent {
 
@@ -27,7 +26,7 @@ public class CustomDateParser extends DateTimeComponent {
      * 2 - Half*/
     private int whatWeDeal = 0;
     private int noOfMonthsInCustom = 0;
-    private HashMap<String, Pair<Integer, Integer>> customDateMonths;
+    private Map<String, Pair<Integer, Integer>> customDateMonths;
 
     public CustomDateParser(String sentenceToParse, String sentenceTense, DateAndTime dateAndTime, AbstractLanguage abstractLanguage) {
         super(sentenceToParse, dateAndTime, sentenceTense, abstractLanguage);
@@ -74,22 +73,24 @@ public class CustomDateParser extends DateTimeComponent {
 
     void computeCurrent() {
         // whatWeDeal is only instantiated as 1|2|3, can't access default branch for this switch-case
+        int currentMonth = dateAndTime.getDateAndTime().getMonthOfYear();
+        String current = "";
         switch (whatWeDeal) {
             case 1:
                 customDateMonths = ConfigurationConstants.getConfiguration().getCustomDate().getQuarter();
+                current = dateAndTime.getCalendarContext().getCurrentQuarter(currentMonth);
                 break;
             case 2:
                 customDateMonths = ConfigurationConstants.getConfiguration().getCustomDate().getHalf();
+                current = dateAndTime.getCalendarContext().getCurrentHalf(currentMonth);
                 break;
             case 3:
                 customDateMonths = ConfigurationConstants.getConfiguration().getCustomDate().getAnnualYears();
+                current = dateAndTime.getCalendarContext().getCurrentAnnualYear(currentMonth);
                 break;
         }
-        int currentMonth = dateAndTime.getDateAndTime().getMonthOfYear();
-        for (Entry<String, Pair<Integer, Integer>> customDate : customDateMonths.entrySet()) {
-            if (currentMonth <= customDate.getValue().getValue() && currentMonth >= customDate.getValue().getKey()) {
-                currentCustomDate = customDate.getKey();
-            }
+        if (!current.isEmpty()) {
+            currentCustomDate = current;
         }
         if (isYear) {
             currentCustomDate = timeSpan;
@@ -120,7 +121,7 @@ public class CustomDateParser extends DateTimeComponent {
             yearsToAdd = yearsToAdd == 1 ? yearsToAdd : yearsToAdd - 1;
         } else {
             int currentMonthOfYear = dateAndTime.getDateAndTime().getMonthOfYear();
-            yearsToAdd = (ConfigurationConstants.getConfiguration().getCustomDate().getFiscalYearStart() < startMonth && currentMonthOfYear > startMonth) ? 1 : 0;
+            yearsToAdd = (dateAndTime.getCalendarContext().getFiscalYearStart() < startMonth && currentMonthOfYear > startMonth) ? 1 : 0;
         }
         return yearsToAdd;
     }
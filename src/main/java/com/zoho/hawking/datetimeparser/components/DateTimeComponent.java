@@ -4,21 +4,13 @@ package com.zoho.hawking.datetimeparser.components;
 import com.zoho.hawking.datetimeparser.DateAndTime;
 import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
 import com.zoho.hawking.datetimeparser.constants.PrepositionConstants;
-import com.zoho.hawking.datetimeparser.utils.NumberParser;
 import com.zoho.hawking.datetimeparser.utils.PrepositionParser;
-import com.zoho.hawking.datetimeparser.utils.TagParser;
 import com.zoho.hawking.language.AbstractLanguage;
-import com.zoho.hawking.utils.Constants;
-import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.lang3.tuple.Triple;
 
 import java.util.HashMap;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 public abstract class DateTimeComponent {
 
-    private final static Logger LOGGER = Logger.getLogger(DateTimeComponent.class.getName());
     public String timeSpan = "";
     public String tenseIndicator = "";
     public String sentenceTense;
@@ -42,7 +34,6 @@ public abstract class DateTimeComponent {
     public  DateTimeComponent(String sentenceToParse, DateAndTime dateAndTime, String sentenceTense, AbstractLanguage abstractLanguage) {
         this.abstractLanguage = abstractLanguage;
         setTags(sentenceToParse);
-        findPrefixAndTenseIndicator();
         prefixProcessing();
 
         this.dateAndTime = PrepositionParser.prePositionProcessing(dateAndTime, primaryPrefix, tenseIndicator, abstractLanguage);
@@ -81,45 +72,21 @@ public abstract class DateTimeComponent {
 
     public abstract void setPreviousDependency();
 
+    /*
+     * Reads the tags, number and prepositions of the text, parsed once per text by the language*/
     private void setTags(String sentenceToParse) {
-        mapTags = TagParser.tagParser(sentenceToParse);
-        if (mapTags.containsKey(Constants.PREFIX_TAG)) {
-            implicitPrefix = mapTags.get(Constants.PREFIX_TAG);
-        }
-
-        if (mapTags.containsKey(Constants.POSTFIX_TAG)) {
-            implicitPostfix = mapTags.get(Constants.POSTFIX_TAG);
-        }
-
-        if (mapTags.containsKey(Constants.NUMBER_TAG)) {
-            exactNumber = mapTags.get(Constants.NUMBER_TAG);
-            parseNumber(exactNumber);
-        }
-
-        if (mapTags.containsKey(Constants.SET_PREFIX_TAG)) {
-            isSet = true;
-        }
-    }
-
-
-    private void parseNumber(String wordToNumber) {
-        Pair<Integer, Boolean> numberPair;
-        try {
-            numberPair = NumberParser.numberParser(wordToNumber);
-            number = numberPair.getLeft();
-            isOrdinal = numberPair.getRight();
-            isNumberPresent = true;
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Recognizer :: Error While Loading model", e.getMessage()); //No I18N
-        }
-
-    }
-
-    private void findPrefixAndTenseIndicator() {
-        Triple<String, String, String> prefixAndTenseIndicator = PrepositionParser.prePositionParsing(implicitPrefix, implicitPostfix, this.abstractLanguage);
-        primaryPrefix = prefixAndTenseIndicator.getLeft();
-        secondaryPrefix = prefixAndTenseIndicator.getMiddle();
-        tenseIndicator = prefixAndTenseIndicator.getRight();
+        ComponentTags componentTags = abstractLanguage.getComponentTags(sentenceToParse);
+        mapTags = componentTags.getMapTags();
+        implicitPrefix = componentTags.getImplicitPrefix();
+        implicitPostfix = componentTags.getImplicitPostfix();
+        exactNumber = componentTags.getExactNumber();
+        number = componentTags.getNumber();
+        isOrdinal = componentTags.isOrdinal();
+        isNumberPresent = componentTags.isNumberPresent();
+        isSet = componentTags.isSet();
+        primaryPrefix = componentTags.getPrimaryPrefix();
+        secondaryPrefix = componentTags.getSecondaryPrefix();
+        tenseIndicator = componentTags.getTenseIndicator();
     }
 
 
@@ -31,14 +31,11 @@ public class ExactDateParser extends DateTimeComponent {
 
     @Override
     public void exactSpan() {
-        DateTime localDateTime;
-        try {
-            String userDateFormat = ConfigurationConstants.configuration.getCustomDate().getDateFormat();
-            localDateTime = new DateTime(DateUtil.stringToDate(timeSpan, dateAndTime.getReferenceTime(), userDateFormat));
-            dateAndTime.setStart(localDateTime.withTimeAtStartOfDay());
+        String userDateFormat = ConfigurationConstants.configuration.getCustomDate().getDateFormat();
+        DateTime localDateTime = DateUtil.scanExactDate(timeSpan, dateAndTime.getReferenceTime(), userDateFormat);
+        if (localDateTime != null) {
+            dateAndTime.setStart(localDateTime);
             dateAndTime.setEnd(localDateTime.millisOfDay().withMaximumValue());
-        } catch (Exception ignored) {
-
         }
     }
 
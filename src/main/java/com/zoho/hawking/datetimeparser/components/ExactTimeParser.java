@@ -3,10 +3,9 @@ package com.zoho.hawking.datetimeparser.components;
 
 import com.zoho.hawking.datetimeparser.DateAndTime;
 import com.zoho.hawking.language.AbstractLanguage;
-import com.zoho.hawking.language.english.DateTimeWordProperties;
 import com.zoho.hawking.datetimeparser.utils.DateTimeManipulation;
+import com.zoho.hawking.datetimeparser.utils.TimeOfDayScanner;
 import com.zoho.hawking.utils.Constants;
-import org.joda.time.LocalTime;
 
 public class ExactTimeParser extends DateTimeComponent {
     public ExactTimeParser(String sentenceToParse, String sentenceTense, DateAndTime dateAndTime, AbstractLanguage abstractLanguage) {
@@ -16,9 +15,14 @@ public class ExactTimeParser extends DateTimeComponent {
         findSpanRange();
     }
 
-    private void findExactTime() {
-        LocalTime localTime = (LocalTime) DateTimeManipulation.findExactSpan(timeSpan, DateTimeWordProperties.TIME_NORMALIZATION_REGEX, DateTimeWordProperties.TIME_FORMATS, Constants.EXACT_TIME_TAG);
-        dateAndTime.setDateAndTime(dateAndTime.getDateAndTime().withTime(localTime));
+    private boolean findExactTime() {
+        int millisOfDay = TimeOfDayScanner.scan(timeSpan);
+        if (millisOfDay == TimeOfDayScanner.NO_TIME) {
+            return false;
+        }
+        dateAndTime.setDateAndTime(dateAndTime.getDateAndTime().withTime(TimeOfDayScanner.getHour(millisOfDay),
+                TimeOfDayScanner.getMinute(millisOfDay), TimeOfDayScanner.getSecond(millisOfDay), TimeOfDayScanner.getMillis(millisOfDay)));
+        return true;
     }
 
     @Override
@@ -37,7 +41,9 @@ public class ExactTimeParser extends DateTimeComponent {
 
     @Override
     public void exactSpan() {
-        findExactTime();
+        if (!findExactTime()) {
+            return;
+        }
         if (!(dateAndTime.getPreviousDependency().equals(""))) {
             if (sentenceTense.equals("PAST")) {
                 dateAndTime.setDateAndTime(DateTimeManipulation.recentPastHour(dateAndTime.getDateAndTime(), dateAndTime.getDateAndTime().getHourOfDay()));
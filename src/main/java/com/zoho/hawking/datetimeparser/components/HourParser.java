@@ -4,13 +4,12 @@ package com.zoho.hawking.datetimeparser.components;
 import com.zoho.hawking.datetimeparser.DateAndTime;
 import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
 import com.zoho.hawking.language.AbstractLanguage;
-import com.zoho.hawking.language.english.DateTimeWordProperties;
 import com.zoho.hawking.datetimeparser.utils.DateTimeManipulation;
+import com.zoho.hawking.datetimeparser.utils.TimeOfDayScanner;
 import com.zoho.hawking.utils.Constants;
 import org.apache.commons.lang3.tuple.Pair;
 import org.joda.time.DateTime;
 import org.joda.time.Duration;
-import org.joda.time.LocalTime;
 
 import java.util.List;
 import java.util.Map;
@@ -80,13 +79,16 @@ public class HourParser extends DateTimeComponent {
 
         if (isExactTime) {
             String localTimeValue = (isNumberPresent) ? Integer.toString(number) : getTagMap().get(Constants.EXACT_TIME_TAG);
-            LocalTime localTime = (LocalTime) DateTimeManipulation.findExactSpan(localTimeValue,
-                    DateTimeWordProperties.TIME_NORMALIZATION_REGEX,
-                    DateTimeWordProperties.TIME_FORMATS, Constants.EXACT_TIME_TAG);
+            int millisOfDay = TimeOfDayScanner.scan(localTimeValue);
+            if (millisOfDay == TimeOfDayScanner.NO_TIME) {
+                return;
+            }
+            int hourOfDay = TimeOfDayScanner.getHour(millisOfDay);
             if (!localTimeValue.contains("am") || !localTimeValue.contains("pm")) {
-                localTime = localTime.hourOfDay().setCopy(findTimeConvention(timeSpan, localTime.getHourOfDay()));
+                hourOfDay = findTimeConvention(timeSpan, hourOfDay);
             }
-            dateAndTime.setDateAndTime(dateAndTime.getDateAndTime().withTime(localTime));
+            dateAndTime.setDateAndTime(dateAndTime.getDateAndTime().withTime(hourOfDay, TimeOfDayScanner.getMinute(millisOfDay),
+                    TimeOfDayScanner.getSecond(millisOfDay), TimeOfDayScanner.getMillis(millisOfDay)));
             dateAndTime.setStart(dateAndTime.getDateAndTime());
             dateAndTime.setEnd(dateAndTime.getDateAndTime());
         } else {
@@ -63,10 +63,10 @@ public class WeekParser extends DateTimeComponent {
         } else if (previousDep.equals(Constants.YEAR_SPAN_TAG) &&
                 startDate.plusDays(dayDiff).year().get() == dateTime.year().get()) {
             endDate = startDate.plusDays(dayDiff);
-        } else if (ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekRange() == 0) {
+        } else if (dateAndTime.getCalendarContext().getWeekRange() == 0) {
             startDate = startDate.minusWeeks(1);
             endDate = startDate.plusDays(dayDiff);
-        } else if (ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekRange() == 1) {
+        } else if (dateAndTime.getCalendarContext().getWeekRange() == 1) {
             endDate = dateTime.monthOfYear().withMaximumValue();
         } else {
             endDate = startDate.plusDays(dayDiff);
@@ -97,40 +97,40 @@ public class WeekParser extends DateTimeComponent {
     public void nthSpan() {
         if (super.abstractLanguage.weekdayWords.contains(timeSpan)) {
             if (isOrdinalLast) {
-                ordinalLast(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayStart(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayEnd(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayDiff());
+                ordinalLast(dateAndTime.getCalendarContext().getWeekDayStart(),
+                        dateAndTime.getCalendarContext().getWeekDayEnd(),
+                        dateAndTime.getCalendarContext().getWeekDayDiff());
             } else {
                 nthWeekOfSpan(dateAndTime.getDateAndTime(), number,
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayStart(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayEnd(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayDiff(),
+                        dateAndTime.getCalendarContext().getWeekDayStart(),
+                        dateAndTime.getCalendarContext().getWeekDayEnd(),
+                        dateAndTime.getCalendarContext().getWeekDayDiff(),
                         dateAndTime.getPreviousDependency());
             }
 
         } else if (super.abstractLanguage.weekendWords.contains(timeSpan)) {
             if (isOrdinalLast) {
-                ordinalLast(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndStart(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndEnd(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndDiff());
+                ordinalLast(dateAndTime.getCalendarContext().getWeekEndStart(),
+                        dateAndTime.getCalendarContext().getWeekEndEnd(),
+                        dateAndTime.getCalendarContext().getWeekEndDiff());
             } else {
                 nthWeekOfSpan(dateAndTime.getDateAndTime(), number,
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndStart(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndEnd(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndDiff(),
+                        dateAndTime.getCalendarContext().getWeekEndStart(),
+                        dateAndTime.getCalendarContext().getWeekEndEnd(),
+                        dateAndTime.getCalendarContext().getWeekEndDiff(),
                         dateAndTime.getPreviousDependency());
             }
         } else {
             if (isOrdinalLast) {
-                ordinalLast(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEnd(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDiff());
+                ordinalLast(dateAndTime.getCalendarContext().getWeekStart(),
+                        dateAndTime.getCalendarContext().getWeekEnd(),
+                        dateAndTime.getCalendarContext().getWeekDiff());
             } else {
                 nthWeekOfSpan(dateAndTime.getDateAndTime(),
                         number,
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEnd(),
-                        ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDiff(),
+                        dateAndTime.getCalendarContext().getWeekStart(),
+                        dateAndTime.getCalendarContext().getWeekEnd(),
+                        dateAndTime.getCalendarContext().getWeekDiff(),
                         dateAndTime.getPreviousDependency());
             }
         }
@@ -143,37 +143,37 @@ public class WeekParser extends DateTimeComponent {
         int endDaysIncrement;
         if (super.abstractLanguage.weekdayWords.contains(timeSpan)) {
             dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), -number, 0).
-                    dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayStart()));
+                    dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekDayStart()));
             endWeekIncrement = number - 1;
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayDiff();
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekDayDiff();
             DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, 0, 0, endWeekIncrement, endDaysIncrement, 1, 2);
         } else if (super.abstractLanguage.weekendWords.contains(timeSpan)) {
             dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), -number, 0).
-                    dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndStart()));
+                    dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekEndStart()));
             endWeekIncrement = number - 1;
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndDiff();
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekEndDiff();
             DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, 0, 0, endWeekIncrement, endDaysIncrement, 1, 2);
         } else {
             if (dateAndTime.getDateAndTime().getDayOfWeek() == 7 &&
-                    dateAndTime.getDateAndTime().getDayOfWeek() == ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart()) {
+                    dateAndTime.getDateAndTime().getDayOfWeek() == dateAndTime.getCalendarContext().getWeekStart()) {
                 dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), -number, 0).
-                        dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart()));
-            } else if (ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart() == 7) {
+                        dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekStart()));
+            } else if (dateAndTime.getCalendarContext().getWeekStart() == 7) {
                 dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), -number, 0).
                         dayOfWeek().setCopy(DateTimeConstants.MONDAY).minusDays(1));
             } else {
-                dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), -number, -ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDiff()).
-                        dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart()));
+                dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), -number, -dateAndTime.getCalendarContext().getWeekDiff()).
+                        dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekStart()));
             }
 
             endWeekIncrement = number;
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDiff() % 7;
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekDiff() % 7;
             DateTimeManipulation.setWeekSpanStartAndEndTime(dateAndTime, 0, 0, endWeekIncrement, endDaysIncrement, isImmediate);
-//			number = (ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart() == 7)?number-1:number;
+//			number = (dateAndTime.getCalendarContext().getWeekStart() == 7)?number-1:number;
 //			dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getTmpStart(), -number, 0).
-//					dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart()));
+//					dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekStart()));
 //			endWeekIncrement = number;
-//			endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDiff();
+//			endDaysIncrement = dateAndTime.getCalendarContext().getWeekDiff();
 //			DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, 0, 0, endWeekIncrement, endDaysIncrement, 1, 2);
         }
 
@@ -185,38 +185,38 @@ public class WeekParser extends DateTimeComponent {
         int endDaysIncrement;
         if (super.abstractLanguage.weekdayWords.contains(timeSpan)) {
             dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), number, 0).
-                    dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayStart()));
+                    dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekDayStart()));
             startWeekIncrement = (number - 1);
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayDiff();
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekDayDiff();
             DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, startWeekIncrement, 0, 0, endDaysIncrement, 1, 2);
         } else if (super.abstractLanguage.weekendWords.contains(timeSpan)) {
 
             dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), number, 0).
-                    dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndStart()));
+                    dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekEndStart()));
             startWeekIncrement = number != 0 ? (number - 1) : 0;
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndDiff();
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekEndDiff();
             DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, startWeekIncrement, 0, 0, endDaysIncrement, 1, 2);
         } else {
             if (dateAndTime.getDateAndTime().getDayOfWeek() == 7 &&
-                    dateAndTime.getDateAndTime().getDayOfWeek() == ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart()) {
+                    dateAndTime.getDateAndTime().getDayOfWeek() == dateAndTime.getCalendarContext().getWeekStart()) {
                 dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), number, 0).
                         dayOfWeek().setCopy(DateTimeConstants.SUNDAY));
-            } else if (ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart() == 7) {
+            } else if (dateAndTime.getCalendarContext().getWeekStart() == 7) {
                 dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), number, 0).
                         dayOfWeek().setCopy(DateTimeConstants.MONDAY).minusDays(1));
             } else {
                 dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getDateAndTime(), number, 0).
-                        dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart()));
+                        dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekStart()));
             }
 
             startWeekIncrement = number;
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDiff() % 7;
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekDiff() % 7;
             DateTimeManipulation.setWeekSpanStartAndEndTime(dateAndTime, -startWeekIncrement, 0, 0, endDaysIncrement, isImmediate);
-//			number = (ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart() == 7)?number-1:number;
+//			number = (dateAndTime.getCalendarContext().getWeekStart() == 7)?number-1:number;
 //			dateAndTime.setDateAndTime(DateTimeManipulation.addWeeks(dateAndTime.getTmpStart(), number, 0).
-//					dayOfWeek().setCopy(ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart()));
+//					dayOfWeek().setCopy(dateAndTime.getCalendarContext().getWeekStart()));
 //			startWeekIncrement = number;
-//			endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDiff();
+//			endDaysIncrement = dateAndTime.getCalendarContext().getWeekDiff();
 //			DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, startWeekIncrement, 0, 0, endDaysIncrement,1 , 2);
 
         }
@@ -266,13 +266,13 @@ public class WeekParser extends DateTimeComponent {
 
         int endDaysIncrement;
         if (super.abstractLanguage.weekdayWords.contains(timeSpan)) {
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekDayEnd() % 7 - dateAndTime.getDateAndTime().getDayOfWeek();
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekDayEnd() % 7 - dateAndTime.getDateAndTime().getDayOfWeek();
             DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, 0, 0, 0, endDaysIncrement, 1, 2);
         } else if (super.abstractLanguage.weekendWords.contains(timeSpan)) {
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekEndStart() % 7 - dateAndTime.getDateAndTime().getDayOfWeek();
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekEndStart() % 7 - dateAndTime.getDateAndTime().getDayOfWeek();
             DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, 0, 0, 0, endDaysIncrement, 1, 2);
         } else {
-            endDaysIncrement = ConfigurationConstants.getConfiguration().getWeekDayAndEnd().getWeekStart() % 7 - dateAndTime.getDateAndTime().getDayOfWeek();
+            endDaysIncrement = dateAndTime.getCalendarContext().getWeekStart() % 7 - dateAndTime.getDateAndTime().getDayOfWeek();
             DateTimeManipulation.setWeekStartAndEndTime(dateAndTime, 0, 0, 0, endDaysIncrement, 1, 2);
         }
 
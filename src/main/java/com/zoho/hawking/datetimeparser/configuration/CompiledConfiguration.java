@@ -0,0 +1,139 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * A HawkingConfiguration checked and turned into the Configuration the parsers read, once per distinct content
+ *
+ * CompiledConfiguration.of keys it by the values of all of its fields, so equal configurations share one compiled
+ * configuration however many HawkingConfiguration objects hold them; a tenant keeps one however many requests it
+ * parses. The compiled configuration does not follow later changes to the HawkingConfiguration it was made from,
+ * and its Configuration is shared and read only.
+ *
+ * At most MAX_COMPILED compiled configurations are kept, the least recently used one is dropped for a new one.
+ * The time zone and the max parse date are part of the key, so callers that vary them per request fill the cache
+ * with one entry per combination; a dropped configuration is compiled again the next time it is asked for.
+ */
+public final class CompiledConfiguration {
+
+    static final int MAX_COMPILED = 256;
+
+    private static final Map<List<Object>, CompiledConfiguration> COMPILED = new LinkedHashMap<List<Object>, CompiledConfiguration>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, CompiledConfiguration> eldest) {
+            return size() > MAX_COMPILED;
+        }
+    };
+
+    private final Configuration configuration;
+    private final String timeZone;
+    private final int maxParseDate;
+    private final int dayhourStart;
+    private final int dayhourEnd;
+
+    private CompiledConfiguration(HawkingConfiguration hawkingConfiguration) {
+        validate(hawkingConfiguration);
+        this.configuration = new Configuration(hawkingConfiguration);
+        this.configuration.freeze();
+        this.timeZone = hawkingConfiguration.getTimeZone();
+        this.maxParseDate = hawkingConfiguration.getMaxParseDate();
+        this.dayhourStart = hawkingConfiguration.getDayhourStart();
+        this.dayhourEnd = hawkingConfiguration.getDayhourEnd();
+    }
+
+    /*
+     * Returns the compiled configuration for the content of the HawkingConfiguration, compiled the first time
+     * the content is seen
+     *
+     * throws IllegalArgumentException when the values do not make a configuration*/
+    public static CompiledConfiguration of(HawkingConfiguration hawkingConfiguration) {
+        List<Object> key = key(hawkingConfiguration);
+        CompiledConfiguration compiledConfiguration;
+        synchronized (COMPILED) {
+            compiledConfiguration = COMPILED.get(key);
+        }
+        if (compiledConfiguration == null) {
+            //compiled outside the lock, a configuration compiled meanwhile by another thread is the one kept
+            CompiledConfiguration compiled = new CompiledConfiguration(hawkingConfiguration);
+            synchronized (COMPILED) {
+                compiledConfiguration = COMPILED.get(key);
+                if (compiledConfiguration == null) {
+                    COMPILED.put(key, compiled);
+                    compiledConfiguration = compiled;
+                }
+            }
+        }
+        return compiledConfiguration;
+    }
+
+    private static List<Object> key(HawkingConfiguration config) {
+        List<NormalizationRule> normalizationRules = config.getNormalizationRules();
+        return Arrays.asList(config.getYear(), config.getYears(), config.getMonth(), config.getMonths(),
+                config.getWeek(), config.getWeeks(), config.getDay(), config.getDays(), config.getSecond(),
+                config.getSeconds(), config.getHour(), config.getHours(), config.getMinute(), config.getMinutes(),
+                config.getFew(), config.getCustomDate(), config.getCustomDates(), config.getYearSpan(),
+                config.getMonthSpan(), config.getWeekSpan(), config.getDaySpan(), config.getHourSpan(),
+                config.getMinuteSpan(), config.getSecondSpan(), config.getDayhourStart(), config.getDayhourEnd(),
+                config.getWeekDayStart(), config.getWeekDayEnd(), config.getWeekEndStart(), config.getWeekEndEnd(),
+                config.getWeekStart(), config.getWeekEnd(), config.getFiscalYearStart(), config.getFiscalYearEnd(),
+                config.getWeekRange(), config.getDateFormat(), config.getTimeZone(), config.getMaxParseDate(),
+                normalizationRules == null ? null : new ArrayList<>(normalizationRules), config.getDetailLevel(),
+                config.getDetectionMode());
+    }
+
+    /*
+     * The setters of HawkingConfiguration check the week days and the fiscal year months, the values they let
+     * through are checked here*/
+    private static void validate(HawkingConfiguration config) {
+        if (config.getDayhourStart() < 0 || config.getDayhourStart() > 23) {
+            throw new IllegalArgumentException("DayhourStart should be between 0 and 23"); //No I18N
+        }
+        if (config.getDayhourEnd() < 1 || config.getDayhourEnd() > 24 || config.getDayhourEnd() <= config.getDayhourStart()) {
+            throw new IllegalArgumentException("DayhourEnd should be between 1 and 24 and greater than DayhourStart"); //No I18N
+        }
+        if (config.getMaxParseDate() < 0) {
+            throw new IllegalArgumentException("MaxParseDate should not be negative"); //No I18N
+        }
+    }
+
+    /**
+     * @return the configuration the parsers read, shared by every user of this compiled configuration; its setters
+     * and the maps of its custom dates throw UnsupportedOperationException
+     */
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * @return the timeZone
+     */
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * @return the maximum dates to be parsed
+     */
+    public int getMaxParseDate() {
+        return maxParseDate;
+    }
+
+    /**
+     * @return the dayhourStart
+     */
+    public int getDayhourStart() {
+        return dayhourStart;
+    }
+
+    /**
+     * @return the dayhourEnd
+     */
+    public int getDayhourEnd() {
+        return dayhourEnd;
+    }
+}
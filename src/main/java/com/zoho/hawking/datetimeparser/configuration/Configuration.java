@@ -1,27 +1,98 @@
 //$Id$
 package com.zoho.hawking.datetimeparser.configuration;
 
-import com.zoho.hawking.utils.CommonUtils;
+import com.zoho.hawking.datetimeparser.CalendarContext;
+import com.zoho.hawking.utils.TextNormalizer;
 
 public class Configuration {
     private RangeDefault rangeDefault;
     private SpanDefault spanDefault;
     private WeekDayAndEnd weekDayAndEnd;
     private CustomDate customDate;
+    private TextNormalizer textNormalizer;
+    private DetailLevel detailLevel;
+    private boolean frozen;
+    private CalendarContext calendarContext;
 
     public Configuration(HawkingConfiguration hawkingConfiguration) {
+        this.setRangeDefault(rangeDefault(hawkingConfiguration));
+        this.setSpanDefault(spanDefault(hawkingConfiguration));
+        this.setWeekDayAndEnd(weekDayAndEnd(hawkingConfiguration));
+        this.setCustomDate(customDate(hawkingConfiguration));
+        this.setTextNormalizer(TextNormalizer.forRules(hawkingConfiguration.getNormalizationRules()));
+        this.setDetailLevel(hawkingConfiguration.getDetailLevel() != null ? hawkingConfiguration.getDetailLevel() : DetailLevel.FULL);
+    }
+
+    /*
+     * Makes the configuration and the defaults it holds read only, their setters throw UnsupportedOperationException
+     * from then on*/
+    void freeze() {
+        rangeDefault.freeze();
+        spanDefault.freeze();
+        weekDayAndEnd.freeze();
+        customDate.freeze();
+        calendarContext = new CalendarContext(this);
+        frozen = true;
+    }
+
+    static void checkWritable(boolean frozen) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The configuration is compiled and can not be changed"); //No I18N
+        }
+    }
+
+    private static RangeDefault rangeDefault(HawkingConfiguration hawkingConfiguration) {
         RangeDefault rangeDefault = new RangeDefault();
-        CommonUtils.copy(hawkingConfiguration, rangeDefault);
+        rangeDefault.setYear(hawkingConfiguration.getYear());
+        rangeDefault.setYears(hawkingConfiguration.getYears());
+        rangeDefault.setMonth(hawkingConfiguration.getMonth());
+        rangeDefault.setMonths(hawkingConfiguration.getMonths());
+        rangeDefault.setWeek(hawkingConfiguration.getWeek());
+        rangeDefault.setWeeks(hawkingConfiguration.getWeeks());
+        rangeDefault.setDay(hawkingConfiguration.getDay());
+        rangeDefault.setDays(hawkingConfiguration.getDays());
+        rangeDefault.setSecond(hawkingConfiguration.getSecond());
+        rangeDefault.setSeconds(hawkingConfiguration.getSeconds());
+        rangeDefault.setHour(hawkingConfiguration.getHour());
+        rangeDefault.setHours(hawkingConfiguration.getHours());
+        rangeDefault.setMinute(hawkingConfiguration.getMinute());
+        rangeDefault.setMinutes(hawkingConfiguration.getMinutes());
+        rangeDefault.setFew(hawkingConfiguration.getFew());
+        rangeDefault.setCustomDate(hawkingConfiguration.getCustomDate());
+        rangeDefault.setCustomDates(hawkingConfiguration.getCustomDates());
+        return rangeDefault;
+    }
+
+    private static SpanDefault spanDefault(HawkingConfiguration hawkingConfiguration) {
         SpanDefault spanDefault = new SpanDefault();
-        CommonUtils.copy(hawkingConfiguration, spanDefault);
+        spanDefault.setYearSpan(hawkingConfiguration.getYearSpan());
+        spanDefault.setMonthSpan(hawkingConfiguration.getMonthSpan());
+        spanDefault.setWeekSpan(hawkingConfiguration.getWeekSpan());
+        spanDefault.setDaySpan(hawkingConfiguration.getDaySpan());
+        spanDefault.setHourSpan(hawkingConfiguration.getHourSpan());
+        spanDefault.setMinuteSpan(hawkingConfiguration.getMinuteSpan());
+        spanDefault.setSecondSpan(hawkingConfiguration.getSecondSpan());
+        return spanDefault;
+    }
+
+    private static WeekDayAndEnd weekDayAndEnd(HawkingConfiguration hawkingConfiguration) {
         WeekDayAndEnd weekDayAndEnd = new WeekDayAndEnd();
-        CommonUtils.copy(hawkingConfiguration, weekDayAndEnd);
+        weekDayAndEnd.setWeekDayStart(hawkingConfiguration.getWeekDayStart());
+        weekDayAndEnd.setWeekDayEnd(hawkingConfiguration.getWeekDayEnd());
+        weekDayAndEnd.setWeekEndStart(hawkingConfiguration.getWeekEndStart());
+        weekDayAndEnd.setWeekEndEnd(hawkingConfiguration.getWeekEndEnd());
+        weekDayAndEnd.setWeekStart(hawkingConfiguration.getWeekStart());
+        weekDayAndEnd.setWeekEnd(hawkingConfiguration.getWeekEnd());
+        weekDayAndEnd.setWeekRange(hawkingConfiguration.getWeekRange());
+        return weekDayAndEnd;
+    }
+
+    private static CustomDate customDate(HawkingConfiguration hawkingConfiguration) {
         CustomDate customDate = new CustomDate();
-        CommonUtils.copy(hawkingConfiguration, customDate);
-        this.setRangeDefault(rangeDefault);
-        this.setSpanDefault(spanDefault);
-        this.setWeekDayAndEnd(weekDayAndEnd);
-        this.setCustomDate(customDate);
+        customDate.setFiscalYearStart(hawkingConfiguration.getFiscalYearStart());
+        customDate.setFiscalYearEnd(hawkingConfiguration.getFiscalYearEnd());
+        customDate.setDateFormat(hawkingConfiguration.getDateFormat());
+        return customDate;
     }
 
     public RangeDefault getRangeDefault() {
@@ -29,6 +100,7 @@ public class Configuration {
     }
 
     public void setRangeDefault(RangeDefault rangeDefault) {
+        checkWritable(frozen);
         this.rangeDefault = rangeDefault;
     }
 
@@ -37,6 +109,7 @@ public class Configuration {
     }
 
     public void setSpanDefault(SpanDefault spanDefault) {
+        checkWritable(frozen);
         this.spanDefault = spanDefault;
     }
 
@@ -45,6 +118,7 @@ public class Configuration {
     }
 
     public void setWeekDayAndEnd(WeekDayAndEnd weekDayAndEnd) {
+        checkWritable(frozen);
         this.weekDayAndEnd = weekDayAndEnd;
     }
 
@@ -53,6 +127,31 @@ public class Configuration {
     }
 
     public void setCustomDate(CustomDate customDate) {
+        checkWritable(frozen);
         this.customDate = customDate;
     }
+
+    public TextNormalizer getTextNormalizer() {
+        return textNormalizer;
+    }
+
+    public void setTextNormalizer(TextNormalizer textNormalizer) {
+        checkWritable(frozen);
+        this.textNormalizer = textNormalizer;
+    }
+
+    /*
+     * returns the week and fiscal year tables, worked out once when the configuration is frozen and each time before*/
+    public CalendarContext getCalendarContext() {
+        return calendarContext != null ? calendarContext : new CalendarContext(this);
+    }
+
+    public DetailLevel getDetailLevel() {
+        return detailLevel;
+    }
+
+    public void setDetailLevel(DetailLevel detailLevel) {
+        checkWritable(frozen);
+        this.detailLevel = detailLevel;
+    }
 }
@@ -3,13 +3,19 @@ package com.zoho.hawking.datetimeparser.configuration;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 public class CustomDate {
 
     private int fiscalYearStart;
     private int fiscalYearEnd;
     private String dateFormat;
+    private Map<String, Pair<Integer, Integer>> quarter;
+    private Map<String, Pair<Integer, Integer>> half;
+    private Map<String, Pair<Integer, Integer>> annualYears;
+    private boolean frozen;
 
     private static HashMap<String, Pair<Integer, Integer>> createCustomDate(int customDateMonthStart, int monthIncrement, String symbol) {
         int noOfCustomDates = 12 / monthIncrement;
@@ -33,7 +39,9 @@ public class CustomDate {
     }
 
     public void setFiscalYearStart(int fiscalYearStart) {
+        Configuration.checkWritable(frozen);
         this.fiscalYearStart = fiscalYearStart;
+        clearCustomDates();
     }
 
     public int getFiscalYearEnd() {
@@ -41,7 +49,9 @@ public class CustomDate {
     }
 
     public void setFiscalYearEnd(int fiscalYearEnd) {
+        Configuration.checkWritable(frozen);
         this.fiscalYearEnd = fiscalYearEnd;
+        clearCustomDates();
     }
 
     public String getDateFormat() {
@@ -49,23 +59,50 @@ public class CustomDate {
     }
 
     public void setDateFormat(String dateFormat) {
+        Configuration.checkWritable(frozen);
         this.dateFormat = dateFormat;
     }
 
-    public HashMap<String, Pair<Integer, Integer>> getQuarter() {
-        return createCustomDate(fiscalYearStart, 3, "q"); //No I18N
+    /*
+     * The months of the custom dates are worked out once for the fiscal year, once frozen the maps can not be changed*/
+    public Map<String, Pair<Integer, Integer>> getQuarter() {
+        if (quarter == null) {
+            quarter = createCustomDate(fiscalYearStart, 3, "q"); //No I18N
+        }
+        return quarter;
     }
 
-    public HashMap<String, Pair<Integer, Integer>> getHalf() {
-        return createCustomDate(fiscalYearStart, 6, "h"); //No I18N
+    public Map<String, Pair<Integer, Integer>> getHalf() {
+        if (half == null) {
+            half = createCustomDate(fiscalYearStart, 6, "h"); //No I18N
+        }
+        return half;
     }
 
-    public HashMap<String, Pair<Integer, Integer>> getAnnualYears() {
-        HashMap<String, Pair<Integer, Integer>> annualYears = new HashMap<>();
-        annualYears.put("annualyear", Pair.of(fiscalYearStart, fiscalYearEnd));
-        annualYears.put("fiscalyear", Pair.of(fiscalYearStart, fiscalYearEnd));
-        annualYears.put("annualyears", Pair.of(fiscalYearStart, fiscalYearEnd));
-        annualYears.put("fiscalyears", Pair.of(fiscalYearStart, fiscalYearEnd));
+    public Map<String, Pair<Integer, Integer>> getAnnualYears() {
+        if (annualYears == null) {
+            HashMap<String, Pair<Integer, Integer>> annualYears = new HashMap<>();
+            annualYears.put("annualyear", Pair.of(fiscalYearStart, fiscalYearEnd));
+            annualYears.put("fiscalyear", Pair.of(fiscalYearStart, fiscalYearEnd));
+            annualYears.put("annualyears", Pair.of(fiscalYearStart, fiscalYearEnd));
+            annualYears.put("fiscalyears", Pair.of(fiscalYearStart, fiscalYearEnd));
+            this.annualYears = annualYears;
+        }
         return annualYears;
     }
+
+    /*
+     * Works out the custom dates and makes them and the fiscal year read only*/
+    void freeze() {
+        quarter = Collections.unmodifiableMap(getQuarter());
+        half = Collections.unmodifiableMap(getHalf());
+        annualYears = Collections.unmodifiableMap(getAnnualYears());
+        frozen = true;
+    }
+
+    private void clearCustomDates() {
+        quarter = null;
+        half = null;
+        annualYears = null;
+    }
 }
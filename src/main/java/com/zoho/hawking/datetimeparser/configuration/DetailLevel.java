@@ -0,0 +1,20 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.configuration;
+
+/*
+ * How much is returned for each date found
+ *
+ * MINIMAL  - the span of the date with its start and end instants. No recognizer outputs, no date group expressions
+ *            or sequence types, and the day hours of the configuration are not applied
+ * STANDARD - MINIMAL with the date group expressions, the sequence types and the day hours, without the
+ *            recognizer outputs
+ * FULL     - everything, the default
+ */
+public enum DetailLevel {
+
+    MINIMAL,
+
+    STANDARD,
+
+    FULL
+}
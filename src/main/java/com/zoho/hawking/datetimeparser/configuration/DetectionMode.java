@@ -0,0 +1,19 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.configuration;
+
+/*
+ * How the dates of a sentence are found before they are parsed
+ *
+ * CRF      - the trained CRF model labels the dates and their relation words, the default
+ * RULES    - the recognizer tags of the words are matched against a fixed grammar, the CRF is not used. Faster, but
+ *            dates it cannot tell from other words, like a lone may or sun, are left out
+ * ADAPTIVE - RULES, and the CRF for the sentences whose dates the rules cannot tell from other words
+ */
+public enum DetectionMode {
+
+    CRF,
+
+    RULES,
+
+    ADAPTIVE
+}
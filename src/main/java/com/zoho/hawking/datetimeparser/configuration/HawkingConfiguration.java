@@ -3,6 +3,9 @@ package com.zoho.hawking.datetimeparser.configuration;
 
 import org.joda.time.DateTimeConstants;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class HawkingConfiguration {
     private int year = 1;
     private int years = 2;
@@ -49,6 +52,9 @@ public class HawkingConfiguration {
     private String dateFormat = "";
     private String timeZone = "";
     private int maxParseDate= 0;
+    private List<NormalizationRule> normalizationRules = new ArrayList<>();
+    private DetailLevel detailLevel = DetailLevel.FULL;
+    private DetectionMode detectionMode = DetectionMode.CRF;
 
     /**
      * @return the year range
@@ -659,4 +665,54 @@ public class HawkingConfiguration {
     public void setMaxParseDate(int maxParseDate) {
         this.maxParseDate = maxParseDate;
     }
+
+    /**
+     * @return the text rewrites applied before the default ones
+     */
+    public List<NormalizationRule> getNormalizationRules() {
+        return normalizationRules;
+    }
+
+    /**
+     * @param normalizationRules text rewrites applied before the default ones, like EOD to end of day
+     */
+    public void setNormalizationRules(List<NormalizationRule> normalizationRules) {
+        this.normalizationRules = normalizationRules;
+    }
+
+    /**
+     * @param pattern java regex to be rewritten, like \bEOD\b
+     * @param replacement replacement text, like end of day
+     */
+    public void addNormalizationRule(String pattern, String replacement) {
+        normalizationRules.add(new NormalizationRule(pattern, replacement));
+    }
+
+    /**
+     * @return how much is returned for each date found
+     */
+    public DetailLevel getDetailLevel() {
+        return detailLevel;
+    }
+
+    /**
+     * @param detailLevel MINIMAL for only the spans and their start and end, STANDARD without the recognizer outputs, FULL for everything.default FULL
+     */
+    public void setDetailLevel(DetailLevel detailLevel) {
+        this.detailLevel = detailLevel;
+    }
+
+    /**
+     * @return how the dates of a sentence are found
+     */
+    public DetectionMode getDetectionMode() {
+        return detectionMode;
+    }
+
+    /**
+     * @param detectionMode CRF for the trained model, RULES for the recognizer tags only, ADAPTIVE for the rules with the model for unclear sentences.default CRF
+     */
+    public void setDetectionMode(DetectionMode detectionMode) {
+        this.detectionMode = detectionMode;
+    }
 }
@@ -0,0 +1,46 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.configuration;
+
+import java.util.Objects;
+
+/*
+ * Text rewrite applied to the date text before it is tagged
+ *
+ *  pattern - java regex, matched case sensitively unless it carries its own (?i:...) group
+ *  replacement - replacement text, $1, $2 ... refer to the groups of the pattern
+ * */
+public class NormalizationRule {
+
+    private final String pattern;
+    private final String replacement;
+
+    public NormalizationRule(String pattern, String replacement) {
+        this.pattern = pattern;
+        this.replacement = replacement;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public String getReplacement() {
+        return replacement;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NormalizationRule that = (NormalizationRule) o;
+        return pattern.equals(that.pattern) && replacement.equals(that.replacement);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pattern, replacement);
+    }
+}
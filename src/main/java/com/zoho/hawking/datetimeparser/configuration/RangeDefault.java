@@ -25,6 +25,7 @@ public class RangeDefault {
     private int few;
     private int customDate;
     private int customDates;
+    private boolean frozen;
 
     RangeDefault() {
         // TODO Auto-generated constructor stub
@@ -44,6 +45,7 @@ public class RangeDefault {
     }
 
     public void setYear(int year) {
+        Configuration.checkWritable(frozen);
         this.year = year;
     }
 
@@ -52,6 +54,7 @@ public class RangeDefault {
     }
 
     public void setYears(int years) {
+        Configuration.checkWritable(frozen);
         this.years = years;
     }
 
@@ -60,6 +63,7 @@ public class RangeDefault {
     }
 
     public void setMonth(int month) {
+        Configuration.checkWritable(frozen);
         this.month = month;
     }
 
@@ -68,6 +72,7 @@ public class RangeDefault {
     }
 
     public void setMonths(int months) {
+        Configuration.checkWritable(frozen);
         this.months = months;
     }
 
@@ -76,6 +81,7 @@ public class RangeDefault {
     }
 
     public void setWeek(int week) {
+        Configuration.checkWritable(frozen);
         this.week = week;
     }
 
@@ -84,6 +90,7 @@ public class RangeDefault {
     }
 
     public void setWeeks(int weeks) {
+        Configuration.checkWritable(frozen);
         this.weeks = weeks;
     }
 
@@ -92,6 +99,7 @@ public class RangeDefault {
     }
 
     public void setDay(int day) {
+        Configuration.checkWritable(frozen);
         this.day = day;
     }
 
@@ -100,6 +108,7 @@ public class RangeDefault {
     }
 
     public void setDays(int days) {
+        Configuration.checkWritable(frozen);
         this.days = days;
     }
 
@@ -108,6 +117,7 @@ public class RangeDefault {
     }
 
     public void setSecond(int second) {
+        Configuration.checkWritable(frozen);
         this.second = second;
     }
 
@@ -116,6 +126,7 @@ public class RangeDefault {
     }
 
     public void setSeconds(int seconds) {
+        Configuration.checkWritable(frozen);
         this.seconds = seconds;
     }
 
@@ -124,6 +135,7 @@ public class RangeDefault {
     }
 
     public void setHour(int hour) {
+        Configuration.checkWritable(frozen);
         this.hour = hour;
     }
 
@@ -132,6 +144,7 @@ public class RangeDefault {
     }
 
     public void setHours(int hours) {
+        Configuration.checkWritable(frozen);
         this.hours = hours;
     }
 
@@ -140,6 +153,7 @@ public class RangeDefault {
     }
 
     public void setMinute(int minute) {
+        Configuration.checkWritable(frozen);
         this.minute = minute;
     }
 
@@ -148,6 +162,7 @@ public class RangeDefault {
     }
 
     public void setMinutes(int minutes) {
+        Configuration.checkWritable(frozen);
         this.minutes = minutes;
     }
 
@@ -156,6 +171,7 @@ public class RangeDefault {
     }
 
     public void setFew(int few) {
+        Configuration.checkWritable(frozen);
         this.few = few;
     }
 
@@ -170,6 +186,7 @@ public class RangeDefault {
      * @param customDate the customDate to set
      */
     public void setCustomDate(int customDate) {
+        Configuration.checkWritable(frozen);
         this.customDate = customDate;
     }
 
@@ -184,8 +201,11 @@ public class RangeDefault {
      * @param customDates the customDates to set
      */
     public void setCustomDates(int customDates) {
+        Configuration.checkWritable(frozen);
         this.customDates = customDates;
     }
 
-
+    void freeze() {
+        frozen = true;
+    }
 }
@@ -16,6 +16,7 @@ public class SpanDefault {
     private int hourSpan;
     private int minuteSpan;
     private int secondSpan;
+    private boolean frozen;
 
     SpanDefault() {
 
@@ -26,6 +27,7 @@ public class SpanDefault {
     }
 
     public void setYearSpan(int yearSpan) {
+        Configuration.checkWritable(frozen);
         this.yearSpan = yearSpan;
     }
 
@@ -34,6 +36,7 @@ public class SpanDefault {
     }
 
     public void setMonthSpan(int monthSpan) {
+        Configuration.checkWritable(frozen);
         this.monthSpan = monthSpan;
     }
 
@@ -42,6 +45,7 @@ public class SpanDefault {
     }
 
     public void setWeekSpan(int weekSpan) {
+        Configuration.checkWritable(frozen);
         this.weekSpan = weekSpan;
     }
 
@@ -50,6 +54,7 @@ public class SpanDefault {
     }
 
     public void setDaySpan(int daySpan) {
+        Configuration.checkWritable(frozen);
         this.daySpan = daySpan;
     }
 
@@ -58,6 +63,7 @@ public class SpanDefault {
     }
 
     public void setHourSpan(int hourSpan) {
+        Configuration.checkWritable(frozen);
         this.hourSpan = hourSpan;
     }
 
@@ -66,6 +72,7 @@ public class SpanDefault {
     }
 
     public void setMinuteSpan(int minuteSpan) {
+        Configuration.checkWritable(frozen);
         this.minuteSpan = minuteSpan;
     }
 
@@ -74,8 +81,11 @@ public class SpanDefault {
     }
 
     public void setSecondSpan(int secondSpan) {
+        Configuration.checkWritable(frozen);
         this.secondSpan = secondSpan;
     }
 
-
+    void freeze() {
+        frozen = true;
+    }
 }
@@ -12,6 +12,7 @@ public class WeekDayAndEnd {
     private int weekEnd;
     //decides whether half completed week to be displayed or the previous full week
     private int weekRange;
+    private boolean frozen;
 
     WeekDayAndEnd() {
 
@@ -22,6 +23,7 @@ public class WeekDayAndEnd {
     }
 
     public void setWeekDayStart(int weekDayStart) {
+        Configuration.checkWritable(frozen);
         this.weekDayStart = weekDayStart;
     }
 
@@ -30,6 +32,7 @@ public class WeekDayAndEnd {
     }
 
     public void setWeekDayEnd(int weekDayEnd) {
+        Configuration.checkWritable(frozen);
         this.weekDayEnd = weekDayEnd;
     }
 
@@ -38,6 +41,7 @@ public class WeekDayAndEnd {
     }
 
     public void setWeekEndStart(int weekEndStart) {
+        Configuration.checkWritable(frozen);
         this.weekEndStart = weekEndStart;
     }
 
@@ -46,6 +50,7 @@ public class WeekDayAndEnd {
     }
 
     public void setWeekEndEnd(int weekEndEnd) {
+        Configuration.checkWritable(frozen);
         this.weekEndEnd = weekEndEnd;
     }
 
@@ -61,10 +66,20 @@ public class WeekDayAndEnd {
         return weekStart;
     }
 
+    public void setWeekStart(int weekStart) {
+        Configuration.checkWritable(frozen);
+        this.weekStart = weekStart;
+    }
+
     public int getWeekEnd() {
         return weekEnd;
     }
 
+    public void setWeekEnd(int weekEnd) {
+        Configuration.checkWritable(frozen);
+        this.weekEnd = weekEnd;
+    }
+
     public int getWeekDiff() {
         return Math.abs((weekEnd - weekStart) + 7) % 7;
     }
@@ -74,8 +89,11 @@ public class WeekDayAndEnd {
     }
 
     public void setWeekRange(int weekRange) {
+        Configuration.checkWritable(frozen);
         this.weekRange = weekRange;
     }
 
-
+    void freeze() {
+        frozen = true;
+    }
 }
@@ -2,6 +2,7 @@
 package com.zoho.hawking.datetimeparser.constants;
 
 import com.zoho.hawking.datetimeparser.configuration.Configuration;
+import com.zoho.hawking.datetimeparser.configuration.DetailLevel;
 
 public class ConfigurationConstants {
     public static Configuration configuration;
@@ -13,4 +14,8 @@ public class ConfigurationConstants {
     public static void setConfiguration(Configuration config) {
         configuration = config;
     }
+
+    public static DetailLevel getDetailLevel() {
+        return configuration != null ? configuration.getDetailLevel() : DetailLevel.FULL;
+    }
 }
@@ -4,17 +4,10 @@ package com.zoho.hawking.datetimeparser.utils;
 import com.zoho.hawking.datetimeparser.DateAndTime;
 import com.zoho.hawking.datetimeparser.configuration.Configuration;
 import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
-import com.zoho.hawking.utils.Constants;
 import org.apache.commons.lang3.tuple.Pair;
 import org.joda.time.DateTime;
-import org.joda.time.LocalDate;
-import org.joda.time.LocalTime;
-import org.joda.time.base.BaseLocal;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
 
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 public class DateTimeManipulation {
@@ -399,36 +392,4 @@ public class DateTimeManipulation {
             setSecondStartAndEndTime(dateAndTime, startSecondIncrement, endSecondIncrement, 0, 0);
         }
     }
-
-    /*Exact Date and Time Manipulation*/
-
-    public static BaseLocal findExactSpan(String sentenceToParse, String normalizationRegex, String[] spanFormats, String span) {
-        BaseLocal baseLocal = null;
-
-        sentenceToParse = sentenceToParse.replace("a.m.", "am") //NO I18n
-                .replace("a.m", "am") //NO I18n
-                .replace(".a.m", "am") //NO I18n
-                .replace("p.m.", "pm") //NO I18n
-                .replace("p.m", "pm") //NO I18n
-                .replace(".p.m", "pm"); //NO I18n
-        sentenceToParse = sentenceToParse.replace(":am", "am"); //NO I18n
-        sentenceToParse = sentenceToParse.replace(":pm", "pm"); //NO I18n
-        sentenceToParse = sentenceToParse.replace("to", ""); //NO I18n
-        sentenceToParse = sentenceToParse.replace("by", ""); //NO I18n
-        String normalizedSentence = sentenceToParse.replaceAll(normalizationRegex, ""); //NO I18n
-        if (normalizedSentence.equals("")) {
-            return null;
-        }
-        for (String dateFormat : spanFormats) {
-            try {
-                DateTimeFormatter dtf = DateTimeFormat.forPattern(dateFormat);
-                DateTime date = dtf.parseDateTime(normalizedSentence);
-                Date localSpan = date.toDate();
-                baseLocal = (span.equals(Constants.EXACT_DATE_TAG)) ? new LocalDate(localSpan) : new LocalTime(localSpan);
-                break;
-            } catch(Exception e) {
-            }
-        }
-        return baseLocal;
-    }
 }
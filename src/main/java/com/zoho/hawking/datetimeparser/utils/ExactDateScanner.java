@@ -0,0 +1,340 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.utils;
+
+import com.zoho.hawking.datetimeparser.constants.DateTimeParserConstants;
+import com.zoho.hawking.utils.Constants;
+import org.joda.time.MutableDateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Single pass scanner for exact dates like 02/10/2020, 2020-10-02, 02.oct.2020 or oct 02 2020.
+ *
+ * The Y/M/D layout is classified from the length and kind (digits or month name) of the three groups
+ * and the separator between them, so no formatter is built and no exception is thrown for a rejected input.
+ * Scans return the date packed as yyyyMMdd or NO_DATE.
+ */
+public class ExactDateScanner {
+
+    public static final int NO_DATE = -1;
+
+    private static final int MAX_GROUPS = 3;
+
+    private static final String DEFAULT_USER_FORMAT = "dd/MM/YYYY"; //No I18N
+
+    private static final String LEADING_PREPOSITION = "on "; //No I18N
+
+    private static final Map<String, UserDateFormat> USER_DATE_FORMATS = new ConcurrentHashMap<>();
+
+    /*
+     * Scans the exact date text
+     *
+     *  input - date text, optionally prefixed by "on " and followed by a time
+     *  userDateFormat - configured date format, used for dates that are only digits
+     *  referenceYear - year filled in when the user format has a year but the input does not
+     *
+     * returns the date packed as yyyyMMdd or NO_DATE*/
+    public static int scan(String input, String userDateFormat, int referenceYear) {
+        if (input == null) {
+            return NO_DATE;
+        }
+        int position = input.startsWith(LEADING_PREPOSITION) ? LEADING_PREPOSITION.length() : 0;
+        int[] groupStart = new int[MAX_GROUPS];
+        int[] groupEnd = new int[MAX_GROUPS];
+        boolean[] isText = new boolean[MAX_GROUPS];
+        int groupCount = scanGroups(input, position, groupStart, groupEnd, isText);
+        boolean isMonthNameLayout = groupCount == MAX_GROUPS && (isText[0] || isText[1]);
+
+        UserDateFormat userFormat = compile(userDateFormat == null ? "" : userDateFormat);
+        if (userFormat.enabled && !isMonthNameLayout) {
+            if (userFormat.order == null) {
+                return userFormat.parse(input, position);
+            }
+            if (groupCount == MAX_GROUPS && !isText[2]) {
+                return scanUserLayout(input, userFormat, groupStart, groupEnd, groupCount, referenceYear);
+            }
+            if (groupCount == 2 && !isText[0] && !isText[1] && userFormat.yearAtEdge) {
+                return scanUserLayout(input, userFormat, groupStart, groupEnd, groupCount, referenceYear);
+            }
+            return NO_DATE;
+        }
+        if (groupCount != MAX_GROUPS) {
+            return NO_DATE;
+        }
+        return scanDefaultLayout(input, groupStart, groupEnd, isText);
+    }
+
+    public static int getYear(int packedDate) {
+        return packedDate / 10000;
+    }
+
+    public static int getMonth(int packedDate) {
+        return (packedDate / 100) % 100;
+    }
+
+    public static int getDay(int packedDate) {
+        return packedDate % 100;
+    }
+
+    /*
+     * Splits the input into up to three digit or letter groups joined by one date separator,
+     * used the same way between every group. Anything after the groups has to be a time.
+     *
+     * returns the number of groups or NO_DATE*/
+    private static int scanGroups(String input, int position, int[] groupStart, int[] groupEnd, boolean[] isText) {
+        int length = input.length();
+        int groupCount = 0;
+        char separator = 0;
+        int end = position;
+        while (groupCount < MAX_GROUPS && end < length) {
+            int start = end;
+            boolean text = Character.isLetter(input.charAt(start));
+            while (end < length && (text ? Character.isLetter(input.charAt(end)) : isDigit(input.charAt(end)))) {
+                end++;
+            }
+            if (end == start) {
+                return NO_DATE;
+            }
+            groupStart[groupCount] = start;
+            groupEnd[groupCount] = end;
+            isText[groupCount] = text;
+            groupCount++;
+            if (groupCount == MAX_GROUPS || end == length) {
+                break;
+            }
+            char next = input.charAt(end);
+            if (!isSeparator(next) || (separator != 0 && next != separator)) {
+                break;
+            }
+            separator = next;
+            end++;
+            if (end == length) {
+                return NO_DATE;
+            }
+        }
+        if (end < length && !isTimeSuffix(input, end)) {
+            return NO_DATE;
+        }
+        return groupCount;
+    }
+
+    /*
+     * Layouts detected without a user format
+     * 	yyyy-MM-dd, dd-MM-yyyy, yyyy-MMM-dd, dd-MMM-yyyy and MMM-dd-yyyy*/
+    private static int scanDefaultLayout(String input, int[] groupStart, int[] groupEnd, boolean[] isText) {
+        int firstLength = groupEnd[0] - groupStart[0];
+        int lastLength = groupEnd[2] - groupStart[2];
+        if (isText[2]) {
+            return NO_DATE;
+        }
+        if (!isText[0] && firstLength == 4 && lastLength <= 2) {
+            int year = toNumber(input, groupStart[0], groupEnd[0]);
+            int month = isText[1] ? monthNumber(input, groupStart[1], groupEnd[1]) : shortNumber(input, groupStart[1], groupEnd[1]);
+            return pack(year, month, toNumber(input, groupStart[2], groupEnd[2]));
+        }
+        if (lastLength != 4) {
+            return NO_DATE;
+        }
+        int year = toNumber(input, groupStart[2], groupEnd[2]);
+        if (isText[0]) {
+            return isText[1] ? NO_DATE : pack(year, monthNumber(input, groupStart[0], groupEnd[0]), shortNumber(input, groupStart[1], groupEnd[1]));
+        }
+        if (firstLength > 2) {
+            return NO_DATE;
+        }
+        int month = isText[1] ? monthNumber(input, groupStart[1], groupEnd[1]) : shortNumber(input, groupStart[1], groupEnd[1]);
+        return pack(year, month, toNumber(input, groupStart[0], groupEnd[0]));
+    }
+
+    private static int scanUserLayout(String input, UserDateFormat userFormat, int[] groupStart, int[] groupEnd, int groupCount, int referenceYear) {
+        int year = referenceYear;
+        int month = NO_DATE;
+        int day = NO_DATE;
+        int group = 0;
+        for (char field : userFormat.order) {
+            if (field == 'Y' && groupCount < MAX_GROUPS) {
+                continue;
+            }
+            int value = field == 'Y'
+                    ? (groupEnd[group] - groupStart[group] <= 4 ? toNumber(input, groupStart[group], groupEnd[group]) : NO_DATE)
+                    : shortNumber(input, groupStart[group], groupEnd[group]);
+            if (field == 'Y') {
+                year = value;
+            } else if (field == 'M') {
+                month = value;
+            } else {
+                day = value;
+            }
+            group++;
+        }
+        return pack(year, month, day);
+    }
+
+    private static int pack(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return NO_DATE;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int shortNumber(String input, int start, int end) {
+        return (end - start) <= 2 ? toNumber(input, start, end) : NO_DATE;
+    }
+
+    private static int toNumber(String input, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            number = number * 10 + (input.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static int monthNumber(String input, int start, int end) {
+        Integer month = DateTimeParserConstants.MONTHS_OF_YEAR.get(input.substring(start, end).toLowerCase());
+        return month != null ? month : NO_DATE;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c) {
+        for (String separator : Constants.DATE_SEPARATORS) {
+            if (separator.charAt(0) == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Constants.TIME_FORMATS all carry a separator or a meridiem, so a bare number like 14 is not a time here*/
+    private static boolean isTimeSuffix(String input, int position) {
+        if (input.charAt(position) != ' ' || TimeOfDayScanner.scan(input, position + 1, input.length()) == TimeOfDayScanner.NO_TIME) {
+            return false;
+        }
+        for (int i = position + 1; i < input.length(); i++) {
+            if (!Character.isDigit(input.charAt(i)) && input.charAt(i) != ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean parsesFully(DateTimeFormatter formatter, MutableDateTime dateTime, String input, int position) {
+        try {
+            return formatter.parseInto(dateTime, input, position) == input.length();
+        } catch (IllegalArgumentException outOfRange) {
+            return false;
+        }
+    }
+
+    private static UserDateFormat compile(String userDateFormat) {
+        UserDateFormat userFormat = USER_DATE_FORMATS.get(userDateFormat);
+        if (userFormat == null) {
+            userFormat = new UserDateFormat(userDateFormat);
+            USER_DATE_FORMATS.putIfAbsent(userDateFormat, userFormat);
+        }
+        return userFormat;
+    }
+
+    /*
+     * The configured date format, normalized once per distinct format.
+     * Formats made of numeric d, M and Y fields keep only the field order, any other format
+     * keeps one prebuilt formatter per date separator.*/
+    private static final class UserDateFormat {
+
+        private final boolean enabled;
+        private final char[] order;
+        private final boolean yearAtEdge;
+        private final DateTimeFormatter[] formatters;
+
+        private UserDateFormat(String userDateFormat) {
+            String normalized = userDateFormat.replace('y', 'Y').replace('D', 'd').replace('m', 'M');
+            this.enabled = normalized.length() > 3 && !normalized.equals(DEFAULT_USER_FORMAT);
+            this.order = enabled ? fieldOrder(normalized) : null;
+            this.yearAtEdge = order != null && (order[0] == 'Y' || order[MAX_GROUPS - 1] == 'Y');
+            this.formatters = (enabled && order == null) ? separatorFormatters(normalized) : new DateTimeFormatter[0];
+        }
+
+        private static char[] fieldOrder(String format) {
+            char[] order = new char[MAX_GROUPS];
+            int fields = 0;
+            int i = 0;
+            while (i < format.length()) {
+                char field = format.charAt(i);
+                int start = i;
+                while (i < format.length() && format.charAt(i) == field) {
+                    i++;
+                }
+                if (field != 'd' && field != 'M' && field != 'Y') {
+                    return null;
+                }
+                if ((field != 'Y' && i - start > 2) || fields == MAX_GROUPS || contains(order, fields, field)) {
+                    return null;
+                }
+                order[fields++] = field;
+                if (i < format.length()) {
+                    if (!isSeparator(format.charAt(i)) || format.charAt(i) == ' ') {
+                        return null;
+                    }
+                    i++;
+                }
+            }
+            return fields == MAX_GROUPS ? order : null;
+        }
+
+        private static boolean contains(char[] order, int fields, char field) {
+            for (int i = 0; i < fields; i++) {
+                if (order[i] == field) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static DateTimeFormatter[] separatorFormatters(String format) {
+            String template = format.replaceAll("[./-]", "{sep}"); //No I18N
+            DateTimeFormatter[] formatters = new DateTimeFormatter[Constants.DATE_SEPARATORS.length];
+            try {
+                for (int i = 0; i < Constants.DATE_SEPARATORS.length; i++) {
+                    formatters[i] = DateTimeFormat.forPattern(template.replace("{sep}", Constants.DATE_SEPARATORS[i])); //No I18N
+                }
+            } catch (IllegalArgumentException invalidPattern) {
+                return new DateTimeFormatter[0];
+            }
+            return formatters;
+        }
+
+        private int parse(String input, int position) {
+            int timeStart = input.lastIndexOf(' ');
+            String dateWithoutTime = (timeStart > position && isTimeSuffix(input, timeStart)) ? input.substring(position, timeStart) : null;
+            String date = input.substring(position);
+            for (DateTimeFormatter formatter : formatters) {
+                MutableDateTime dateTime = new MutableDateTime(1970, 1, 1, 0, 0, 0, 0);
+                if (parsesFully(formatter, dateTime, date, 0)
+                        || (dateWithoutTime != null && parsesFully(formatter, dateTime, dateWithoutTime, 0))) {
+                    return pack(dateTime.getYear(), dateTime.getMonthOfYear(), dateTime.getDayOfMonth());
+                }
+            }
+            return NO_DATE;
+        }
+    }
+}
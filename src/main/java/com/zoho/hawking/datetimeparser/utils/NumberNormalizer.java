@@ -0,0 +1,369 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.utils;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/*
+ * Single pass normalization of ordinals in the date text
+ *
+ * Spelled out ordinals (first, Twenty-first, twenty first ...) are rewritten to numeric tokens (1st, 21st)
+ * and superscript suffixes (3ʳᵈ, 5ᵗʰ) to plain ones, with a trie walked once over the text instead of a
+ * regex per ordinal. The same trie reads the exact_number tag values, so DateTimeComponent gets the number
+ * and the ordinal flag without going through NumberParser.
+ */
+public class NumberNormalizer {
+
+    public static final int NOT_A_NUMBER = -1;
+
+    private static final String[] CARDINAL_WORDS = {"zero", "one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten", //No I18N
+            "eleven", "twelve", "thirteen", "fourteen", "fifteen", "sixteen", "seventeen", "eighteen", "nineteen"}; //No I18N
+
+    private static final String[] TENS_WORDS = {"twenty", "thirty", "forty", "fifty", "sixty", "seventy", "eighty", "ninety"}; //No I18N
+
+    private static final String[] SUPERSCRIPT_SUFFIXES = {"ᵗʰ", "ˢᵗ", "ⁿᵈ", "ʳᵈ"}; //No I18N
+
+    private static final String[] PLAIN_SUFFIXES = {"th", "st", "nd", "rd"}; //No I18N
+
+    private static final Node ROOT = new Node();
+
+    static {
+        for (Map.Entry<String, String> ordinal : NumberParser.CARDINAL_NUMBERS.entrySet()) {
+            String numeric = ordinal.getValue();
+            add(ordinal.getKey(), Integer.parseInt(numeric.substring(0, numeric.length() - 2)), true, numeric);
+        }
+        for (int i = 0; i < CARDINAL_WORDS.length; i++) {
+            add(CARDINAL_WORDS[i], i, false, null);
+        }
+        for (int i = 0; i < TENS_WORDS.length; i++) {
+            add(TENS_WORDS[i], (i + 2) * 10, false, null);
+            for (int unit = 1; unit <= 9; unit++) {
+                add(TENS_WORDS[i] + " " + CARDINAL_WORDS[unit], (i + 2) * 10 + unit, false, null); //No I18N
+                add(TENS_WORDS[i] + "-" + CARDINAL_WORDS[unit], (i + 2) * 10 + unit, false, null); //No I18N
+            }
+        }
+    }
+
+    /*
+     * Rewrites the ordinals of the text
+     *
+     * returns the rewritten text with the offsets back to the given text*/
+    public static NormalizedText normalize(String text) {
+        StringBuilder normalized = null;
+        int[] offsets = null;
+        int copied = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            Node match = null;
+            int matchEnd = i;
+            if (i == 0 || !isWordChar(text.charAt(i - 1))) {
+                if (Character.isDigit(c)) {
+                    int digitsEnd = i;
+                    while (digitsEnd < length && Character.isDigit(text.charAt(digitsEnd))) {
+                        digitsEnd++;
+                    }
+                    int suffix = superscriptSuffix(text, digitsEnd);
+                    if (suffix >= 0) {
+                        if (normalized == null) {
+                            normalized = new StringBuilder(length);
+                            offsets = new int[2 * length + 1];
+                        }
+                        copied = copy(text, copied, digitsEnd, normalized, offsets);
+                        appendReplacement(PLAIN_SUFFIXES[suffix], digitsEnd, normalized, offsets);
+                        copied = digitsEnd + SUPERSCRIPT_SUFFIXES[suffix].length();
+                    }
+                    i = Math.max(digitsEnd, copied);
+                    continue;
+                }
+                Node node = ROOT;
+                for (int j = i; j < length && node != null; j++) {
+                    node = node.next(text.charAt(j));
+                    if (node != null && node.replacement != null && (j + 1 == length || !isWordChar(text.charAt(j + 1)))) {
+                        match = node;
+                        matchEnd = j + 1;
+                    }
+                }
+            }
+            if (match == null) {
+                i++;
+                continue;
+            }
+            if (normalized == null) {
+                normalized = new StringBuilder(length);
+                offsets = new int[2 * length + 1];
+            }
+            copy(text, copied, i, normalized, offsets);
+            appendReplacement(match.replacement, i, normalized, offsets);
+            copied = matchEnd;
+            i = matchEnd;
+        }
+        if (normalized == null) {
+            return new NormalizedText(text, null);
+        }
+        copy(text, copied, length, normalized, offsets);
+        offsets[normalized.length()] = length;
+        int[] originalOffsets = new int[normalized.length() + 1];
+        System.arraycopy(offsets, 0, originalOffsets, 0, originalOffsets.length);
+        return new NormalizedText(normalized.toString(), originalOffsets);
+    }
+
+    /*
+     * Reads an exact_number tag value like 5, 21st, 3 rd, 5ᵗʰ, twenty first or two
+     *
+     * returns the number and the ordinal flag packed as (number << 1 | ordinal), NOT_A_NUMBER when the value
+     * is not one of these forms*/
+    public static int parseNumber(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return NOT_A_NUMBER;
+        }
+        if (Character.isDigit(value.charAt(start))) {
+            return parseDigits(value, start, end);
+        }
+        Node node = ROOT;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.next(value.charAt(i));
+        }
+        return (node == null || node.number < 0) ? NOT_A_NUMBER : pack(node.number, node.isOrdinal);
+    }
+
+    public static int getNumber(int parsedNumber) {
+        return parsedNumber >>> 1;
+    }
+
+    public static boolean isOrdinal(int parsedNumber) {
+        return (parsedNumber & 1) == 1;
+    }
+
+    private static int parseDigits(String value, int start, int end) {
+        int number = 0;
+        int i = start;
+        while (i < end && Character.isDigit(value.charAt(i))) {
+            if (number > (Integer.MAX_VALUE >> 1) / 10) {
+                return NOT_A_NUMBER;
+            }
+            number = number * 10 + Character.digit(value.charAt(i), 10);
+            i++;
+        }
+        if (i == end) {
+            return pack(number, false);
+        }
+        while (i < end && Character.isWhitespace(value.charAt(i))) {
+            i++;
+        }
+        int suffix = superscriptSuffix(value, i);
+        int suffixLength = suffix >= 0 ? SUPERSCRIPT_SUFFIXES[suffix].length() : plainSuffixLength(value, i);
+        return (suffixLength > 0 && i + suffixLength == end) ? pack(number, true) : NOT_A_NUMBER;
+    }
+
+    private static int plainSuffixLength(String value, int position) {
+        for (String suffix : PLAIN_SUFFIXES) {
+            if (value.regionMatches(position, suffix, 0, suffix.length())) {
+                return suffix.length();
+            }
+        }
+        return 0;
+    }
+
+    private static int superscriptSuffix(String text, int position) {
+        for (int i = 0; i < SUPERSCRIPT_SUFFIXES.length; i++) {
+            if (text.startsWith(SUPERSCRIPT_SUFFIXES[i], position)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int pack(int number, boolean isOrdinal) {
+        return (number << 1) | (isOrdinal ? 1 : 0);
+    }
+
+    private static int copy(String text, int from, int to, StringBuilder normalized, int[] offsets) {
+        for (int i = from; i < to; i++) {
+            offsets[normalized.length()] = i;
+            normalized.append(text.charAt(i));
+        }
+        return to;
+    }
+
+    private static void appendReplacement(String replacement, int originalOffset, StringBuilder normalized, int[] offsets) {
+        for (int i = 0; i < replacement.length(); i++) {
+            offsets[normalized.length()] = originalOffset;
+            normalized.append(replacement.charAt(i));
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static void add(String word, int number, boolean isOrdinal, String replacement) {
+        Node node = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.child(word.charAt(i));
+        }
+        node.number = number;
+        node.isOrdinal = isOrdinal;
+        node.replacement = replacement;
+    }
+
+    /*
+     * Text after normalize with the offset of each of its characters in the text before*/
+    public static class NormalizedText {
+
+        private final String text;
+
+        private final int[] originalOffsets;
+
+        NormalizedText(String text, int[] originalOffsets) {
+            this.text = text;
+            this.originalOffsets = originalOffsets;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isRewritten() {
+            return originalOffsets != null;
+        }
+
+        /*
+         * offset - position in the normalized text, text length included
+         *
+         * returns the position of the same character in the original text, replaced tokens map to their start*/
+        public int getOriginalOffset(int offset) {
+            return originalOffsets == null ? offset : originalOffsets[offset];
+        }
+
+        /*
+         * The text as it was given, every offset maps to itself*/
+        public static NormalizedText unchanged(String text) {
+            return new NormalizedText(text, null);
+        }
+
+        /*
+         * earlier - the rewrite whose text this one was normalized from
+         *
+         * returns this text with the offsets into the text the earlier rewrite was made from*/
+        public NormalizedText after(NormalizedText earlier) {
+            if (earlier.originalOffsets == null) {
+                return this;
+            }
+            if (originalOffsets == null) {
+                return new NormalizedText(text, earlier.originalOffsets);
+            }
+            int[] offsets = new int[originalOffsets.length];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = earlier.originalOffsets[originalOffsets[i]];
+            }
+            return new NormalizedText(text, offsets);
+        }
+
+        /*
+         * Builds a rewrite of the original text, each appended character with its offset in the original*/
+        public static class Builder {
+
+            private final String original;
+
+            private final StringBuilder text;
+
+            private int[] offsets;
+
+            public Builder(String original) {
+                this.original = original;
+                this.text = new StringBuilder(original.length() + 16);
+                this.offsets = new int[original.length() + 17];
+            }
+
+            /*
+             * Copies the original characters from, inclusive, to to, exclusive*/
+            public Builder copy(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    append(original.charAt(i), i);
+                }
+                return this;
+            }
+
+            /*
+             * Appends text that is not in the original, all of it at the offset of what it replaces*/
+            public Builder append(CharSequence replacement, int originalOffset) {
+                for (int i = 0; i < replacement.length(); i++) {
+                    append(replacement.charAt(i), originalOffset);
+                }
+                return this;
+            }
+
+            public Builder append(char c, int originalOffset) {
+                if (text.length() + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[text.length()] = originalOffset;
+                text.append(c);
+                return this;
+            }
+
+            /*
+             * @return the number of characters appended*/
+            public int length() {
+                return text.length();
+            }
+
+            /*
+             * The end of the text maps to the end of the original*/
+            public NormalizedText build() {
+                offsets[text.length()] = original.length();
+                return new NormalizedText(text.toString(), Arrays.copyOf(offsets, text.length() + 1));
+            }
+        }
+    }
+
+    /*
+     * Trie node over lower case letters, space and hyphen, matched case insensitively*/
+    private static class Node {
+
+        private static final int SPACE = 26;
+
+        private static final int HYPHEN = 27;
+
+        private final Node[] children = new Node[28];
+
+        private int number = -1;
+
+        private boolean isOrdinal;
+
+        private String replacement;
+
+        private static int indexOf(char c) {
+            if (c >= 'a' && c <= 'z') {
+                return c - 'a';
+            }
+            if (c >= 'A' && c <= 'Z') {
+                return c - 'A';
+            }
+            return c == ' ' ? SPACE : c == '-' ? HYPHEN : -1;
+        }
+
+        private Node next(char c) {
+            int index = indexOf(c);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node child(char c) {
+            int index = indexOf(c);
+            if (children[index] == null) {
+                children[index] = new Node();
+            }
+            return children[index];
+        }
+    }
+}
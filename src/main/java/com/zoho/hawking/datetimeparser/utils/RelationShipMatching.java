@@ -1,135 +1,100 @@
 //$Id$
 package com.zoho.hawking.datetimeparser.utils;
 
-import com.zoho.hawking.utils.Constants;
-
-import java.util.*;
-import java.util.Map.Entry;
-import java.util.stream.Collectors;
-
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Lines up the components of the two sides of a relation like 2 hours from monday 5 pm and works out what one side
+ * takes from the other
+ *
+ * The components of a side are ordered by where their values are in its tagged text. When the components of side one
+ * are found together in side two with one component after them, side one takes the components of side two from there
+ * on that it does not have; when the components of side two end side one, side two takes the components side one has
+ * before them. Everything is read from the component maps and the tagged text the sides were recognized with, neither
+ * side is recognized again and the maps given are not changed.
+ */
 public class RelationShipMatching {
-    private Map<String, String> strTochar;
-    private Map<String, String> mapInversed;
-    private Map<String, String> componentMapOne;
-    private Map<String, String> componentMapTwo;
-    private String regexRemoveSpecialChar = "A-Za-z"; //No I18N
-    private String parsedTextOne;
-    private String parsedTextTwo;
-    private boolean canExtract = true;
+    private final List<String> componentOrderOne;
+    private final List<String> componentOrderTwo;
+    private final Map<String, String> inheritedByOne = new HashMap<>();
+    private final Map<String, String> inheritedByTwo = new HashMap<>();
 
     public RelationShipMatching(Map<String, String> componentMapOne, Map<String, String> componentMapTwo,
                                 String parsedTextOne, String parsedTextTwo) {
-        this.parsedTextOne = parsedTextOne;
-        this.parsedTextTwo = parsedTextTwo;
-        this.componentMapOne = componentMapOne;
-        this.componentMapTwo = componentMapTwo;
-        setMaps();
-    }
-
-    private void setMaps() {
-        strTochar = new HashMap<>();
-        String[] keys;
-        int counter1 = Collections.frequency(new ArrayList<String>(componentMapOne.values()), null);
-        int counter2 = Collections.frequency(new ArrayList<String>(componentMapTwo.values()), null);
-        if (counter1 == counter2) {
-            keys = Constants.TAGS_TO_PARSE;
-            HashMap<String, String> parsedComponentOne = TagParser.tagParser(parsedTextOne);
-            HashMap<String, String> parsedComponentTwo = TagParser.tagParser(parsedTextTwo);
-            Set<String> componentSetOne = parsedComponentOne.keySet();
-            Set<String> componentSetTwo = parsedComponentTwo.keySet();
-            Set<String> intersection;
-            if (componentSetOne.size() > componentSetTwo.size()) {
-                intersection = new HashSet<>(componentSetOne);
-                intersection.retainAll(componentSetTwo);
-            } else {
-                intersection = new HashSet<>(componentSetTwo);
-                intersection.retainAll(componentSetOne);
+        this.componentOrderOne = componentOrder(componentMapOne, parsedTextOne);
+        this.componentOrderTwo = componentOrder(componentMapTwo, parsedTextTwo);
+        int sizeOne = componentOrderOne.size();
+        int sizeTwo = componentOrderTwo.size();
+        if (sizeOne < sizeTwo) {
+            int startIndex = Collections.indexOfSubList(componentOrderTwo, componentOrderOne);
+            if (startIndex != -1 && startIndex + 1 + sizeOne == sizeTwo) {
+                inherit(componentOrderTwo.subList(startIndex + 1, sizeTwo), componentMapTwo, componentMapOne, inheritedByOne);
             }
-            String[] elementsToRemove = {Constants.PREFIX_TAG, Constants.POSTFIX_TAG, Constants.SET_PREFIX_TAG};
-            intersection.removeAll(new ArrayList<>(Arrays.asList(elementsToRemove)));
-            if (intersection.size() > 0) {
-                this.componentMapOne = specialComponentMap(parsedComponentOne);
-                this.componentMapTwo = specialComponentMap(parsedComponentTwo);
-            } else {
-                this.canExtract = false;
-            }
-
-        } else {
-            keys = componentMapOne.keySet().toArray(new String[componentMapOne.size()]);
-        }
-        if (canExtract) {
-            for (int i = 0; i < keys.length; i++) {
-                if ((97 + i) > 122) {
-                    regexRemoveSpecialChar += (char) (97 + i);
-                }
-                strTochar.put(keys[i], Character.toString((char) (97 + i)));
+        } else if (sizeOne > sizeTwo) {
+            int startIndex = Collections.indexOfSubList(componentOrderOne, componentOrderTwo);
+            if (startIndex != -1 && startIndex + sizeTwo == sizeOne) {
+                inherit(componentOrderOne.subList(0, startIndex), componentMapOne, componentMapTwo, inheritedByTwo);
             }
-            mapInversed = strTochar.entrySet()
-                    .stream()
-                    .collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
         }
     }
 
-    /**
-     * @return the strTochar
-     */
-    public Map<String, String> getStrTochar() {
-        return strTochar;
-    }
-
-    /**
-     * @return the mapInversed
-     */
-    public Map<String, String> getMapInversed() {
-        return mapInversed;
+    /*
+     * returns the components that have a value, in the order their values are in the tagged text*/
+    static List<String> componentOrder(Map<String, String> componentMap, String taggedWithXML) {
+        List<Map.Entry<Integer, String>> positions = new ArrayList<>();
+        for (Map.Entry<String, String> component : componentMap.entrySet()) {
+            if (component.getValue() != null) {
+                int position = taggedWithXML.indexOf(component.getValue());
+                positions.add(new AbstractMap.SimpleEntry<>(position == -1 ? Integer.MAX_VALUE : position, component.getKey()));
+            }
+        }
+        positions.sort(Map.Entry.comparingByKey());
+        List<String> componentOrder = new ArrayList<>(positions.size());
+        for (Map.Entry<Integer, String> position : positions) {
+            componentOrder.add(position.getValue());
+        }
+        return componentOrder;
     }
 
-    /**
-     * @return the componentMapOne
-     */
-    public Map<String, String> getComponentMapOne() {
-        return componentMapOne;
+    private static void inherit(List<String> components, Map<String, String> from, Map<String, String> to, Map<String, String> inherited) {
+        for (String component : components) {
+            if (to.get(component) == null) {
+                inherited.put(component, from.get(component));
+            }
+        }
     }
 
     /**
-     * @return the componentMapTwo
+     * @return the components of side one in the order of its text
      */
-    public Map<String, String> getComponentMapTwo() {
-        return componentMapTwo;
+    public List<String> getComponentOrderOne() {
+        return componentOrderOne;
     }
 
     /**
-     * @return the parsedTextOne
+     * @return the components of side two in the order of its text
      */
-    public String getParsedTextOne() {
-        return parsedTextOne;
+    public List<String> getComponentOrderTwo() {
+        return componentOrderTwo;
     }
 
-
     /**
-     * @return the parsedTextTwo
+     * @return the components side one takes from side two, empty when it takes none
      */
-    public String getParsedTextTwo() {
-        return parsedTextTwo;
+    public Map<String, String> getInheritedByOne() {
+        return inheritedByOne;
     }
 
     /**
-     * @return the regexRemoveSpecialChar
+     * @return the components side two takes from side one, empty when it takes none
      */
-    public String getRegexRemoveSpecialChar() {
-        return "[^" + regexRemoveSpecialChar + "]";
-    }
-
-    private Map<String, String> specialComponentMap(Map<String, String> map) {
-        Map<String, String> tmpMap = new HashMap<>();
-        for (Entry<String, String> entrySet : map.entrySet()) {
-            tmpMap.put(entrySet.getKey(), "<" + entrySet.getKey() + ">" + entrySet.getValue() + "</" + entrySet.getKey() + ">");
-        }
-        return tmpMap;
-    }
-
-    public boolean getCanExtract() {
-        return canExtract;
+    public Map<String, String> getInheritedByTwo() {
+        return inheritedByTwo;
     }
 
 }
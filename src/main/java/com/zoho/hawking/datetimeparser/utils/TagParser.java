@@ -7,6 +7,16 @@ import java.util.HashMap;
 
 public class TagParser {
 
+    private static final String[] OPEN_TAGS = new String[Constants.TAGS_TO_PARSE.length];
+    private static final String[] CLOSE_TAGS = new String[Constants.TAGS_TO_PARSE.length];
+
+    static {
+        for (int i = 0; i < Constants.TAGS_TO_PARSE.length; i++) {
+            OPEN_TAGS[i] = Constants.START_OPENING_TAG + Constants.TAGS_TO_PARSE[i] + Constants.END_OPENING_TAG;
+            CLOSE_TAGS[i] = Constants.START_CLOSING_TAG + Constants.TAGS_TO_PARSE[i] + Constants.END_CLOSING_TAG;
+        }
+    }
+
     /*
      * Parse all the tags present in a sentence
      *
@@ -18,10 +28,11 @@ public class TagParser {
      *  */
     public static HashMap<String, String> tagParser(String sentenceToParseTag) {
         HashMap<String, String> mapOfTags = new HashMap<>();
-        for (String tag : Constants.TAGS_TO_PARSE) {
+        for (int i = 0; i < Constants.TAGS_TO_PARSE.length; i++) {
+            String tag = Constants.TAGS_TO_PARSE[i];
             if (sentenceToParseTag.contains(tag)) {
-                String openTag = Constants.START_OPENING_TAG + tag + Constants.END_OPENING_TAG;
-                String closeTag = Constants.START_CLOSING_TAG + tag + Constants.END_CLOSING_TAG;
+                String openTag = OPEN_TAGS[i];
+                String closeTag = CLOSE_TAGS[i];
                 String tagValue = sentenceToParseTag.substring(
                         sentenceToParseTag.indexOf(openTag) + openTag.length(), sentenceToParseTag.indexOf(closeTag));
                 mapOfTags.put(tag, tagValue);
@@ -0,0 +1,229 @@
+//$Id$
+package com.zoho.hawking.datetimeparser.utils;
+
+/*
+ * Single pass scanner for exact times like 9, 0930, 9:30, 9.30, 14:30:15, 14:30:15.250, 9am, 9:30 p.m.
+ *
+ * It accepts the forms of DateTimeWordProperties.TIME_FORMATS after the same normalization
+ * findExactSpan used to apply (a.m./p.m., :am, "to", "by" and any character other than digits,
+ * letters, ':' and '.' are dropped), without building formatters or relying on exceptions.
+ * Scans return the millis of the day or NO_TIME.
+ */
+public class TimeOfDayScanner {
+
+    public static final int NO_TIME = -1;
+
+    private static final int MAX_GROUPS = 4;
+
+    private static final int MAX_DIGITS = 16;
+
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    private static final int MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+
+    private static final int MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+
+    private static final int AM = 1;
+
+    private static final int PM = 2;
+
+    public static int scan(String text) {
+        return text == null ? NO_TIME : scan(text, 0, text.length());
+    }
+
+    /*
+     * Scans the exact time between start and end of the text
+     *
+     * returns the millis of the day or NO_TIME*/
+    public static int scan(String text, int start, int end) {
+        char[] digits = new char[MAX_DIGITS];
+        int[] groupEnd = new int[MAX_GROUPS];
+        char[] separators = new char[MAX_GROUPS];
+        int digitCount = 0;
+        int groupCount = 0;
+        int meridiem = 0;
+        boolean inGroup = false;
+        char pendingSeparator = 0;
+
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (meridiem != 0 || digitCount == MAX_DIGITS) {
+                    return NO_TIME;
+                }
+                if (!inGroup) {
+                    if (groupCount == MAX_GROUPS || (groupCount > 0 && pendingSeparator == 0)) {
+                        return NO_TIME;
+                    }
+                    separators[groupCount] = pendingSeparator;
+                    pendingSeparator = 0;
+                    inGroup = true;
+                    groupCount++;
+                }
+                digits[digitCount++] = c;
+                groupEnd[groupCount - 1] = digitCount;
+                i++;
+            } else if (c == ':' || c == '.') {
+                int meridiemEnd = meridiemEnd(text, i + 1, end);
+                if (meridiemEnd > 0) {
+                    meridiem = meridiemOf(text.charAt(i + 1));
+                    i = meridiemEnd;
+                } else if (pendingSeparator != 0 || !inGroup || meridiem != 0) {
+                    return NO_TIME;
+                } else {
+                    pendingSeparator = c;
+                    i++;
+                }
+                inGroup = false;
+            } else if (Character.isLetter(c)) {
+                int meridiemEnd = meridiemEnd(text, i, end);
+                if (meridiemEnd > 0 && meridiem == 0) {
+                    meridiem = meridiemOf(c);
+                    i = meridiemEnd;
+                } else if (isWord(text, i, end, "to") || isWord(text, i, end, "by")) { //No I18N
+                    i += 2;
+                } else {
+                    return NO_TIME;
+                }
+                inGroup = false;
+            } else if (c == '&') {
+                return NO_TIME;
+            } else {
+                i++;
+            }
+        }
+        if (groupCount == 0 || pendingSeparator != 0) {
+            return NO_TIME;
+        }
+        return toMillisOfDay(digits, groupEnd, separators, groupCount, meridiem);
+    }
+
+    public static int getHour(int millisOfDay) {
+        return millisOfDay / MILLIS_PER_HOUR;
+    }
+
+    public static int getMinute(int millisOfDay) {
+        return (millisOfDay / MILLIS_PER_MINUTE) % 60;
+    }
+
+    public static int getSecond(int millisOfDay) {
+        return (millisOfDay / MILLIS_PER_SECOND) % 60;
+    }
+
+    public static int getMillis(int millisOfDay) {
+        return millisOfDay % MILLIS_PER_SECOND;
+    }
+
+    /*
+     * Group layouts
+     * 	1 group  - h, hh, hmm, hhmm
+     * 	2 groups - h:mm, h.mm
+     * 	3 groups - h:mm:ss, h.mm.ss, h:mm:ssSSS
+     * 	4 groups - h:mm:ss:SSS, h:mm:ss.SSS
+     * with a meridiem the hour is 1 - 12, without it 0 - 23*/
+    private static int toMillisOfDay(char[] digits, int[] groupEnd, char[] separators, int groupCount, int meridiem) {
+        int hourEnd = groupEnd[0];
+        int minute = 0;
+        int second = 0;
+        int millis = 0;
+        if (groupCount == 1) {
+            if (hourEnd > 4) {
+                return NO_TIME;
+            }
+            if (hourEnd > 2) {
+                hourEnd -= 2;
+                minute = toNumber(digits, hourEnd, groupEnd[0]);
+            }
+        } else {
+            if (hourEnd > 2 || groupEnd[1] - groupEnd[0] > 2) {
+                return NO_TIME;
+            }
+            minute = toNumber(digits, groupEnd[0], groupEnd[1]);
+        }
+        if (groupCount >= 3) {
+            int secondDigits = groupEnd[2] - groupEnd[1];
+            if (separators[2] != separators[1]) {
+                return NO_TIME;
+            }
+            if (secondDigits > 2) {
+                if (groupCount == MAX_GROUPS || separators[1] != ':') {
+                    return NO_TIME;
+                }
+                second = toNumber(digits, groupEnd[1], groupEnd[1] + 2);
+                millis = toFraction(digits, groupEnd[1] + 2, groupEnd[2]);
+            } else {
+                second = toNumber(digits, groupEnd[1], groupEnd[2]);
+            }
+        }
+        if (groupCount == MAX_GROUPS) {
+            millis = toFraction(digits, groupEnd[2], groupEnd[3]);
+        }
+        int hour = toNumber(digits, 0, hourEnd);
+        if (meridiem != 0) {
+            if (hour < 1 || hour > 12) {
+                return NO_TIME;
+            }
+            hour = (hour % 12) + (meridiem == PM ? 12 : 0);
+        }
+        if (hour > 23 || minute > 59 || second > 59) {
+            return NO_TIME;
+        }
+        return hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND + millis;
+    }
+
+    private static int toNumber(char[] digits, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            number = number * 10 + (digits[i] - '0');
+        }
+        return number;
+    }
+
+    private static int toFraction(char[] digits, int start, int end) {
+        int millis = 0;
+        for (int i = start; i < start + 3; i++) {
+            millis = millis * 10 + (i < end ? digits[i] - '0' : 0);
+        }
+        return millis;
+    }
+
+    /*
+     * Matches am, pm, a.m, p.m, a.m. and p.m. in any case at the position
+     *
+     * returns the position after the meridiem or 0 when there is none*/
+    private static int meridiemEnd(String text, int position, int end) {
+        if (position >= end || meridiemOf(text.charAt(position)) == 0) {
+            return 0;
+        }
+        int i = position + 1;
+        if (i < end && text.charAt(i) == '.') {
+            i++;
+        }
+        if (i >= end || Character.toLowerCase(text.charAt(i)) != 'm') {
+            return 0;
+        }
+        i++;
+        if (i < end && text.charAt(i) == '.') {
+            i++;
+        }
+        return (i < end && Character.isLetter(text.charAt(i))) ? 0 : i;
+    }
+
+    private static int meridiemOf(char c) {
+        switch (c) {
+            case 'a':
+            case 'A':
+                return AM;
+            case 'p':
+            case 'P':
+                return PM;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean isWord(String text, int position, int end, String word) {
+        return position + word.length() <= end && text.startsWith(word, position);
+    }
+}
@@ -1,10 +1,13 @@
 package com.zoho.hawking.language;
 
 import com.zoho.hawking.datetimeparser.WordProperty;
+import com.zoho.hawking.datetimeparser.components.ComponentTags;
 import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
 import com.zoho.hawking.datetimeparser.constants.DateTimeSpan;
 import com.zoho.hawking.datetimeparser.constants.Tense;
 import com.zoho.hawking.datetimeparser.constants.WordImplication;
+import com.zoho.hawking.language.english.model.CompiledDate;
+import com.zoho.hawking.language.english.model.DateTimeOffsetReturn;
 import com.zoho.hawking.utils.DateTimeProperties;
 import edu.stanford.nlp.util.Triple;
 import org.apache.commons.lang3.tuple.Pair;
@@ -12,6 +15,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractLanguage {
 
@@ -85,6 +89,8 @@ public abstract class AbstractLanguage {
 
     public List<String> customDates;
 
+    private final Map<String, ComponentTags> componentTags = new ConcurrentHashMap<>();
+
     public Map<String, Integer> daysOfWeek;
     public Map<String, Integer> monthsOfYear;
     public Map<String, Pair<Integer, Integer>> partsOfDay;
@@ -167,8 +173,38 @@ public abstract class AbstractLanguage {
     }
 
 
+    /*
+     * returns the tags of a component text, parsed the first time the text is seen by this language*/
+    public ComponentTags getComponentTags(String sentenceToParse) {
+        return componentTags.computeIfAbsent(sentenceToParse, text -> ComponentTags.of(text, this));
+    }
+
     public abstract List<DateTimeProperties> predict(String inputSentence, Date referenceDate, HawkingConfiguration config);
 
+    /*
+     * Finds the dates of the text and recognizes their components, without a reference date*/
+    public abstract List<CompiledDate> compile(String inputSentence, HawkingConfiguration config);
+
+    /*
+     * Compiles the span from start to end of the text as one date with the tense given, without looking for dates in
+     * the text or predicting its tense
+     *
+     * returns the compiled date, empty when the span could not be compiled*/
+    public abstract List<CompiledDate> compileSpan(String text, int start, int end, String tense);
+
+    /*
+     * Resolves compiled dates against the reference date, up to the max parse date of the configuration counting
+     * only the dates that resolve*/
+    public abstract List<DateTimeProperties> resolve(List<CompiledDate> compiledDates, Date referenceDate, HawkingConfiguration config);
+
+    /*
+     * Resolves a compiled date against the reference date in the zone of the user, the system zone when it is empty*/
+    public abstract List<DateTimeProperties> resolve(CompiledDate compiledDate, Date referenceDate, String timeZone);
+
+    /*
+     * returns the wall clock of the reference date and its offset, in the time zone of the text when it has one*/
+    public abstract DateTimeOffsetReturn referenceDateOf(CompiledDate compiledDate, Date referenceDate, String timeZone);
+
     public abstract String getTense(String inputText);
 
     public abstract List<Pair<Boolean, List<Triple<String, Integer, Integer>>>> getSeparateDates(List<Triple<String, Integer, Integer>> allDates);
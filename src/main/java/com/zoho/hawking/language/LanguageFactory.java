@@ -1,16 +1,40 @@
 package com.zoho.hawking.language;
 
-import com.zoho.hawking.language.english.EnglishLanguage;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
 
 public class LanguageFactory {
 
+    private static final Map<String, LanguageProvider> PROVIDERS = loadProviders();
+
+    private static Map<String, LanguageProvider> loadProviders() {
+        Map<String, LanguageProvider> providers = new HashMap<>();
+        for (LanguageProvider provider : ServiceLoader.load(LanguageProvider.class, LanguageFactory.class.getClassLoader())) {
+            providers.putIfAbsent(provider.getLanguage(), provider);
+        }
+        return Collections.unmodifiableMap(providers);
+    }
+
     public static AbstractLanguage getLanguageImpl(String lang){
-        if(lang == null || lang.isEmpty()){
+        LanguageProvider provider = getProvider(lang);
+        return provider == null ? null : provider.newLanguage();
+    }
+
+    /*
+     * returns the provider of the language, null when no provider is found for it*/
+    public static LanguageProvider getProvider(String lang) {
+        if (lang == null || lang.isEmpty()) {
             return null;
         }
-        if(lang.equals("eng")){
-            return new EnglishLanguage();
-        }
-        return null;
+        return PROVIDERS.get(lang);
+    }
+
+    /*
+     * returns the languages of the providers found on the classpath*/
+    public static Set<String> getLanguages() {
+        return PROVIDERS.keySet();
     }
 }
@@ -0,0 +1,38 @@
+//$Id$
+package com.zoho.hawking.language;
+
+import java.util.List;
+
+/*
+ * A language Hawking can parse, found by LanguageFactory through java.util.ServiceLoader
+ *
+ * A provider is listed in META-INF/services/com.zoho.hawking.language.LanguageProvider. Its models are loaded the
+ * first time a sentence of the language is parsed, or all at once by load, and let go by unload; a deployment
+ * that never parses the language does not pay for them.
+ */
+public interface LanguageProvider {
+
+    /*
+     * returns the language code the parser is called with, like eng*/
+    String getLanguage();
+
+    /*
+     * returns the classpath resources of the models of the language*/
+    List<String> getResources();
+
+    /*
+     * returns a language to parse with, its models are loaded when it first needs them*/
+    AbstractLanguage newLanguage();
+
+    /*
+     * Loads the models of the language that are not loaded, together, and waits for them*/
+    void load();
+
+    /*
+     * returns whether every model of the language is loaded*/
+    boolean isLoaded();
+
+    /*
+     * Lets go of the models of the language, the next parse loads them again*/
+    void unload();
+}
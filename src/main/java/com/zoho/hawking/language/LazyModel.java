@@ -0,0 +1,63 @@
+//$Id$
+package com.zoho.hawking.language;
+
+import java.util.function.Supplier;
+
+/*
+ * A model of a language loaded the first time it is asked for
+ *
+ * get loads the model once however many threads ask for it together; models held by different LazyModels load
+ * at the same time. unload lets the model be collected, the next get loads it again. A load that throws or gives
+ * no model fails once: the failure is kept and thrown again by every get until unload, without loading again.
+ */
+public class LazyModel<T> {
+
+    private final Supplier<T> loader;
+
+    private volatile T model;
+
+    private volatile RuntimeException failure;
+
+    public LazyModel(Supplier<T> loader) {
+        this.loader = loader;
+    }
+
+    /*
+     * returns the model, loading it the first time
+     *
+     * throws the failure of the load, an IllegalStateException when the loader gave no model*/
+    public T get() {
+        T loaded = model;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = model;
+                if (loaded == null) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    try {
+                        loaded = loader.get();
+                    } catch (RuntimeException e) {
+                        failure = e;
+                        throw e;
+                    }
+                    if (loaded == null) {
+                        failure = new IllegalStateException("The model could not be loaded"); //No I18N
+                        throw failure;
+                    }
+                    model = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public boolean isLoaded() {
+        return model != null;
+    }
+
+    public synchronized void unload() {
+        model = null;
+        failure = null;
+    }
+}
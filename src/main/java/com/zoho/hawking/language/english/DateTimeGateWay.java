@@ -2,17 +2,20 @@ package com.zoho.hawking.language.english;
 
 import com.zoho.hawking.language.AbstractLanguage;
 import com.zoho.hawking.language.LanguageFactory;
+import com.zoho.hawking.language.english.model.CompiledDate;
+import com.zoho.hawking.language.english.model.CompiledSpan;
 import com.zoho.hawking.language.english.model.DateGroup;
 import com.zoho.hawking.language.english.model.ParserOutput;
 import com.zoho.hawking.utils.TimeZoneExtractor;
 
 import com.zoho.hawking.HawkingTimeParser;
+import com.zoho.hawking.datetimeparser.configuration.DetailLevel;
 import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
+import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
 import com.zoho.hawking.datetimeparser.constants.PrepositionConstants;
 import com.zoho.hawking.datetimeparser.utils.RelationShipMatching;
 import com.zoho.hawking.language.english.model.DateTimeEssentials;
 import com.zoho.hawking.language.english.model.DateTimeOffsetReturn;
-import com.zoho.hawking.utils.CommonUtils;
 import com.zoho.hawking.utils.Constants;
 import com.zoho.hawking.utils.DateTimeProperties;
 import edu.stanford.nlp.util.Triple;
@@ -20,7 +23,6 @@ import edu.stanford.nlp.util.Triple;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 import org.apache.commons.lang3.tuple.Pair;
 import org.joda.time.DateTime;
@@ -29,17 +31,28 @@ public class DateTimeGateWay {
   private static final Logger LOGGER = Logger.getLogger(HawkingTimeParser.class.getName());
 
   public static List<DateTimeProperties> getDateAndTime(DateTimeEssentials dateTimeEssentials) throws Exception {
+    return resolve(compile(dateTimeEssentials), dateTimeEssentials.getReferenceTime(), dateTimeEssentials.getTimeZoneOffSet());
+  }
+
+  /*
+   * Recognizes the spans of the date and how they relate, nothing here depends on the reference date*/
+  public static CompiledDate compile(DateTimeEssentials dateTimeEssentials) throws Exception {
     /*
     Remember that dateTimeEssentials has the essentials (the input string, start, end, tense, etc.)
      */
-
-    List<DateTimeProperties> dateTimePropertiesList = new ArrayList<>();
-    AbstractLanguage abstractLanguage = LanguageFactory.getLanguageImpl("eng"); //No I18N
+    CompiledDate compiledDate = new CompiledDate();
+    compiledDate.setSentence(dateTimeEssentials.getSentence());
+    if (dateTimeEssentials.getTriples().isEmpty()) {
+      LOGGER.info("DateTimeGateWay :: NO DATES FOUND");
+      return compiledDate;
+    }
+    Triple<String, Integer, Integer> firstTriple = dateTimeEssentials.getTriples().get(0);
+    compiledDate.setReferenceText(dateTimeEssentials.getSentence().substring(firstTriple.second, firstTriple.third));
     //gets the dateType (will always be -1 b/c none of them are relation
     int dateType = findDateType(dateTimeEssentials);
     switch (dateType) {
       case 0:
-        dateTimePropertiesList = relationshipExtraction(dateTimeEssentials, PrepositionConstants.BETWEEN.getWord(), abstractLanguage);
+        compileRelationship(dateTimeEssentials, PrepositionConstants.BETWEEN.getWord(), compiledDate);
         break;
       case 1:
         String whatRelation = null;
@@ -51,9 +64,9 @@ public class DateTimeGateWay {
         }
         assert whatRelation != null;
         if (whatRelation.equals("or")) {
-          dateTimePropertiesList = relationshipExtraction(dateTimeEssentials, PrepositionConstants.OR.getWord(), abstractLanguage);
+          compileRelationship(dateTimeEssentials, PrepositionConstants.OR.getWord(), compiledDate);
         } else {
-          dateTimePropertiesList = relationshipExtraction(dateTimeEssentials, PrepositionConstants.AND.getWord(), abstractLanguage);
+          compileRelationship(dateTimeEssentials, PrepositionConstants.AND.getWord(), compiledDate);
         }
         break;
       case 2:
@@ -62,9 +75,7 @@ public class DateTimeGateWay {
         Triple<String, Integer, Integer> exactTimeSpan = dateTimeEssentials.getTriples().get(2);
         DateTimeProperties dateTimePropertiesOne = new DateTimeProperties(dateTimeEssentials, exactTimeSpan);
         dateTimePropertiesOne.setParsedDate();
-        Pair<ParserOutput, DateGroup> dateGroupPairOne = HawkingTimeParser.setDateAndTime(dateTimePropertiesOne, abstractLanguage);
-        dateTimePropertiesOne.setParserOutput(dateGroupPairOne.getLeft());
-        dateTimePropertiesOne.setDateGroup(dateGroupPairOne.getRight());
+        compiledDate.addSpan(dateTimePropertiesOne.toCompiledSpan());
         String relationWord = dateTimeEssentials.getSentence().substring(relation.second, relation.third);
         switch (relationWord) {
           case "after":
@@ -76,34 +87,105 @@ public class DateTimeGateWay {
           default:
             dateTimeEssentials.setTense("PRESENT"); //No I18N
         }
-        DateTimeProperties dateTimePropertiesTwo = new DateTimeProperties(dateTimeEssentials, dateTimePropertiesOne.getParserOutput().getDateRange().getStart(), timeSpan);
+        DateTimeProperties dateTimePropertiesTwo = new DateTimeProperties(dateTimeEssentials, timeSpan);
         dateTimePropertiesTwo.setParsedDate();
-
-        Pair<ParserOutput, DateGroup> dateGroupPairTwo = HawkingTimeParser.setDateAndTime(dateTimePropertiesTwo, abstractLanguage);
-        dateTimePropertiesTwo.setParserOutput(dateGroupPairTwo.getLeft());
-        dateTimePropertiesTwo.setDateGroup(dateGroupPairTwo.getRight());
-
-        dateTimePropertiesList.add(dateTimePropertiesTwo);
+        compiledDate.addSpan(dateTimePropertiesTwo.toCompiledSpan());
+        compiledDate.setRelationType(CompiledDate.RelationType.ANCHORED);
+        compiledDate.setRelationWord(relationWord);
         break;
       default:
-        if (dateTimeEssentials.getTriples().isEmpty()) {
-          LOGGER.info("DateTimeGateWay :: NO DATES FOUND");
-          break;
-        }
         //now, date time properties holds all of dateTimeEssentialls
-        DateTimeProperties dateTimeProperties = new DateTimeProperties(dateTimeEssentials, dateTimeEssentials.getTriples().get(0));
+        DateTimeProperties dateTimeProperties = new DateTimeProperties(dateTimeEssentials, firstTriple);
         //finally this parses the date string into the actual components of the date/time
         dateTimeProperties.setParsedDate();
+        compiledDate.addSpan(dateTimeProperties.toCompiledSpan());
+    }
+    compiledDate.setExpressionId(dateTimeEssentials.getId());
+    return compiledDate;
+  }
 
-        Pair<ParserOutput, DateGroup> dateGroupPair = HawkingTimeParser.setDateAndTime(dateTimeProperties, abstractLanguage);
-        dateTimeProperties.setParserOutput(dateGroupPair.getLeft());
-        dateTimeProperties.setDateGroup(dateGroupPair.getRight());
+  /*
+   * Resolves the spans of a compiled date against the reference time, a span that follows another one is resolved
+   * from the start of the first*/
+  public static List<DateTimeProperties> resolve(CompiledDate compiledDate, DateTime referenceTime, String timeZoneOffset) throws Exception {
+    return resolve(compiledDate, referenceTime, timeZoneOffset, LanguageFactory.getLanguageImpl("eng")); //No I18N
+  }
 
-        dateTimePropertiesList.add(dateTimeProperties);
+  /*
+   * Resolves with the given language, its word lists and component tags are shared by every date it resolves*/
+  public static List<DateTimeProperties> resolve(CompiledDate compiledDate, DateTime referenceTime, String timeZoneOffset,
+      AbstractLanguage abstractLanguage) throws Exception {
+    List<DateTimeProperties> dateTimePropertiesList = new ArrayList<>();
+    List<CompiledSpan> spans = compiledDate.getSpans();
+    if (spans.isEmpty()) {
+      return dateTimePropertiesList;
+    }
+    DateTimeProperties dateTimePropertiesOne = resolveSpan(compiledDate, spans.get(0), referenceTime, timeZoneOffset, null, abstractLanguage);
+    switch (compiledDate.getRelationType()) {
+      case ANCHORED:
+        dateTimePropertiesList.add(resolveSpan(compiledDate, spans.get(1), referenceTime, timeZoneOffset,
+            dateTimePropertiesOne.getParserOutput().getDateRange().getStart(), abstractLanguage));
+        break;
+      case CHAINED:
+        DateTimeProperties chainedDateTimeProperties = resolveSpan(compiledDate, spans.get(1), referenceTime, timeZoneOffset,
+            dateTimePropertiesOne.getParserOutput().getDateRange().getStart(), abstractLanguage);
+        if (ConfigurationConstants.getDetailLevel() != DetailLevel.MINIMAL) {
+          chainedDateTimeProperties.getDateGroup().setSequenceType("SINGLE"); //No I18N
+        }
+        chainedDateTimeProperties.getParserOutput().setText(chainedDateTimeProperties.getParserOutput().getText()+" "+compiledDate.getRelationWord()+" "+dateTimePropertiesOne.getParserOutput().getText()); //No I18N
+        chainedDateTimeProperties.getParserOutput().setParserEndIndex(dateTimePropertiesOne.getParserOutput().getParserEndIndex());
+        dateTimePropertiesList.add(chainedDateTimeProperties);
+        break;
+      case PAIR:
+        dateTimePropertiesList.add(dateTimePropertiesOne);
+        dateTimePropertiesList.add(resolvePair(compiledDate, dateTimePropertiesOne, spans.get(1), referenceTime, timeZoneOffset, abstractLanguage));
+        break;
+      default:
+        dateTimePropertiesList.add(dateTimePropertiesOne);
     }
     return dateTimePropertiesList;
   }
 
+  private static DateTimeProperties resolveSpan(CompiledDate compiledDate, CompiledSpan span, DateTime referenceTime, String timeZoneOffset,
+      DateTime spanReferenceTime, AbstractLanguage abstractLanguage) {
+    DateTimeEssentials dateTimeEssentials = new DateTimeEssentials(null, compiledDate.getSentence(), span.getTense(), span.getId(),
+        null, false, referenceTime, timeZoneOffset);
+    DateTimeProperties dateTimeProperties = new DateTimeProperties(dateTimeEssentials, span);
+    dateTimeProperties.setReferenceTime(spanReferenceTime);
+    Pair<ParserOutput, DateGroup> dateGroupPair = HawkingTimeParser.setDateAndTime(dateTimeProperties, abstractLanguage);
+    dateTimeProperties.setParserOutput(dateGroupPair.getLeft());
+    dateTimeProperties.setDateGroup(dateGroupPair.getRight());
+    return dateTimeProperties;
+  }
+
+  private static DateTimeProperties resolvePair(CompiledDate compiledDate, DateTimeProperties relationDateTimePropertiesOne, CompiledSpan spanTwo,
+      DateTime referenceTime, String timeZoneOffset, AbstractLanguage abstractLanguage) {
+    DateTimeProperties relationDateTimePropertiesTwo;
+    if (spanTwo.isCurrentDay()) {
+      relationDateTimePropertiesTwo = resolveSpan(compiledDate, spanTwo, referenceTime, timeZoneOffset, null, abstractLanguage);
+    } else if (relationDateTimePropertiesOne.getParserOutput().getIsTimeZonePresent()) {
+      HawkingConfiguration configuration= new HawkingConfiguration();
+      configuration.setTimeZone("GMT"+relationDateTimePropertiesOne.getParserOutput().getTimezoneOffset()); //No I18N
+      DateTimeOffsetReturn dateTimeOffsetReturn = TimeZoneExtractor.referenceDateExtractor(new Date(relationDateTimePropertiesOne.getParserOutput().getDateRange().getStart().getMillis()), configuration, spanTwo.getText());
+      relationDateTimePropertiesTwo = resolveSpan(compiledDate, spanTwo, referenceTime, timeZoneOffset, new DateTime(dateTimeOffsetReturn.getReferenceDate()), abstractLanguage);
+    } else {
+      relationDateTimePropertiesTwo = resolveSpan(compiledDate, spanTwo, referenceTime, timeZoneOffset,
+          relationDateTimePropertiesOne.getParserOutput().getDateRange().getStart(), abstractLanguage);
+    }
+    if (ConfigurationConstants.getDetailLevel() == DetailLevel.MINIMAL) {
+      return relationDateTimePropertiesTwo;
+    }
+    String relation = compiledDate.getRelation();
+    String expr = relationDateTimePropertiesOne.getDateGroup().getExpression() + relation + Constants.OPEN_PARENTHESIS + compiledDate.getExpressionId() + Constants.CLOSE_PARENTHESIS;
+    relationDateTimePropertiesOne.getDateGroup().setExpression(expr);
+    relationDateTimePropertiesOne.getDateGroup().setSequenceType("MULTIPLE"); //No I18N
+
+    expr = Constants.OPEN_PARENTHESIS + (compiledDate.getExpressionId() - 1) + Constants.CLOSE_PARENTHESIS + relation + relationDateTimePropertiesTwo.getDateGroup().getExpression();
+    relationDateTimePropertiesTwo.getDateGroup().setExpression(expr);
+    relationDateTimePropertiesTwo.getDateGroup().setSequenceType("MULTIPLE"); //No I18N
+    return relationDateTimePropertiesTwo;
+  }
+
   private static int findDateType(DateTimeEssentials dateTimeEssentials) {
     int dateType = -1;
     boolean isRelation = dateTimeEssentials.isRelation();
@@ -126,70 +208,9 @@ public class DateTimeGateWay {
     return dateType;
   }
 
-  public static org.apache.commons.lang3.tuple.Triple<Boolean, String, String> extractRelation(RelationShipMatching relationShipMatching) {
-    String dateComp1 = relationShipMatching.getParsedTextOne();
-    String dateComp2 = relationShipMatching.getParsedTextTwo();
-    for (Map.Entry<String, String> entry : relationShipMatching.getComponentMapOne().entrySet()) {
-      if (entry.getValue() != null) {
-        dateComp1 = dateComp1.replace(entry.getValue(), relationShipMatching.getStrTochar().get(entry.getKey()));
-      }
-    }
-    for (Map.Entry<String, String> entry : relationShipMatching.getComponentMapTwo().entrySet()) {
-      if (entry.getValue() != null) {
-        dateComp2 = dateComp2.replace(entry.getValue(), relationShipMatching.getStrTochar().get(entry.getKey()));
-      }
-    }
-
-    dateComp1 = dateComp1.replaceAll(relationShipMatching.getRegexRemoveSpecialChar(), "");
-    dateComp2 = dateComp2.replaceAll(relationShipMatching.getRegexRemoveSpecialChar(), "");
-
-    String pat1 = dateComp1;
-    String pat2 = dateComp2;
-
-    int startIndex;
-    String dateCompOne = null;
-    String dateCompTwo = null;
-    if (pat1.length() == pat2.length()) {
-      return org.apache.commons.lang3.tuple.Triple.of(false, null, null);
-    } else if (pat1.length() < pat2.length()) {
-      startIndex = pat2.indexOf(pat1);
-    } else {
-      startIndex = pat1.indexOf(pat2);
-    }
-    String newDateComp;
-    boolean check = (startIndex + 1 + pat1.length()) == pat2.length();
-    if (startIndex != -1 && check ||
-        (startIndex + pat2.length()) == pat1.length()) {
-      String rem;
-      String cons = "";
-      if (check) {
-        rem = pat2.substring(startIndex + 1);
-        for (char c : rem.toCharArray()) {
-          cons = CommonUtils.stringBuild(cons, relationShipMatching.getComponentMapTwo().get(relationShipMatching.getMapInversed().get(c + "")));
-        }
-        newDateComp = relationShipMatching.getParsedTextOne() + cons;
-        newDateComp = newDateComp.replaceAll("> <", "");
-        newDateComp = newDateComp.replaceAll("<[^>]*>", " ");
-        newDateComp = newDateComp.trim();
-        dateCompOne = newDateComp;
-      } else {
-        rem = pat1.substring(0, startIndex);
-        for (char c : rem.toCharArray()) {
-          cons = CommonUtils.stringBuild(cons, relationShipMatching.getComponentMapOne().get(relationShipMatching.getMapInversed().get(c + "")));
-        }
-        newDateComp = cons + relationShipMatching.getParsedTextTwo();
-        newDateComp = newDateComp.replaceAll("> <", "");
-        newDateComp = newDateComp.replaceAll("<[^>]*>", " ");
-        newDateComp = newDateComp.trim();
-        dateCompTwo = newDateComp;
-      }
-    }
-    return org.apache.commons.lang3.tuple.Triple.of(true, dateCompOne, dateCompTwo);
-  }
-
-  private static List<DateTimeProperties> relationshipExtraction(DateTimeEssentials dateTimeEssentials, String relation, AbstractLanguage abstractLanguage) throws Exception {
-    List<DateTimeProperties> dateTimePropertiesList = new ArrayList<>();
-    List<Triple<String, Integer, Integer>> triples = dateTimeEssentials.getTriples();
+  private static void compileRelationship(DateTimeEssentials dateTimeEssentials, String relation, CompiledDate compiledDate) throws Exception {
+    //a copy, the triples of the essentials stay as the CRF gave them
+    List<Triple<String, Integer, Integer>> triples = new ArrayList<>(dateTimeEssentials.getTriples());
     //for 2 relation words one relation word will be retained in date part to remove that
     String relationWordToRemove = null;
     if (triples.size() > 4) {
@@ -204,6 +225,8 @@ public class DateTimeGateWay {
     Triple<String, Integer, Integer> timeSpanTwo;
     DateTimeProperties relationDateTimePropertiesOne;
     DateTimeProperties relationDateTimePropertiesTwo;
+    compiledDate.setRelation(relation);
+    compiledDate.setRelationWord(relationWord);
     if (relationWord != null && (relationWord.equals("from") || relationWord.equals("after"))) {
       timeSpanTwo = triples.size() == 3 ? triples.get(0) : triples.get(1);
       timeSpanOne = triples.get(triples.size() - 1);
@@ -218,34 +241,10 @@ public class DateTimeGateWay {
       RelationShipMatching relationShipMatching = new RelationShipMatching(relationDateTimePropertiesOne.getComponentMap(), relationDateTimePropertiesTwo.getComponentMap(),
           relationDateTimePropertiesOne.getParsedDate().getTaggedWithXML(),
           relationDateTimePropertiesTwo.getParsedDate().getTaggedWithXML());
-      if (relationShipMatching.getCanExtract()) {
-        org.apache.commons.lang3.tuple.Triple<Boolean, String, String> tripleVal = extractRelation(relationShipMatching);
-        if (tripleVal.getLeft()) {
-          if (tripleVal.getMiddle() != null) {
-            relationDateTimePropertiesOne.setParsedText(tripleVal.getMiddle());
-            relationDateTimePropertiesOne.setParsedDate();
-          } else if (tripleVal.getRight() != null) {
-            relationDateTimePropertiesTwo.setParsedText(tripleVal.getRight());
-            relationDateTimePropertiesTwo.setParsedDate();
-          }
-        }
-      }
-      Pair<ParserOutput, DateGroup> dateGroupPairOne = HawkingTimeParser.setDateAndTime(relationDateTimePropertiesOne, abstractLanguage);
-      relationDateTimePropertiesOne.setParserOutput(dateGroupPairOne.getLeft());
-      relationDateTimePropertiesOne.setDateGroup(dateGroupPairOne.getRight());
-
-      relationDateTimePropertiesTwo.setReferenceTime(relationDateTimePropertiesOne.getParserOutput().getDateRange().getStart());
-      Pair<ParserOutput, DateGroup> dateGroupPairTwo = HawkingTimeParser.setDateAndTime(relationDateTimePropertiesTwo, abstractLanguage);
-
-      relationDateTimePropertiesTwo.setParserOutput(dateGroupPairTwo.getLeft());
-      relationDateTimePropertiesTwo.setDateGroup(dateGroupPairTwo.getRight());
-      relationDateTimePropertiesTwo.getDateGroup().setExpression(relationDateTimePropertiesTwo.getDateGroup().getExpression());
-      relationDateTimePropertiesTwo.getDateGroup().setSequenceType("SINGLE"); //No I18N
-      relationDateTimePropertiesTwo.getParserOutput().setText(relationDateTimePropertiesTwo.getParserOutput().getText()+" "+relationWord+" "+relationDateTimePropertiesOne.getParserOutput().getText()); //No I18N
-      relationDateTimePropertiesTwo.getParserOutput().setParserEndIndex(relationDateTimePropertiesOne.getParserOutput().getParserEndIndex());
-
-      dateTimePropertiesList.add(relationDateTimePropertiesTwo);
-      return dateTimePropertiesList;
+      //each side is recognized once, the one that says less takes the missing components from the other
+      relationDateTimePropertiesOne.inheritComponents(relationShipMatching.getInheritedByOne());
+      relationDateTimePropertiesTwo.inheritComponents(relationShipMatching.getInheritedByTwo());
+      compiledDate.setRelationType(CompiledDate.RelationType.CHAINED);
     } else {
       timeSpanOne = triples.size() == 3 ? triples.get(0) : triples.get(1);
       timeSpanTwo = triples.get(triples.size() - 1);
@@ -263,47 +262,12 @@ public class DateTimeGateWay {
 
       relationDateTimePropertiesOne.setParsedDate();
       relationDateTimePropertiesTwo.setParsedDate();
-
-      Pair<ParserOutput, DateGroup> dateGroupPairOne = HawkingTimeParser.setDateAndTime(relationDateTimePropertiesOne, abstractLanguage);
-      relationDateTimePropertiesOne.setParserOutput(dateGroupPairOne.getLeft());
-      relationDateTimePropertiesOne.setDateGroup(dateGroupPairOne.getRight());
-
-      if (relationDateTimePropertiesTwo.getParsedDate().getTaggedWithXML().contains("current_day")) {
-        Pair<ParserOutput, DateGroup> dateGroupPairTwo = HawkingTimeParser.setDateAndTime(relationDateTimePropertiesTwo, abstractLanguage);
-        relationDateTimePropertiesTwo.setParserOutput(dateGroupPairTwo.getLeft());
-        relationDateTimePropertiesTwo.setDateGroup(dateGroupPairTwo.getRight());
-      } else {
-        if(relationDateTimePropertiesOne.getParserOutput().getIsTimeZonePresent()){
-          HawkingConfiguration configuration= new HawkingConfiguration();
-          configuration.setTimeZone("GMT"+relationDateTimePropertiesOne.getParserOutput().getTimezoneOffset()); //No I18N
-          DateTimeOffsetReturn dateTimeOffsetReturn = TimeZoneExtractor.referenceDateExtractor(new Date(relationDateTimePropertiesOne.getParserOutput().getDateRange().getStart().getMillis()), configuration, relationDateTimePropertiesTwo.getParserOutput().getText());
-          DateTime referenceDate = new DateTime( dateTimeOffsetReturn.getReferenceDate());
-          relationDateTimePropertiesTwo.setReferenceTime(referenceDate);
-          Pair<ParserOutput, DateGroup> dateGroupPairTwo = HawkingTimeParser.setDateAndTime(relationDateTimePropertiesTwo, abstractLanguage);
-          relationDateTimePropertiesTwo.setParserOutput(dateGroupPairTwo.getLeft());
-          relationDateTimePropertiesTwo.setDateGroup(dateGroupPairTwo.getRight());
-        }
-        else {
-          relationDateTimePropertiesTwo.setReferenceTime(relationDateTimePropertiesOne.getParserOutput().getDateRange().getStart());
-          Pair<ParserOutput, DateGroup> dateGroupPairTwo = HawkingTimeParser.setDateAndTime(relationDateTimePropertiesTwo, abstractLanguage);
-          relationDateTimePropertiesTwo.setParserOutput(dateGroupPairTwo.getLeft());
-          relationDateTimePropertiesTwo.setDateGroup(dateGroupPairTwo.getRight());
-        }
-      }
-
-      dateTimePropertiesList.add(relationDateTimePropertiesOne);
-      dateTimePropertiesList.add(relationDateTimePropertiesTwo);
-      String expr = relationDateTimePropertiesOne.getDateGroup().getExpression() + relation + Constants.OPEN_PARENTHESIS + dateTimeEssentials.getId() + Constants.CLOSE_PARENTHESIS;
-      relationDateTimePropertiesOne.getDateGroup().setExpression(expr);
-      relationDateTimePropertiesOne.getDateGroup().setSequenceType("MULTIPLE"); //No I18N
-
-      expr = Constants.OPEN_PARENTHESIS + (dateTimeEssentials.getId() - 1) + Constants.CLOSE_PARENTHESIS + relation + relationDateTimePropertiesTwo.getDateGroup().getExpression();
-      relationDateTimePropertiesTwo.getDateGroup().setExpression(expr);
-      relationDateTimePropertiesTwo.getDateGroup().setSequenceType("MULTIPLE"); //No I18N
-      return dateTimePropertiesList;
+      compiledDate.setRelationType(CompiledDate.RelationType.PAIR);
     }
-
+    compiledDate.addSpan(relationDateTimePropertiesOne.toCompiledSpan());
+    compiledDate.addSpan(relationDateTimePropertiesTwo.toCompiledSpan());
   }
+
   private static DateTimeEssentials getFutureDateEssentials(DateTimeEssentials dateTimeEssentials){
     DateTimeEssentials futureDateTimeEssentials =  new DateTimeEssentials(dateTimeEssentials.getParagraph(), dateTimeEssentials.getSentence(), "FUTURE", dateTimeEssentials.getId(),//No I18N
         dateTimeEssentials.getTriples(), dateTimeEssentials.isRelation(), dateTimeEssentials.getReferenceTime(), dateTimeEssentials.getTimeZoneOffSet() );
@@ -1,24 +1,16 @@
 package com.zoho.hawking.language.english;
 
-import com.zoho.hawking.datetimeparser.utils.NumberParser;
+import com.zoho.hawking.datetimeparser.utils.NumberNormalizer;
 import com.zoho.hawking.utils.DateTimeProperties;
 import edu.stanford.nlp.util.Triple;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class DateTimeRecognitionAndParsing {
 
-    private static List<String> cardinalNumberList = Arrays.asList("First", "Second", "Third", "Fourth", "Fifth", "Sixth", "Seventh", "Eighth", "Ninth", "Tenth",//No I18N
-            "Eleventh", "Twelfth", "Thirteenth", "Fourteenth", "Fifteenth", "Sixteenth", "Seventeenth", "Eighteenth", "Nineteenth", "Twentieth", "Twenty-first",//No I18N
-            "Twenty-second", "Twenty-third", "Twenty-fourth", "Twenty-fifth", "Twenty-sixth", "Twenty-seventh", "Twenty-eighth", "Twenty-ninth", "Thirtieth", "Thirty-first",//No I18N
-            "Twenty first", "Twenty second", "Twenty third", "Twenty fourth", "Twenty fifth", "Twenty sixth", "Twenty seventh", "Twenty eighth", "Twenty ninth", "Thirtieth", "Thirty first");//No I18N
-
     public static List<Pair<Boolean, List<Triple<String, Integer, Integer>>>> getSeparateDates(List<Triple<String, Integer, Integer>> allDates) {
         List<Pair<Boolean, List<Triple<String, Integer, Integer>>>> separateDates = new ArrayList<>();
         int startIndex = 0;
@@ -43,13 +35,6 @@ public class DateTimeRecognitionAndParsing {
     }
 
 
-    private static boolean isContain(String dateText, String timezone) {
-        String pattern = "\\b" + timezone + "\\b"; //No I18N
-        Pattern p = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
-        Matcher m = p.matcher(dateText);
-        return m.find();
-    }
-
     public static void extract(String text){
         List<Pair<Boolean, List<Triple<String, Integer, Integer>>>> singleDatesList = getSeparateDates(Parser.parse(text));
 
@@ -78,7 +63,6 @@ public class DateTimeRecognitionAndParsing {
     }
 
     public static String cardinalNumberFinder(String dateText) {
-        String cardinal = null;
 //        if (dateText.contains("start day")) {
 //            dateText = dateText.replaceAll("\\b(?i)" + "start day" + "\\b", "");//No I18N
 //            dateText = "first day of " + dateText;//No I18N
@@ -89,13 +73,6 @@ public class DateTimeRecognitionAndParsing {
 //            dateText = dateText.replaceAll("\\b(?i)" + "to go" + "\\b", "");//No I18N
 //            dateText = "until " + dateText;//No I18N
 //        }
-        for (String cardinalNumber : cardinalNumberList) {
-            if (isContain(dateText, cardinalNumber)) {
-                cardinal = cardinalNumber;
-                dateText = dateText.replaceAll("\\b(?i)" + cardinal + "\\b", NumberParser.CARDINAL_NUMBERS.get(cardinal)); //No I18N
-            }
-        }
-        return dateText;
-
+        return NumberNormalizer.normalize(dateText).getText();
     }
 }
@@ -1,7 +1,9 @@
 package com.zoho.hawking.language.english;
 
+import com.zoho.hawking.datetimeparser.configuration.DetectionMode;
 import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
 import com.zoho.hawking.language.AbstractLanguage;
+import com.zoho.hawking.language.english.model.CompiledDate;
 import com.zoho.hawking.language.english.model.DateTimeEssentials;
 import com.zoho.hawking.language.english.model.DateTimeOffsetReturn;
 import com.zoho.hawking.utils.CoreNlpUtils;
@@ -9,8 +11,10 @@ import com.zoho.hawking.utils.DateTimeProperties;
 import com.zoho.hawking.utils.TimeZoneExtractor;
 import edu.stanford.nlp.util.Triple;
 import org.apache.commons.lang3.tuple.Pair;
+import org.joda.time.DateTime;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.logging.Logger;
@@ -47,13 +51,16 @@ public class EnglishLanguage extends AbstractLanguage {
 
     @Override
     public List<DateTimeProperties> predict(String inputSentence, Date referenceDate, HawkingConfiguration config) {
-        List<DateTimeProperties> dateList = new ArrayList<>();
+        return resolve(compile(inputSentence, config), referenceDate, config);
+    }
+
+    @Override
+    public List<CompiledDate> compile(String inputSentence, HawkingConfiguration config) {
+        List<CompiledDate> compiledDates = new ArrayList<>();
         /*
             Splits input lang string into sentences
          */
         List<String> inputSentences = CoreNlpUtils.sentenceTokenize(inputSentence);
-        int maxParseDates = config.getMaxParseDate(); //max number of dates to parse
-        int dateCounter = 0;
 
         for(String sent: inputSentences){
             /*
@@ -69,12 +76,9 @@ public class EnglishLanguage extends AbstractLanguage {
                 In the end you get a list of strings that have a date in them
 
              */
-            List<Pair<Boolean, List<Triple<String, Integer, Integer>>>> singleDatesList = getSeparateDates(Parser.parse(sent));
+            List<Pair<Boolean, List<Triple<String, Integer, Integer>>>> singleDatesList = getSeparateDates(detect(sent, config.getDetectionMode()));
             //System.out.println(singleDatesList);
             for (Pair<Boolean, List<Triple<String, Integer, Integer>>> relAndDate : singleDatesList) {
-                System.out.println("Current sentence: " + sent);
-                System.out.println("\t" + relAndDate);
-                System.out.println("\tTense: " + getTense(sent));
                 //gets the triple
                 List<Triple<String, Integer, Integer>> triples = relAndDate.getRight();
                 DateTimeEssentials dateTimeEssentials = new DateTimeEssentials();
@@ -87,36 +91,88 @@ public class EnglishLanguage extends AbstractLanguage {
                 //tense is just english term for future, past, present, etc. tense
                 dateTimeEssentials.setTense(getTense(sent));
                 if (!triples.isEmpty()) {
-                    Triple<String, Integer, Integer> triple = triples.get(0);
-
-                    int startIndex = triple.second;
-                    int endIndex = triple.third;
-                    //get the text that holds the date information
-                    String parsedText = sent.substring(startIndex, endIndex);
-                    //gets the time offset, some dates/times are referenced like 20 seconds ago (this needs a reference time)
-                    System.out.println("\tParsed text: " + parsedText);
-
-                    DateTimeOffsetReturn dateTimeOffsetReturn = TimeZoneExtractor.referenceDateExtractor(referenceDate, config, parsedText);
-                    if(!TimeZoneExtractor.isTimeZonePresent){
-                        dateTimeOffsetReturn = TimeZoneExtractor.referenceDateExtractor(referenceDate, config, sent);
-                    }
-                    dateTimeEssentials.setReferenceTime(dateTimeOffsetReturn.getReferenceDate());
-                    dateTimeEssentials.setTimeZoneOffSet(dateTimeOffsetReturn.getTimeOffset());
                     try {
                         //now actually take the input string that for sure only has 1 date and get info out of it
-                        dateList.addAll(DateTimeGateWay.getDateAndTime(dateTimeEssentials));
-                        dateCounter += 1;
-                        if (maxParseDates != 0 && dateCounter == maxParseDates){
-                            return dateList;
-                        }
+                        compiledDates.add(DateTimeGateWay.compile(dateTimeEssentials));
                     } catch (Exception e) {
                         LOGGER.info("HawkingTimeParser :: Exception in Hawking :: Unparsed date component Present");
                     }
                 }
             }
         }
+        return compiledDates;
+    }
+
+    @Override
+    public List<CompiledDate> compileSpan(String text, int start, int end, String tense) {
+        DateTimeEssentials dateTimeEssentials = new DateTimeEssentials();
+        dateTimeEssentials.setParagraph(text);
+        dateTimeEssentials.addId();
+        dateTimeEssentials.setSentence(text);
+        dateTimeEssentials.setTriples(Pair.of(false, Collections.singletonList(Triple.makeTriple("D", start, end)))); //No I18N
+        dateTimeEssentials.setTense(tense);
+        List<CompiledDate> compiledDates = new ArrayList<>();
+        try {
+            compiledDates.add(DateTimeGateWay.compile(dateTimeEssentials));
+        } catch (Exception e) {
+            LOGGER.info("HawkingTimeParser :: Exception in Hawking :: Unparsed date component Present");
+        }
+        return compiledDates;
+    }
+
+    /*
+     * Finds the dates of the sentence the way the detection mode asks, with the CRF when there is no mode*/
+    static List<Triple<String, Integer, Integer>> detect(String sentence, DetectionMode detectionMode) {
+        if (detectionMode == DetectionMode.RULES) {
+            return RuleParser.parse(sentence);
+        }
+        if (detectionMode == DetectionMode.ADAPTIVE) {
+            RuleParser ruleParser = new RuleParser(sentence);
+            if (!ruleParser.isAmbiguous()) {
+                return ruleParser.getTriples();
+            }
+            LOGGER.info(() -> "EnglishLanguage :: unclear dates, sentence sent to the CRF"); //No I18N
+        }
+        return Parser.parse(sentence);
+    }
+
+    @Override
+    public List<DateTimeProperties> resolve(List<CompiledDate> compiledDates, Date referenceDate, HawkingConfiguration config) {
+        List<DateTimeProperties> dateList = new ArrayList<>();
+        int maxParseDates = config.getMaxParseDate(); //max number of dates to parse
+        int dateCounter = 0;
+        for (CompiledDate compiledDate : compiledDates) {
+            if (maxParseDates != 0 && dateCounter == maxParseDates) {
+                break;
+            }
+            List<DateTimeProperties> resolvedDates = resolve(compiledDate, referenceDate, config.getTimeZone());
+            if (!resolvedDates.isEmpty()) {
+                dateList.addAll(resolvedDates);
+                dateCounter++;
+            }
+        }
         return dateList;
+    }
+
+    @Override
+    public List<DateTimeProperties> resolve(CompiledDate compiledDate, Date referenceDate, String timeZone) {
+        DateTimeOffsetReturn dateTimeOffsetReturn = referenceDateOf(compiledDate, referenceDate, timeZone);
+        try {
+            return DateTimeGateWay.resolve(compiledDate, new DateTime(dateTimeOffsetReturn.getReferenceDate()), dateTimeOffsetReturn.getTimeOffset(), this);
+        } catch (Exception e) {
+            LOGGER.info("HawkingTimeParser :: Exception in Hawking :: Unparsed date component Present");
+            return new ArrayList<>();
+        }
+    }
 
+    @Override
+    public DateTimeOffsetReturn referenceDateOf(CompiledDate compiledDate, Date referenceDate, String timeZone) {
+        //gets the time offset, some dates/times are referenced like 20 seconds ago (this needs a reference time)
+        DateTimeOffsetReturn dateTimeOffsetReturn = TimeZoneExtractor.referenceDateExtractor(referenceDate, timeZone, compiledDate.getReferenceText());
+        if(!TimeZoneExtractor.isTimeZonePresent){
+            dateTimeOffsetReturn = TimeZoneExtractor.referenceDateExtractor(referenceDate, timeZone, compiledDate.getSentence());
+        }
+        return dateTimeOffsetReturn;
     }
 
     @Override
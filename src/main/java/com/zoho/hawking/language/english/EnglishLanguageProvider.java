@@ -0,0 +1,64 @@
+//$Id$
+package com.zoho.hawking.language.english;
+
+import com.zoho.hawking.language.AbstractLanguage;
+import com.zoho.hawking.language.LanguageProvider;
+import com.zoho.hawking.language.LazyModel;
+import com.zoho.hawking.language.english.tensepredictor.ModelInstances;
+import com.zoho.hawking.utils.Constants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * English, the CRF that finds the dates and the tagger the tense is predicted with
+ */
+public class EnglishLanguageProvider implements LanguageProvider {
+
+    private static final List<String> RESOURCES = Collections.unmodifiableList(Arrays.asList(Constants.PARSERMODELPATH, ModelInstances.TAGGER_PATH));
+
+    private static final List<LazyModel<?>> MODELS = Arrays.asList(Parser.CRF, ModelInstances.TAGGER);
+
+    @Override
+    public String getLanguage() {
+        return "eng"; //No I18N
+    }
+
+    @Override
+    public List<String> getResources() {
+        return RESOURCES;
+    }
+
+    @Override
+    public AbstractLanguage newLanguage() {
+        return new EnglishLanguage();
+    }
+
+    @Override
+    public void load() {
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[MODELS.size()];
+        for (int i = 0; i < loads.length; i++) {
+            loads[i] = CompletableFuture.runAsync(MODELS.get(i)::get);
+        }
+        CompletableFuture.allOf(loads).join();
+    }
+
+    @Override
+    public boolean isLoaded() {
+        for (LazyModel<?> model : MODELS) {
+            if (!model.isLoaded()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void unload() {
+        for (LazyModel<?> model : MODELS) {
+            model.unload();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 //$Id$
 package com.zoho.hawking.language.english;
 
+import com.zoho.hawking.language.LazyModel;
 import com.zoho.hawking.utils.Constants;
 import edu.stanford.nlp.ie.AbstractSequenceClassifier;
 import edu.stanford.nlp.ie.crf.CRFClassifier;
@@ -17,25 +18,25 @@ public class Parser {
 
     private static final Logger LOGGER = Logger.getLogger(Parser.class.getName());
 
-    static AbstractSequenceClassifier<CoreLabel> crf = getCRFInstance();
+    static final LazyModel<AbstractSequenceClassifier<CoreLabel>> CRF = new LazyModel<>(Parser::getCRFInstance);
 
     private static AbstractSequenceClassifier<CoreLabel> getCRFInstance() {
       try {
         InputStream parserModel = IOUtils.getInputStreamFromURLOrClasspathOrFileSystem(Constants.PARSERMODELPATH);
         return CRFClassifier.getClassifier(parserModel);
       } catch (ClassCastException | ClassNotFoundException | IOException e) {
-        LOGGER.log(Level.SEVERE, "Parser :: Exception in parser class", e.getMessage());
-        return null;
+        LOGGER.log(Level.SEVERE, "Parser :: Exception in parser class", e);
+        throw new IllegalStateException("The CRF model could not be loaded from " + Constants.PARSERMODELPATH, e); //No I18N
       }
     }
     public static List<Triple<String, Integer, Integer>> parse(String input) {
         input = input.replaceAll("http","----"); //No I18N
         input = input.replaceAll("www","---"); //No I18N
-        return crf.classifyToCharacterOffsets(input);
+        return CRF.get().classifyToCharacterOffsets(input);
     }
 
     public static String parseTest(String input) {
-        return crf.classifyWithInlineXML(input);
+        return CRF.get().classifyWithInlineXML(input);
     }
 
     private static String generateGazette(String dateGazettePath) {
@@ -5,6 +5,7 @@ import com.zoho.hawking.language.english.model.ParsedDate;
 import com.zoho.hawking.language.english.tagpredictor.TagPredictor;
 import com.zoho.hawking.language.english.tagpredictor.TagUtils;
 
+import com.zoho.hawking.utils.ParseScratch;
 import com.zoho.hawking.utils.RecognizerTagger;
 import edu.stanford.nlp.util.Triple;
 
@@ -22,9 +23,10 @@ public class Recognizer {
 
     public static ParsedDate recognize(String input) {
         input = input.toLowerCase();
-        StringBuilder taggedWithXML = new StringBuilder();
+        ParseScratch scratch = ParseScratch.get().reset();
+        StringBuilder taggedWithXML = scratch.builder();
         ParsedDate parsedDate = new ParsedDate();
-        String[] tokens = input.split("\\s+");
+        List<String> tokens = scratch.split(input);
         List<Triple<String, Integer, Integer>> dateList = new ArrayList<>();
         int start = 0;
         int end = 0;
@@ -32,13 +34,13 @@ public class Recognizer {
             String tag = RecognizerTagger.getTagger(word);
             end = start + word.length();
             if(tag.equals("")){
-                LOGGER.info("Word not Found in Recoginzer::::"+ word+":::::");
+                LOGGER.info(() -> "Word not Found in Recoginzer::::"+ word+":::::");
                 start = end+1;
                 continue;
             }
 
             Triple<String, Integer, Integer> tagReturn = Triple.makeTriple(tag, start, end);
-            taggedWithXML.append("<" + tag + ">" + word.trim() + "</" + tag + "> ");
+            taggedWithXML.append('<').append(tag).append('>').append(word.trim()).append("</").append(tag).append("> ");
             dateList.add(tagReturn);
             start = end+1;
         }
@@ -46,7 +48,8 @@ public class Recognizer {
         parsedDate.setTaggedWithXML(taggedWithXML.toString().trim());
         parsedDate = tagAlternator(input, parsedDate);
         parsedDate = tagShrinker(input, parsedDate);
-        LOGGER.info("Recoginzer Regex Tagged Sequence::::"+ parsedDate.getTaggedWithXML()+":::::");
+        ParsedDate recognized = parsedDate;
+        LOGGER.info(() -> "Recoginzer Regex Tagged Sequence::::"+ recognized.getTaggedWithXML()+":::::");
         return parsedDate;
     }
 
@@ -60,7 +63,8 @@ public class Recognizer {
             key: day value: 20
          */
         Map<String, String> tagsEach = new HashMap<>();
-        ArrayList<String> inputTagList = TagPredictor.getInputTagList(tagList);
+        ParseScratch scratch = ParseScratch.get().reset();
+        ArrayList<String> inputTagList = TagPredictor.getInputTagList(tagList, scratch.list());
         String inputTagPattern = TagPredictor.getInputTagPattern(inputTagList);
         /*
             Basically, now that we have a sequence of tags (tag to word) ex - PREFIX, MONTH_OF_YEAR, EXACT_NUMBER,
@@ -123,7 +127,7 @@ public class Recognizer {
             Triple<String, Integer, Integer> triplePrev = i > 0 ? triples.get(i - 1) : null;
             String tagPrev = triplePrev != null ? triplePrev.first() : "";
 
-            if (tag.equals("exact_number") && tagg.equals("exact_time") && !((tagPrev.equals("month_of_year")) && (TIMEFORMATREGEX.matcher(textTwo).find() || TIMEFORMATREGEXHMS.matcher(textTwo).find()))) {
+            if (tag.equals("exact_number") && tagg.equals("exact_time") && !((tagPrev.equals("month_of_year")) && (ParseScratch.get().matcher(TIMEFORMATREGEX, textTwo).find() || ParseScratch.get().matcher(TIMEFORMATREGEXHMS, textTwo).find()))) {
                 Triple<String, Integer, Integer> tripleLocal = new Triple<>("exact_time", triple.second(), triplee.third());  //NO I18n
                 triples.remove(i + 1);
                 triples.set(i, tripleLocal);
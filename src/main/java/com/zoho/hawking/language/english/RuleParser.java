@@ -0,0 +1,238 @@
+//$Id$
+package com.zoho.hawking.language.english;
+
+import com.zoho.hawking.utils.RecognizerTagger;
+import edu.stanford.nlp.util.Triple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/*
+ * Finds the dates of a sentence from the recognizer tags of its words, without the CRF
+ *
+ * Words next to each other that all have a tag make a run. A run is a date when it has a word that names a date or
+ * a time (a day of the week, a month, a time, a year, today or a part of the day) or a span like days or weeks with
+ * a number or a prefix before it; am and pm only count after a number, and a year only from 1900 to 2099. Leading
+ * fillers like in and the and trailing prefixes are left out of the date. A from, after, before, till or until
+ * inside a run with a date on both sides, and a to, and, or or - between two dates, is a relation word. The triples
+ * are labelled D and R as the CRF labels them, so the rest of the parse does not change.
+ *
+ * A date is unclear when its only word that is not a prefix can also be an everyday word, like may or sun, when it
+ * is a part of the day on its own, as in good morning, or when a capitalized date word is next to another
+ * capitalized word that does not start the sentence, like a title, even at the start of the sentence. Unclear
+ * dates are left out of the triples, isAmbiguous tells when there were any.
+ */
+public class RuleParser {
+
+    private static final Set<String> DATE_TAGS = new HashSet<>(Arrays.asList("part_of_day", "current_day", //No I18N
+            "day_of_week", "month_of_year", "exact_date", "exact_time", "exact_year")); //No I18N
+    private static final Set<String> SPAN_TAGS = new HashSet<>(Arrays.asList("second_span", "minute_span", //No I18N
+            "hour_span", "day_span", "week_span", "month_span", "year_span")); //No I18N
+    private static final Set<String> LEADING_FILLERS = new HashSet<>(Arrays.asList("the", "a", "an", "of", "with", //No I18N
+            "by", "for", "in")); //No I18N
+    private static final Set<String> RELATION_WORDS = new HashSet<>(Arrays.asList("to", "and", "or", "-")); //No I18N
+    private static final Set<String> RELATION_PREFIXES = new HashSet<>(Arrays.asList("from", "after", "before", //No I18N
+            "till", "until")); //No I18N
+    private static final Set<String> AMBIGUOUS_WORDS = new HashSet<>(Arrays.asList("may", "march", "mar", "sun", //No I18N
+            "sat", "wed", "mon")); //No I18N
+    private static final Set<String> GREETING_WORDS = new HashSet<>(Arrays.asList("morning", "afternoon", "evening", //No I18N
+            "night")); //No I18N
+
+    private static final String PREFIX_TAG = "implict_prefix"; //No I18N
+    private static final String NUMBER_TAG = "exact_number"; //No I18N
+    private static final Pattern AM_PM = Pattern.compile("^[ap]\\.?m$");
+    private static final Pattern YEAR = Pattern.compile("^(19|20)\\d{2}$");
+    private static final String LEADING_PUNCTUATION = "\"'(["; //No I18N
+    private static final String TRAILING_PUNCTUATION = ",.;:!?)]\"'"; //No I18N
+
+    private final List<Token> tokens = new ArrayList<>();
+    private final List<Triple<String, Integer, Integer>> triples = new ArrayList<>();
+    private boolean ambiguous;
+
+    public RuleParser(String sentence) {
+        tokenize(sentence);
+        List<int[]> dates = new ArrayList<>();
+        int runStart = -1;
+        for (int i = 0; i <= tokens.size(); i++) {
+            boolean inRun = i < tokens.size() && !tokens.get(i).tag.isEmpty();
+            if (inRun && runStart == -1) {
+                runStart = i;
+            }
+            if (runStart != -1 && (!inRun || tokens.get(i).endsClause)) {
+                addRun(runStart, inRun ? i + 1 : i, dates);
+                runStart = -1;
+            }
+        }
+        for (int d = 0; d < dates.size(); d++) {
+            int[] date = dates.get(d);
+            Token first = tokens.get(date[0]);
+            Token last = tokens.get(date[1] - 1);
+            if (d > 0) {
+                int[] previous = dates.get(d - 1);
+                if (previous[1] + 1 == date[0] && isRelation(previous[1])) {
+                    Token relation = tokens.get(previous[1]);
+                    if (relation.start == tokens.get(previous[1] - 1).end + 1 && first.start == relation.end + 1) {
+                        triples.add(Triple.makeTriple("R", relation.start, relation.end)); //No I18N
+                    }
+                }
+            }
+            triples.add(Triple.makeTriple("D", first.start, last.end)); //No I18N
+        }
+    }
+
+    /*
+     * returns the dates and relation words of the sentence, labelled and offset as Parser.parse gives them*/
+    public static List<Triple<String, Integer, Integer>> parse(String sentence) {
+        return new RuleParser(sentence).getTriples();
+    }
+
+    private void tokenize(String sentence) {
+        int i = 0;
+        while (i < sentence.length()) {
+            if (Character.isWhitespace(sentence.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < sentence.length() && !Character.isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            int end = i;
+            while (start < end && LEADING_PUNCTUATION.indexOf(sentence.charAt(start)) != -1) {
+                start++;
+            }
+            boolean endsClause = false;
+            while (end > start && TRAILING_PUNCTUATION.indexOf(sentence.charAt(end - 1)) != -1) {
+                endsClause = true;
+                end--;
+            }
+            if (start < end) {
+                tokens.add(new Token(sentence.substring(start, end), start, end, endsClause, tokens.isEmpty()));
+            }
+        }
+    }
+
+    /*
+     * Adds the dates of the run of tagged tokens from start to end, split at the relation prefixes that have a date
+     * on both sides*/
+    private void addRun(int start, int end, List<int[]> dates) {
+        int pieceStart = start;
+        for (int i = start + 1; i < end - 1; i++) {
+            if (RELATION_PREFIXES.contains(tokens.get(i).word) && hasDate(pieceStart, i) && hasDate(i + 1, end)) {
+                addDate(pieceStart, i, dates);
+                pieceStart = i + 1;
+            }
+        }
+        addDate(pieceStart, end, dates);
+    }
+
+    private void addDate(int start, int end, List<int[]> dates) {
+        while (start < end && tokens.get(start).tag.equals(PREFIX_TAG) && LEADING_FILLERS.contains(tokens.get(start).word)) {
+            start++;
+        }
+        while (end > start && tokens.get(end - 1).tag.equals(PREFIX_TAG)) {
+            end--;
+        }
+        if (!hasDate(start, end)) {
+            return;
+        }
+        if (isAmbiguous(start, end)) {
+            ambiguous = true;
+            return;
+        }
+        dates.add(new int[]{start, end});
+    }
+
+    private boolean hasDate(int start, int end) {
+        boolean numberOrPrefix = false;
+        for (int i = start; i < end; i++) {
+            Token token = tokens.get(i);
+            if (token.tag.equals("exact_time") && AM_PM.matcher(token.word).matches()) { //No I18N
+                if (i > start && tokens.get(i - 1).tag.equals(NUMBER_TAG)) {
+                    return true;
+                }
+            } else if (token.tag.equals("exact_year")) { //No I18N
+                if (YEAR.matcher(token.word).matches()) {
+                    return true;
+                }
+            } else if (DATE_TAGS.contains(token.tag)) {
+                return true;
+            } else if (SPAN_TAGS.contains(token.tag) && numberOrPrefix) {
+                return true;
+            }
+            if (token.tag.equals(NUMBER_TAG) || (token.tag.equals(PREFIX_TAG) && !LEADING_FILLERS.contains(token.word))) {
+                numberOrPrefix = true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAmbiguous(int start, int end) {
+        Token onlyWord = null;
+        int words = 0;
+        for (int i = start; i < end; i++) {
+            Token token = tokens.get(i);
+            if (!token.tag.equals(PREFIX_TAG)) {
+                onlyWord = token;
+                words++;
+            }
+            //at the start of a sentence only the neighbour tells a title, the date word is capitalized anyway
+            if (DATE_TAGS.contains(token.tag) && token.capitalized
+                    && (isCapitalizedWord(i - 1) || isCapitalizedWord(i + 1))) {
+                return true;
+            }
+        }
+        return words == 1 && (AMBIGUOUS_WORDS.contains(onlyWord.word) || (end - start == 1 && GREETING_WORDS.contains(onlyWord.word)));
+    }
+
+    private boolean isCapitalizedWord(int index) {
+        if (index < 0 || index >= tokens.size()) {
+            return false;
+        }
+        Token token = tokens.get(index);
+        return token.capitalized && token.tag.isEmpty() && !token.first;
+    }
+
+    private boolean isRelation(int index) {
+        Token token = tokens.get(index);
+        return RELATION_WORDS.contains(token.word) || RELATION_PREFIXES.contains(token.word);
+    }
+
+    /**
+     * @return the dates and relation words found, labelled D and R
+     */
+    public List<Triple<String, Integer, Integer>> getTriples() {
+        return triples;
+    }
+
+    /**
+     * @return true when a date was left out because it could also be an everyday word
+     */
+    public boolean isAmbiguous() {
+        return ambiguous;
+    }
+
+    private static final class Token {
+        private final String word;
+        private final String tag;
+        private final int start;
+        private final int end;
+        private final boolean endsClause;
+        private final boolean capitalized;
+        private final boolean first;
+
+        private Token(String text, int start, int end, boolean endsClause, boolean first) {
+            this.word = text.toLowerCase();
+            this.tag = RecognizerTagger.getTagger(word);
+            this.start = start;
+            this.end = end;
+            this.endsClause = endsClause;
+            this.capitalized = Character.isUpperCase(text.charAt(0));
+            this.first = first;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+//$Id$
+package com.zoho.hawking.language.english.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * A date of a sentence as DateTimeGateWay compiled it: its spans and how they relate
+ *
+ * SINGLE - one span
+ * ANCHORED - a span moved from another one, "2 days after christmas"; the second span is the date
+ * CHAINED - a span counted from another one, "3 days from tomorrow"; the second span is the date
+ * PAIR - two dates joined by a relation word, "monday and tuesday"; the second is resolved from the first
+ */
+public class CompiledDate implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum RelationType {
+        SINGLE, ANCHORED, CHAINED, PAIR
+    }
+
+    private RelationType relationType = RelationType.SINGLE;
+    private String relation;
+    private String relationWord;
+    private String sentence;
+    private String referenceText;
+    private int expressionId;
+    private final List<CompiledSpan> spans = new ArrayList<>();
+
+    public RelationType getRelationType() {
+        return relationType;
+    }
+
+    public void setRelationType(RelationType relationType) {
+        this.relationType = relationType;
+    }
+
+    /*
+     * returns the relation of a PAIR written in its expressions, between, or or and*/
+    public String getRelation() {
+        return relation;
+    }
+
+    public void setRelation(String relation) {
+        this.relation = relation;
+    }
+
+    /*
+     * returns the relation word as it is in the sentence*/
+    public String getRelationWord() {
+        return relationWord;
+    }
+
+    public void setRelationWord(String relationWord) {
+        this.relationWord = relationWord;
+    }
+
+    public String getSentence() {
+        return sentence;
+    }
+
+    public void setSentence(String sentence) {
+        this.sentence = sentence;
+    }
+
+    /*
+     * returns the text of the first span in the sentence, where the time zone of the reference date is looked for
+     * first*/
+    public String getReferenceText() {
+        return referenceText;
+    }
+
+    public void setReferenceText(String referenceText) {
+        this.referenceText = referenceText;
+    }
+
+    /*
+     * returns the id of the last span, a PAIR refers to both of its dates by it in the expressions*/
+    public int getExpressionId() {
+        return expressionId;
+    }
+
+    public void setExpressionId(int expressionId) {
+        this.expressionId = expressionId;
+    }
+
+    /*
+     * returns the number of dates the spans resolve to, two for a PAIR*/
+    public int getDateCount() {
+        if (spans.isEmpty()) {
+            return 0;
+        }
+        return relationType == RelationType.PAIR ? 2 : 1;
+    }
+
+    public List<CompiledSpan> getSpans() {
+        return spans;
+    }
+
+    public void addSpan(CompiledSpan span) {
+        spans.add(span);
+    }
+}
@@ -0,0 +1,41 @@
+//$Id$
+package com.zoho.hawking.language.english.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * A text compiled by HawkingTimeParser.compile, the dates found in it with their tense, spans and recognized
+ * components but without a reference date
+ *
+ * It is resolved against any reference date and configuration by HawkingTimeParser.resolve, so the CRF, the
+ * dependency parse and the recognizer run once for a text that is resolved many times. It is Serializable and can be
+ * stored with the text.
+ */
+public class CompiledDateExpression implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String language;
+    private final String text;
+    private final List<CompiledDate> compiledDates;
+
+    public CompiledDateExpression(String language, String text, List<CompiledDate> compiledDates) {
+        this.language = language;
+        this.text = text;
+        this.compiledDates = new ArrayList<>(compiledDates);
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public List<CompiledDate> getCompiledDates() {
+        return compiledDates;
+    }
+}
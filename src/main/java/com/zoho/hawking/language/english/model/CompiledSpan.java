@@ -0,0 +1,111 @@
+//$Id$
+package com.zoho.hawking.language.english.model;
+
+import edu.stanford.nlp.util.Triple;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * One date span after recognition, all DateTimeParser needs to resolve it against a reference date
+ *
+ * The recognizer labels are kept with their offsets in the recognized text, the text the span was normalized to.
+ */
+public class CompiledSpan implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int id;
+    private final String label;
+    private final String text;
+    private final int startIndex;
+    private final int endIndex;
+    private final String tense;
+    private final HashMap<String, String> componentsMap;
+    private final String recognizedText;
+    private final String[] recognizerLabels;
+    private final int[] recognizerStarts;
+    private final int[] recognizerEnds;
+    private final boolean isExactTimePresent;
+    private final boolean isCurrentDay;
+
+    public CompiledSpan(ParserOutput parserOutput, String tense, Map<String, String> componentsMap, String recognizedText,
+                        List<Triple<String, Integer, Integer>> recognizerOffsets, boolean isCurrentDay) {
+        this.id = parserOutput.getId();
+        this.label = parserOutput.getParserLabel();
+        this.text = parserOutput.getText();
+        this.startIndex = parserOutput.getParserStartIndex();
+        this.endIndex = parserOutput.getParserEndIndex();
+        this.tense = tense;
+        this.componentsMap = componentsMap == null ? new HashMap<>() : new HashMap<>(componentsMap);
+        this.recognizedText = recognizedText;
+        int size = recognizerOffsets == null ? 0 : recognizerOffsets.size();
+        this.recognizerLabels = new String[size];
+        this.recognizerStarts = new int[size];
+        this.recognizerEnds = new int[size];
+        for (int i = 0; i < size; i++) {
+            Triple<String, Integer, Integer> recognizerOffset = recognizerOffsets.get(i);
+            recognizerLabels[i] = recognizerOffset.first;
+            recognizerStarts[i] = recognizerOffset.second;
+            recognizerEnds[i] = recognizerOffset.third;
+        }
+        this.isExactTimePresent = Boolean.TRUE.equals(parserOutput.getIsExactTimePresent());
+        this.isCurrentDay = isCurrentDay;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    public String getTense() {
+        return tense;
+    }
+
+    /*
+     * returns a copy, the parsers may change the map they are given*/
+    public Map<String, String> getComponentsMap() {
+        return new HashMap<>(componentsMap);
+    }
+
+    public String getRecognizedText() {
+        return recognizedText;
+    }
+
+    public List<Triple<String, Integer, Integer>> getRecognizerOffsets() {
+        List<Triple<String, Integer, Integer>> recognizerOffsets = new ArrayList<>(recognizerLabels.length);
+        for (int i = 0; i < recognizerLabels.length; i++) {
+            recognizerOffsets.add(Triple.makeTriple(recognizerLabels[i], recognizerStarts[i], recognizerEnds[i]));
+        }
+        return recognizerOffsets;
+    }
+
+    public boolean isExactTimePresent() {
+        return isExactTimePresent;
+    }
+
+    /*
+     * returns true when the span was tagged as the current day, such a span is resolved against the reference date
+     * even when it follows another date*/
+    public boolean isCurrentDay() {
+        return isCurrentDay;
+    }
+}
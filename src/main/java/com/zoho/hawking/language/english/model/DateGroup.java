@@ -1,6 +1,11 @@
 //$Id$
 package com.zoho.hawking.language.english.model;
 
+import com.zoho.hawking.utils.Constants;
+
+import java.util.Collections;
+import java.util.Iterator;
+
 public class DateGroup {
 
     private String sequenceType = "SINGLE"; //No I18N
@@ -11,6 +16,14 @@ public class DateGroup {
 
     private String expression;
 
+    private Integer expressionId;
+
+    private DateRange firstOccurrence;
+
+    private long occurrenceLimit = -1;
+
+    private Recurrence recurrence;
+
     public DateGroup() {
 
     }
@@ -55,12 +68,16 @@ public class DateGroup {
      */
     public void setRecurrentPeriod(RepeatPeriod recurrentPeriod) {
         this.repeatPeriod = recurrentPeriod;
+        this.recurrence = null;
     }
 
     /**
      * @return the expression
      */
     public String getExpression() {
+        if (expression == null && expressionId != null) {
+            expression = Constants.OPEN_PARENTHESIS + expressionId + Constants.CLOSE_PARENTHESIS;
+        }
         return expression;
     }
 
@@ -71,4 +88,81 @@ public class DateGroup {
         this.expression = expression;
     }
 
+    /**
+     * @param expressionId the id of the single date the expression is built from when it is read
+     */
+    public void setExpressionId(Integer expressionId) {
+        this.expressionId = expressionId;
+        this.expression = null;
+    }
+
+    /**
+     * @return the parsed range of the date, null when it was not parsed
+     */
+    public DateRange getFirstOccurrence() {
+        return firstOccurrence;
+    }
+
+    /**
+     * @param firstOccurrence the parsed range of the date, the occurrences are counted from its start
+     */
+    public void setFirstOccurrence(DateRange firstOccurrence) {
+        this.firstOccurrence = firstOccurrence;
+        this.recurrence = null;
+    }
+
+    /**
+     * @return the occurrenceLimit, -1 when the repetition does not end
+     */
+    public long getOccurrenceLimit() {
+        return occurrenceLimit;
+    }
+
+    /**
+     * @param occurrenceLimit the number of occurrences, -1 when the repetition does not end
+     */
+    public void setOccurrenceLimit(long occurrenceLimit) {
+        this.occurrenceLimit = occurrenceLimit;
+        this.recurrence = null;
+    }
+
+    /**
+     * @return the recurrence of the first occurrence by the recurrentPeriod, built when it is first read;
+     * null when the date does not repeat
+     */
+    public Recurrence getRecurrence() {
+        if (recurrence == null) {
+            recurrence = Recurrence.of(firstOccurrence, repeatPeriod, occurrenceLimit);
+        }
+        return recurrence;
+    }
+
+    /*
+     * Occurrences starting at or after fromMillis and before toMillis, generated as they are read.
+     * A date that does not repeat is its only occurrence.*/
+    public Iterator<DateRange> occurrences(long fromMillis, long toMillis) {
+        Recurrence dateRecurrence = getRecurrence();
+        if (dateRecurrence != null) {
+            return dateRecurrence.occurrences(fromMillis, toMillis);
+        }
+        if (firstOccurrence == null || firstOccurrence.getStartMillis() == DateRange.NO_DATE
+                || firstOccurrence.getStartMillis() < fromMillis || firstOccurrence.getStartMillis() >= toMillis) {
+            return Collections.emptyIterator();
+        }
+        return Collections.singletonList(firstOccurrence).iterator();
+    }
+
+    /*
+     * returns the start of the first occurrence after the instant, DateRange.NO_DATE when there is none*/
+    public long nextOccurrenceAfter(long epochMillis) {
+        Recurrence dateRecurrence = getRecurrence();
+        if (dateRecurrence != null) {
+            return dateRecurrence.nextOccurrenceAfter(epochMillis);
+        }
+        if (firstOccurrence == null || firstOccurrence.getStartMillis() <= epochMillis) {
+            return DateRange.NO_DATE;
+        }
+        return firstOccurrence.getStartMillis();
+    }
+
 }
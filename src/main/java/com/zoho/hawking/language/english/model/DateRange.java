@@ -2,11 +2,24 @@
 package com.zoho.hawking.language.english.model;
 
 
+import com.zoho.hawking.utils.TimeZoneExtractor;
 import org.joda.time.DateTime;
 
+/*
+ * Start and end instants of a parsed date, held as millis with the time zone offset of the text.
+ * The DateTime and the formatted wall clock of each end are built the first time they are read.
+ * The formats stay those of the parsed instants when setStart or setEnd moves them (addDefaultTime).
+ */
 public class DateRange {
 
+    public static final long NO_DATE = Long.MIN_VALUE;
+
     private String matchType;
+    private long startMillis = NO_DATE;
+    private long endMillis = NO_DATE;
+    private long parsedStartMillis = NO_DATE;
+    private long parsedEndMillis = NO_DATE;
+    private String timeZoneOffset;
     private DateTime start;
     private DateTime end;
     private String startDateFormat;
@@ -14,17 +27,32 @@ public class DateRange {
 
     public DateRange(String matchType, DateTime start, DateTime end, String startDateFormat, String endDateFormat) {
         this.matchType = matchType;
-        this.start = start;
-        this.end = end;
+        setStart(start);
+        setEnd(end);
         this.startDateFormat = startDateFormat;
         this.endDateFormat = endDateFormat;
     }
 
+    /*
+     * startMillis, endMillis - instants of the range, NO_DATE when the end is open
+     * timeZoneOffset - offset the formatted dates are shown at, the system zone when null*/
+    public DateRange(String matchType, long startMillis, long endMillis, String timeZoneOffset) {
+        this.matchType = matchType;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.parsedStartMillis = startMillis;
+        this.parsedEndMillis = endMillis;
+        this.timeZoneOffset = timeZoneOffset;
+    }
+
     /**
      * @return the startDateFormat
      */
 
     public String getStartDateFormat() {
+        if (startDateFormat == null && parsedStartMillis != NO_DATE) {
+            startDateFormat = TimeZoneExtractor.dateFormatter(parsedStartMillis, timeZoneOffset);
+        }
         return startDateFormat;
     }
 
@@ -40,6 +68,9 @@ public class DateRange {
      * @return the endDateFormat
      */
     public String getEndDateFormat() {
+        if (endDateFormat == null && parsedEndMillis != NO_DATE) {
+            endDateFormat = TimeZoneExtractor.dateFormatter(parsedEndMillis, timeZoneOffset);
+        }
         return endDateFormat;
     }
 
@@ -64,10 +95,34 @@ public class DateRange {
         this.matchType = matchType;
     }
 
+    /**
+     * @return the timeZoneOffset the formatted dates are shown at, null for the system zone
+     */
+    public String getTimeZoneOffset() {
+        return timeZoneOffset;
+    }
+
+    /**
+     * @return the start millis, NO_DATE when there is no start
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * @return the end millis, NO_DATE when there is no end
+     */
+    public long getEndMillis() {
+        return endMillis;
+    }
+
     /**
      * @return the start
      */
     public DateTime getStart() {
+        if (start == null && startMillis != NO_DATE) {
+            start = new DateTime(startMillis);
+        }
         return start;
     }
 
@@ -76,12 +131,16 @@ public class DateRange {
      */
     public void setStart(DateTime start) {
         this.start = start;
+        this.startMillis = start != null ? start.getMillis() : NO_DATE;
     }
 
     /**
      * @return the end
      */
     public DateTime getEnd() {
+        if (end == null && endMillis != NO_DATE) {
+            end = new DateTime(endMillis);
+        }
         return end;
     }
 
@@ -90,5 +149,6 @@ public class DateRange {
      */
     public void setEnd(DateTime end) {
         this.end = end;
+        this.endMillis = end != null ? end.getMillis() : NO_DATE;
     }
 }
@@ -0,0 +1,227 @@
+//$Id$
+package com.zoho.hawking.language.english.model;
+
+import java.time.DateTimeException;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/*
+ * Dates found in many documents, held column wise in parallel primitive arrays
+ *
+ * Each date is a row of document index, start and end offsets in the document, start and end millis
+ * (DateRange.NO_DATE for an open end), offset seconds, parser label code and flags. The text of a date is read
+ * from its document by offsets; only a text that is not the span of the document is kept as a string.
+ * parserOutput(row) and the iterator build ParserOutput views of the rows when they are needed.
+ */
+public class DatesFoundBatch implements Iterable<ParserOutput> {
+
+    public static final int TIME_ZONE_PRESENT = 1;
+
+    public static final int EXACT_TIME_PRESENT = 2;
+
+    public static final int HAS_OFFSET = 4;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<String> documents = new ArrayList<>();
+    private final List<String> labels = new ArrayList<>();
+    private final Map<String, Short> labelCodes = new HashMap<>();
+    private final Map<Integer, String> detachedTexts = new HashMap<>();
+
+    private int size;
+    private int[] documentIndexes = new int[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] startIndexes = new int[INITIAL_CAPACITY];
+    private int[] endIndexes = new int[INITIAL_CAPACITY];
+    private long[] startMillis = new long[INITIAL_CAPACITY];
+    private long[] endMillis = new long[INITIAL_CAPACITY];
+    private int[] offsetSeconds = new int[INITIAL_CAPACITY];
+    private short[] labelCodesOfRows = new short[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+
+    /*
+     * Adds the document and the dates found in it
+     *
+     * returns the index of the document*/
+    public int add(String document, DatesFound datesFound) {
+        int documentIndex = documents.size();
+        documents.add(document);
+        if (datesFound != null && datesFound.getParserOutputs() != null) {
+            for (ParserOutput parserOutput : datesFound.getParserOutputs()) {
+                add(documentIndex, parserOutput);
+            }
+        }
+        return documentIndex;
+    }
+
+    private void add(int documentIndex, ParserOutput parserOutput) {
+        if (size == documentIndexes.length) {
+            grow();
+        }
+        int row = size++;
+        String document = documents.get(documentIndex);
+        String text = parserOutput.getText();
+        int start = parserOutput.getParserStartIndex() != null ? parserOutput.getParserStartIndex() : -1;
+        int end = parserOutput.getParserEndIndex() != null ? parserOutput.getParserEndIndex() : -1;
+        documentIndexes[row] = documentIndex;
+        ids[row] = parserOutput.getId() != null ? parserOutput.getId() : 0;
+        startIndexes[row] = start;
+        endIndexes[row] = end;
+        if (text != null && !isSpanOf(document, start, end, text)) {
+            detachedTexts.put(row, text);
+        }
+        DateRange dateRange = parserOutput.getDateRange();
+        startMillis[row] = dateRange != null ? dateRange.getStartMillis() : DateRange.NO_DATE;
+        endMillis[row] = dateRange != null ? dateRange.getEndMillis() : DateRange.NO_DATE;
+        labelCodesOfRows[row] = labelCodeOf(parserOutput.getParserLabel());
+        int rowFlags = 0;
+        if (Boolean.TRUE.equals(parserOutput.getIsTimeZonePresent())) {
+            rowFlags |= TIME_ZONE_PRESENT;
+        }
+        if (Boolean.TRUE.equals(parserOutput.getIsExactTimePresent())) {
+            rowFlags |= EXACT_TIME_PRESENT;
+        }
+        if (parserOutput.getTimezoneOffset() != null) {
+            try {
+                offsetSeconds[row] = ZoneOffset.of(parserOutput.getTimezoneOffset()).getTotalSeconds();
+                rowFlags |= HAS_OFFSET;
+            } catch (DateTimeException e) {
+                //Not an offset, the row has none
+            }
+        }
+        flags[row] = (byte) rowFlags;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getDocumentCount() {
+        return documents.size();
+    }
+
+    public String getDocument(int documentIndex) {
+        return documents.get(documentIndex);
+    }
+
+    public int getDocumentIndex(int row) {
+        return documentIndexes[checkRow(row)];
+    }
+
+    public int getStartIndex(int row) {
+        return startIndexes[checkRow(row)];
+    }
+
+    public int getEndIndex(int row) {
+        return endIndexes[checkRow(row)];
+    }
+
+    public long getStartMillis(int row) {
+        return startMillis[checkRow(row)];
+    }
+
+    public long getEndMillis(int row) {
+        return endMillis[checkRow(row)];
+    }
+
+    public int getOffsetSeconds(int row) {
+        return offsetSeconds[checkRow(row)];
+    }
+
+    public int getLabelCode(int row) {
+        return labelCodesOfRows[checkRow(row)];
+    }
+
+    public String getLabel(int labelCode) {
+        return labelCode < 0 ? null : labels.get(labelCode);
+    }
+
+    public int getFlags(int row) {
+        return flags[checkRow(row)];
+    }
+
+    public String getText(int row) {
+        String text = detachedTexts.get(checkRow(row));
+        return (text != null || startIndexes[row] < 0) ? text : documents.get(documentIndexes[row]).substring(startIndexes[row], endIndexes[row]);
+    }
+
+    /*
+     * returns a new ParserOutput with the values of the row, without recognizer outputs*/
+    public ParserOutput parserOutput(int row) {
+        int rowFlags = getFlags(row);
+        String offset = (rowFlags & HAS_OFFSET) != 0 ? offsetId(offsetSeconds[row]) : null;
+        ParserOutput parserOutput = new ParserOutput();
+        parserOutput.setId(ids[row]);
+        parserOutput.setDateRange(new DateRange("", startMillis[row], endMillis[row], offset)); //No I18N
+        parserOutput.setParserLabel(getLabel(labelCodesOfRows[row]));
+        parserOutput.setParserStartIndex(startIndexes[row]);
+        parserOutput.setParserEndIndex(endIndexes[row]);
+        parserOutput.setText(getText(row));
+        parserOutput.setIsTimeZonePresent((rowFlags & TIME_ZONE_PRESENT) != 0);
+        parserOutput.setIsExactTimePresent((rowFlags & EXACT_TIME_PRESENT) != 0);
+        parserOutput.setTimezoneOffset(offset);
+        return parserOutput;
+    }
+
+    @Override
+    public Iterator<ParserOutput> iterator() {
+        return new Iterator<ParserOutput>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return row < size;
+            }
+
+            @Override
+            public ParserOutput next() {
+                if (row >= size) {
+                    throw new NoSuchElementException();
+                }
+                return parserOutput(row++);
+            }
+        };
+    }
+
+    private static boolean isSpanOf(String document, int start, int end, String text) {
+        return document != null && start >= 0 && end - start == text.length() && end <= document.length()
+                && document.regionMatches(start, text, 0, text.length());
+    }
+
+    private static String offsetId(int offsetSeconds) {
+        return offsetSeconds == 0 ? "+00:00" : ZoneOffset.ofTotalSeconds(offsetSeconds).getId(); //No I18N
+    }
+
+    private short labelCodeOf(String label) {
+        if (label == null) {
+            return -1;
+        }
+        Short code = labelCodes.get(label);
+        if (code == null) {
+            code = (short) labels.size();
+            labels.add(label);
+            labelCodes.put(label, code);
+        }
+        return code;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size); //No I18N
+        }
+        return row;
+    }
+
+    private void grow() {
+        int capacity = documentIndexes.length * 2;
+        documentIndexes = Arrays.copyOf(documentIndexes, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        startIndexes = Arrays.copyOf(startIndexes, capacity);
+        endIndexes = Arrays.copyOf(endIndexes, capacity);
+        startMillis = Arrays.copyOf(startMillis, capacity);
+        endMillis = Arrays.copyOf(endMillis, capacity);
+        offsetSeconds = Arrays.copyOf(offsetSeconds, capacity);
+        labelCodesOfRows = Arrays.copyOf(labelCodesOfRows, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+}
@@ -1,6 +1,9 @@
 //$Id$
 package com.zoho.hawking.language.english.model;
 
+import edu.stanford.nlp.util.Triple;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public class ParserOutput {
@@ -15,6 +18,8 @@ public class ParserOutput {
     private String timezoneOffset;
     private Integer parserEndIndex;
     private List<RecognizerOutput> recognizerOutputs;
+    private String recognizedText;
+    private List<Triple<String, Integer, Integer>> recognizerOffsets;
 
     public ParserOutput() {
     }
@@ -105,11 +110,48 @@ public class ParserOutput {
     }
 
     public List<RecognizerOutput> getRecognizerOutputs() {
+        if (recognizerOutputs == null && recognizerOffsets != null) {
+            List<RecognizerOutput> outputs = new ArrayList<>(recognizerOffsets.size());
+            for (Triple<String, Integer, Integer> recognizerOffset : recognizerOffsets) {
+                outputs.add(new RecognizerOutput(recognizerOffset.first, recognizerOffset.second, recognizerOffset.third,
+                    recognizedText.substring(recognizerOffset.second, recognizerOffset.third)));
+            }
+            recognizerOutputs = outputs;
+        }
         return recognizerOutputs;
     }
 
     public void setRecognizerOutputs(
         List<RecognizerOutput> recognizerOutputs) {
         this.recognizerOutputs = recognizerOutputs;
+        this.recognizerOffsets = null;
+    }
+
+    /*
+     * Keeps the recognizer labels with their offsets in the recognized text, the RecognizerOutputs are built
+     * when they are read*/
+    public void setRecognizerOffsets(String recognizedText, List<Triple<String, Integer, Integer>> recognizerOffsets) {
+        this.recognizedText = recognizedText;
+        this.recognizerOffsets = recognizerOffsets;
+        this.recognizerOutputs = null;
+    }
+
+    public boolean containsRecognizerLabel(String label) {
+        if (recognizerOutputs == null && recognizerOffsets != null) {
+            for (Triple<String, Integer, Integer> recognizerOffset : recognizerOffsets) {
+                if (recognizerOffset.first.contains(label)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (recognizerOutputs != null) {
+            for (RecognizerOutput recognizerOutput : recognizerOutputs) {
+                if (recognizerOutput.getRecognizerLabel().contains(label)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 }
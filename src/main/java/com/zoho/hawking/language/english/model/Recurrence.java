@@ -0,0 +1,326 @@
+//$Id$
+package com.zoho.hawking.language.english.model;
+
+import com.zoho.hawking.utils.ZoneOffsetCache;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * Occurrences of a repeated date, the first occurrence moved on by a calendar step
+ *
+ * The parsers keep each repeat period as the millis of its first span, so a month is 28 to 31 days long.
+ * The shortest period of a RepeatPeriod is read back as a step of hours, days or months. Occurrence k is the first
+ * occurrence moved by k steps: steps of days and months move the local date and keep the wall clock, steps of hours
+ * move the instant. The wall clock is read at the fixed offset of the DateRange; when it has none, it is read in the
+ * system zone and each occurrence is turned back into an instant with the offset the zone has at it, so every day
+ * at 9 stays at 9 across a daylight saving change. A wall clock the change skips is moved on by the gap, a wall
+ * clock it repeats takes the earlier offset, as ZonedDateTime does. A day of month past the end of a shorter month is
+ * moved to its last day, as plusMonths does. Each occurrence is computed from the first one, nothing is kept between
+ * occurrences.
+ */
+public final class Recurrence {
+
+    private static final long HOUR_MILLIS = 3600000L;
+    private static final long DAY_MILLIS = 86400000L;
+    private static final double MONTH_DAYS = 30.436875;
+
+    private final String matchType;
+    private final String timeZoneOffset;
+    private final ZoneId zone;
+    private final long offsetMillis;
+    private final long startMillis;
+    private final long endMillis;
+    private final long stepMillis;
+    private final int stepMonths;
+    private final long limit;
+
+    private final int startYear;
+    private final int startMonth;
+    private final int startDay;
+    private final long startMillisOfDay;
+    private final long startLocal;
+    private final int endYear;
+    private final int endMonth;
+    private final int endDay;
+    private final long endMillisOfDay;
+    private final long endLocal;
+
+    /*
+     * firstOccurrence - the parsed range, its start is the first occurrence
+     * limit - number of occurrences, -1 when the repetition does not end*/
+    private Recurrence(DateRange firstOccurrence, int stepMonths, long stepMillis, long limit) {
+        this.matchType = firstOccurrence.getMatchType();
+        this.timeZoneOffset = firstOccurrence.getTimeZoneOffset();
+        this.startMillis = firstOccurrence.getStartMillis();
+        this.endMillis = firstOccurrence.getEndMillis();
+        this.zone = fixedOffsetMillis(timeZoneOffset) == null ? ZoneId.systemDefault() : null;
+        this.offsetMillis = offsetMillisAt(startMillis);
+        this.stepMonths = stepMonths;
+        this.stepMillis = stepMonths > 0 ? 0 : stepMillis;
+        this.limit = limit;
+        startLocal = startMillis + offsetMillis;
+        long startEpochDay = Math.floorDiv(startLocal, DAY_MILLIS);
+        int[] startDate = civilFromDays(startEpochDay);
+        startYear = startDate[0];
+        startMonth = startDate[1];
+        startDay = startDate[2];
+        startMillisOfDay = startLocal - startEpochDay * DAY_MILLIS;
+        if (endMillis != DateRange.NO_DATE) {
+            endLocal = endMillis + offsetMillisAt(endMillis);
+            long endEpochDay = Math.floorDiv(endLocal, DAY_MILLIS);
+            int[] endDate = civilFromDays(endEpochDay);
+            endYear = endDate[0];
+            endMonth = endDate[1];
+            endDay = endDate[2];
+            endMillisOfDay = endLocal - endEpochDay * DAY_MILLIS;
+        } else {
+            endYear = 0;
+            endMonth = 0;
+            endDay = 0;
+            endMillisOfDay = 0;
+            endLocal = 0;
+        }
+    }
+
+    /*
+     * returns null when the period is empty or the range has no start*/
+    public static Recurrence of(DateRange firstOccurrence, RepeatPeriod repeatPeriod, long limit) {
+        if (firstOccurrence == null || repeatPeriod == null || firstOccurrence.getStartMillis() == DateRange.NO_DATE) {
+            return null;
+        }
+        long periodMillis = shortestPeriod(repeatPeriod);
+        if (periodMillis <= 0) {
+            return null;
+        }
+        long days = Math.round((double) periodMillis / DAY_MILLIS);
+        if (periodMillis < DAY_MILLIS - 2 * HOUR_MILLIS) {
+            return new Recurrence(firstOccurrence, 0, Math.max(1, Math.round((double) periodMillis / HOUR_MILLIS)) * HOUR_MILLIS, limit);
+        } else if (days < 28) {
+            return new Recurrence(firstOccurrence, 0, days * DAY_MILLIS, limit);
+        }
+        return new Recurrence(firstOccurrence, (int) Math.round(days / MONTH_DAYS), 0, limit);
+    }
+
+    /*
+     * stepMonths - months between two occurrences, 0 for a step of stepMillis
+     *
+     * returns null when there is no step or the range has no start*/
+    public static Recurrence of(DateRange firstOccurrence, int stepMonths, long stepMillis, long limit) {
+        if (firstOccurrence == null || firstOccurrence.getStartMillis() == DateRange.NO_DATE || (stepMonths <= 0 && stepMillis <= 0)) {
+            return null;
+        }
+        return new Recurrence(firstOccurrence, Math.max(stepMonths, 0), stepMillis, limit);
+    }
+
+    /*
+     * returns the first occurrence*/
+    public DateRange getFirstOccurrence() {
+        return occurrence(0);
+    }
+
+    /*
+     * returns the month of the first start, 1 for January, on the wall clock of the occurrences*/
+    public int getStartMonth() {
+        return startMonth;
+    }
+
+    /*
+     * returns the day of month of the first start on the wall clock of the occurrences*/
+    public int getStartDayOfMonth() {
+        return startDay;
+    }
+
+    /*
+     * returns the day of week of the first start on the wall clock of the occurrences, 1 for Monday to 7 for Sunday*/
+    public int getStartDayOfWeek() {
+        return (int) Math.floorMod(Math.floorDiv(startMillis + offsetMillis, DAY_MILLIS) + 3, 7L) + 1;
+    }
+
+    /*
+     * returns the number of occurrences, -1 when the repetition does not end*/
+    public long getLimit() {
+        return limit;
+    }
+
+    /*
+     * returns the months between two occurrences, 0 when the step is of fixed length*/
+    public int getStepMonths() {
+        return stepMonths;
+    }
+
+    /*
+     * returns the millis between two occurrences, 0 when the step is of months*/
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    /*
+     * returns the start of occurrence k, the first occurrence being 0*/
+    public long startOf(long k) {
+        if (stepMonths == 0) {
+            return stepsInstant() ? startMillis + k * stepMillis : toEpochMillis(startLocal + k * stepMillis);
+        }
+        return plusMonths(startYear, startMonth, startDay, startMillisOfDay, k * stepMonths);
+    }
+
+    /*
+     * returns the end of occurrence k, NO_DATE when the first occurrence has no end*/
+    public long endOf(long k) {
+        if (endMillis == DateRange.NO_DATE) {
+            return DateRange.NO_DATE;
+        }
+        if (stepMonths == 0) {
+            return stepsInstant() ? endMillis + k * stepMillis : toEpochMillis(endLocal + k * stepMillis);
+        }
+        return plusMonths(endYear, endMonth, endDay, endMillisOfDay, k * stepMonths);
+    }
+
+    /*
+     * returns the first occurrence starting after the instant, k of the occurrence, -1 when there is none*/
+    public long indexAfter(long epochMillis) {
+        long k;
+        if (epochMillis < startMillis) {
+            k = 0;
+        } else if (stepMonths == 0 && stepsInstant()) {
+            k = Math.floorDiv(epochMillis - startMillis, stepMillis) + 1;
+        } else {
+            double approximateStep = stepMonths > 0 ? stepMonths * MONTH_DAYS * DAY_MILLIS : stepMillis;
+            k = (long) ((epochMillis - startMillis) / approximateStep);
+            while (startOf(k) <= epochMillis) {
+                k++;
+            }
+            while (k > 0 && startOf(k - 1) > epochMillis) {
+                k--;
+            }
+        }
+        return (limit >= 0 && k >= limit) ? -1 : k;
+    }
+
+    /*
+     * returns the start of the first occurrence after the instant, NO_DATE when there is none*/
+    public long nextOccurrenceAfter(long epochMillis) {
+        long k = indexAfter(epochMillis);
+        return k < 0 ? DateRange.NO_DATE : startOf(k);
+    }
+
+    public DateRange occurrence(long k) {
+        return new DateRange(matchType, startOf(k), endOf(k), timeZoneOffset);
+    }
+
+    /*
+     * Occurrences starting at or after from and before to, each built when it is reached*/
+    public Iterator<DateRange> occurrences(long fromMillis, long toMillis) {
+        long first = fromMillis == Long.MIN_VALUE ? 0 : indexAfter(fromMillis - 1);
+        return new Iterator<DateRange>() {
+            private long k = first;
+
+            @Override
+            public boolean hasNext() {
+                return k >= 0 && (limit < 0 || k < limit) && startOf(k) < toMillis;
+            }
+
+            @Override
+            public DateRange next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return occurrence(k++);
+            }
+        };
+    }
+
+    private static long shortestPeriod(RepeatPeriod repeatPeriod) {
+        long shortest = 0;
+        for (long period : new long[]{repeatPeriod.getYears(), repeatPeriod.getMonths(), repeatPeriod.getWeeks(),
+                repeatPeriod.getDays(), repeatPeriod.getHour(), repeatPeriod.getCustomDate()}) {
+            if (period > 0 && (shortest == 0 || period < shortest)) {
+                shortest = period;
+            }
+        }
+        return shortest;
+    }
+
+    /*
+     * returns the millis of the offset, null when it is not a fixed offset*/
+    private static Long fixedOffsetMillis(String timeZoneOffset) {
+        if (timeZoneOffset != null) {
+            try {
+                return ZoneOffset.of(timeZoneOffset).getTotalSeconds() * 1000L;
+            } catch (DateTimeException e) {
+                //Not an offset, the system zone is used
+            }
+        }
+        return null;
+    }
+
+    private long offsetMillisAt(long epochMillis) {
+        return zone == null ? fixedOffsetMillis(timeZoneOffset) : ZoneOffsetCache.offsetAt(zone, epochMillis).getTotalSeconds() * 1000L;
+    }
+
+    /*
+     * Steps of hours, and every step at a fixed offset, are the same on the wall clock and on the instant*/
+    private boolean stepsInstant() {
+        return zone == null || stepMillis % DAY_MILLIS != 0;
+    }
+
+    /*
+     * Instant of a wall clock, given as millis since 1970-01-01T00:00 on that clock. The offsets a day before and
+     * after are the two the wall clock can have, transitions being further apart than that.*/
+    private long toEpochMillis(long localMillis) {
+        if (zone == null) {
+            return localMillis - offsetMillis;
+        }
+        long offsetBefore = offsetMillisAt(localMillis - DAY_MILLIS);
+        long offsetAfter = offsetMillisAt(localMillis + DAY_MILLIS);
+        if (offsetBefore != offsetAfter && offsetMillisAt(localMillis - offsetBefore) != offsetBefore
+                && offsetMillisAt(localMillis - offsetAfter) == offsetAfter) {
+            return localMillis - offsetAfter;
+        }
+        return localMillis - offsetBefore;
+    }
+
+    private long plusMonths(int year, int month, int day, long millisOfDay, long months) {
+        long monthIndex = year * 12L + (month - 1) + months;
+        int targetYear = (int) Math.floorDiv(monthIndex, 12L);
+        int targetMonth = (int) Math.floorMod(monthIndex, 12L) + 1;
+        int targetDay = Math.min(day, lengthOfMonth(targetYear, targetMonth));
+        return toEpochMillis(daysFromCivil(targetYear, targetMonth, targetDay) * DAY_MILLIS + millisOfDay);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    /*
+     * Days since 1970-01-01 of a proleptic Gregorian date*/
+    static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /*
+     * year, month and day of the days since 1970-01-01*/
+    static int[] civilFromDays(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097L);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return new int[]{year, month, day};
+    }
+}
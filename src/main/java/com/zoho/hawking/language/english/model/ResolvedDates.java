@@ -0,0 +1,74 @@
+//$Id$
+package com.zoho.hawking.language.english.model;
+
+import java.util.Arrays;
+
+/*
+ * The dates of one compiled expression resolved against many reference dates
+ *
+ * A row per date of the expression, a column per reference date; each row is a pair of primitive arrays of start and
+ * end millis, DateRange.NO_DATE for an open end or a date that was not resolved.
+ */
+public class ResolvedDates {
+
+    private final long[][] starts;
+    private final long[][] ends;
+    private int resolutionCount;
+
+    public ResolvedDates(int dateCount, int size) {
+        starts = new long[dateCount][size];
+        ends = new long[dateCount][size];
+        for (int date = 0; date < dateCount; date++) {
+            Arrays.fill(starts[date], DateRange.NO_DATE);
+            Arrays.fill(ends[date], DateRange.NO_DATE);
+        }
+    }
+
+    /*
+     * returns the number of dates of the expression*/
+    public int getDateCount() {
+        return starts.length;
+    }
+
+    /*
+     * returns the number of reference dates*/
+    public int size() {
+        return starts.length == 0 ? 0 : starts[0].length;
+    }
+
+    /*
+     * returns the starts of the date for each reference date, the array is not copied*/
+    public long[] getStarts(int date) {
+        return starts[date];
+    }
+
+    /*
+     * returns the ends of the date for each reference date, the array is not copied*/
+    public long[] getEnds(int date) {
+        return ends[date];
+    }
+
+    public void set(int date, int reference, long startMillis, long endMillis) {
+        starts[date][reference] = startMillis;
+        ends[date][reference] = endMillis;
+    }
+
+    /*
+     * Copies the dates resolved for one reference date to another with the same wall clock and offset*/
+    public void copy(int fromReference, int toReference) {
+        for (int date = 0; date < starts.length; date++) {
+            starts[date][toReference] = starts[date][fromReference];
+            ends[date][toReference] = ends[date][fromReference];
+        }
+    }
+
+    /*
+     * returns the number of times the date time parsers were run*/
+    public int getResolutionCount() {
+        return resolutionCount;
+    }
+
+    public void addResolution() {
+        resolutionCount++;
+    }
+}
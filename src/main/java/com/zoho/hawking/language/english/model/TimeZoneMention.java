@@ -0,0 +1,28 @@
+package com.zoho.hawking.language.english.model;
+
+public class TimeZoneMention {
+
+    private final String timeZone;
+    private final int start;
+    private final int end;
+
+    public TimeZoneMention(String timeZone, int start, int end) {
+        this.timeZone = timeZone;
+        this.start = start;
+        this.end = end;
+    }
+
+    /*
+     * Time zone as written in TimeZoneExtractor.timeZoneList*/
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+}
@@ -1,6 +1,7 @@
 package com.zoho.hawking.language.english.tagpredictor;
 
 import com.zoho.hawking.utils.Constants;
+import com.zoho.hawking.utils.ParseScratch;
 import edu.stanford.nlp.util.Triple;
 
 import java.util.ArrayList;
@@ -9,14 +10,28 @@ import java.util.Locale;
 
 public class TagPredictor {
 
-    public static int getIndexOfPattern(String matchedPattern, String inputTagPattern) {
+    private static final List<String> CUSTOM_QUARTER_PATTERNS = getPattern(TagConstants.CUSTOM_QUARTER_LIST);
+    private static final List<String> CUSTOM_HALF_YEAR_PATTERNS = getPattern(TagConstants.CUSTOM_HALF_YEAR_LIST);
+    private static final List<String> CUSTOM_YEAR_PATTERNS = getPattern(TagConstants.CUSTOM_YEAR_LIST);
+    private static final List<String> DAY_SPAN_PATTERNS = getPattern(TagConstants.DAY_SPAN_LIST);
+    private static final List<String> DAY_WEEK_PATTERNS = getPattern(TagConstants.DAY_WEEK_LIST);
+    private static final List<String> CURRENT_DAY_PATTERNS = getPattern(TagConstants.CURRENT_DAY_LIST);
+    private static final List<String> EXACT_DATE_PATTERNS = getPattern(TagConstants.EXACT_DATE_LIST);
+    private static final List<String> EXACT_TIME_PATTERNS = getPattern(TagConstants.EXACT_TIME_LIST);
+    private static final List<String> HOUR_SPAN_PATTERNS = getPattern(TagConstants.HOUR_SPAN_LIST);
+    private static final List<String> PART_OF_DAY_PATTERNS = getPattern(TagConstants.PART_OF_DAY_LIST);
+    private static final List<String> MINUTE_SPAN_PATTERNS = getPattern(TagConstants.MINUTE_SPAN_LIST);
+    private static final List<String> MONTH_OF_YEAR_SPAN_PATTERNS = getPattern(TagConstants.MONTH_OF_YEAR_SPAN_LIST);
+    private static final List<String> MONTH_SPAN_PATTERNS = getPattern(TagConstants.MONTH_SPAN_LIST);
+    private static final List<String> SECOND_SPAN_PATTERNS = getPattern(TagConstants.SECOND_SPAN_LIST);
+    private static final List<String> WEEK_SPAN_PATTERNS = getPattern(TagConstants.WEEK_SPAN_LIST);
+    private static final List<String> EXACT_YEAR_SPAN_PATTERNS = getPattern(TagConstants.EXACT_YEAR_SPAN_LIST);
+    private static final List<String> YEAR_SPAN_PATTERNS = getPattern(TagConstants.YEAR_SPAN_LIST);
 
+    public static int getIndexOfPattern(String matchedPattern, String inputTagPattern) {
         int indexOfPattern = inputTagPattern.indexOf(matchedPattern);
         if (indexOfPattern != -1 && indexOfPattern != 0) {
-            return inputTagPattern
-                    .substring(0, indexOfPattern)
-                    .split(Constants.MULTIPLE_SPACE_STRING)
-                    .length;
+            return ParseScratch.tokenCount(inputTagPattern, indexOfPattern);
         }
         return 0;
     }
@@ -35,7 +50,12 @@ public class TagPredictor {
     }
 
     public static ArrayList<String> getInputTagList(List<Triple<String, Integer, Integer>> tagList) {
-        ArrayList<String> inputTagList = new ArrayList<>();
+        return getInputTagList(tagList, new ArrayList<>());
+    }
+
+    /*
+     * Adds the tags of the triples to inputTagList, a list taken from the ParseScratch when it is not kept*/
+    public static ArrayList<String> getInputTagList(List<Triple<String, Integer, Integer>> tagList, ArrayList<String> inputTagList) {
         for (Triple<String, Integer, Integer> tagTriple : tagList) {
             String eachTag = tagTriple.first;
             inputTagList.add(eachTag);
@@ -44,7 +64,7 @@ public class TagPredictor {
     }
 
     public static String getInputTagPattern(ArrayList<String> inputTagList) {
-        StringBuilder inputTagPattern = new StringBuilder();
+        StringBuilder inputTagPattern = ParseScratch.get().builder();
         int tagSize = inputTagList.size();
         for (int i = 0; i < tagSize; i++) {
             String eachTag = inputTagList.get(i);
@@ -68,16 +88,16 @@ public class TagPredictor {
 
     public static String getOutputString(String input, List<Triple<String, Integer, Integer>> tagList,
                                          String matchedPattern, int inputTagCountTillSubstring) {
-        StringBuilder finalYearString = new StringBuilder();
-        int matchedPatternTagCount = matchedPattern.split(Constants.MULTIPLE_SPACE_STRING).length;
+        StringBuilder finalYearString = ParseScratch.get().builder();
+        int matchedPatternTagCount = ParseScratch.tokenCount(matchedPattern, matchedPattern.length());
         Triple<String, Integer, Integer> yearTriplet;
         int iterator = 0;
         while (iterator < matchedPatternTagCount) {
             yearTriplet = tagList.get(inputTagCountTillSubstring);
-            String initialTag = Constants.START_OPENING_TAG + yearTriplet.first + Constants.END_OPENING_TAG;
-            String totalWord = input.substring(yearTriplet.second, yearTriplet.third);
-            String finalTag = Constants.START_CLOSING_TAG + yearTriplet.first + Constants.END_CLOSING_TAG;
-            finalYearString.append(initialTag).append(totalWord).append(finalTag).append(Constants.SPACE_STRING);
+            finalYearString.append(Constants.START_OPENING_TAG).append(yearTriplet.first).append(Constants.END_OPENING_TAG)
+                    .append(input, yearTriplet.second, yearTriplet.third)
+                    .append(Constants.START_CLOSING_TAG).append(yearTriplet.first).append(Constants.END_CLOSING_TAG)
+                    .append(Constants.SPACE_STRING);
             iterator++;
             inputTagCountTillSubstring++;
         }
@@ -86,19 +106,13 @@ public class TagPredictor {
 
     public static String customPredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                          ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> customQuarterPattern = getPattern(TagConstants.CUSTOM_QUARTER_LIST);
-        ArrayList<String> customHalfYearPattern = getPattern(TagConstants.CUSTOM_HALF_YEAR_LIST);
-        ArrayList<String> customYearPattern = getPattern(TagConstants.CUSTOM_YEAR_LIST);
-
-
         String matchedPattern;
         if (inputTagList.contains(Constants.QUARTEROFYEAR)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, customQuarterPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, CUSTOM_QUARTER_PATTERNS);
         } else if (inputTagList.contains(Constants.HALFOFYEAR)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, customHalfYearPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, CUSTOM_HALF_YEAR_PATTERNS);
         } else if (inputTagList.contains(Constants.CUSTOMYEAR)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, customYearPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, CUSTOM_YEAR_PATTERNS);
         } else {
             return null;
         }
@@ -113,18 +127,14 @@ public class TagPredictor {
 
     public static String dayPredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                       ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> daySpanTagPattern = getPattern(TagConstants.DAY_SPAN_LIST);
-        ArrayList<String> dayWeekPattern = getPattern(TagConstants.DAY_WEEK_LIST);
-        ArrayList<String> currentDayPattern = getPattern(TagConstants.CURRENT_DAY_LIST);
         String matchedPattern;
 
         if (inputTagList.contains(Constants.DAY_OF_WEEK_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, dayWeekPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, DAY_WEEK_PATTERNS);
         } else if (inputTagList.contains(Constants.DAY_SPAN_TAG) || inputTagList.contains(Constants.SET_DAY_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, daySpanTagPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, DAY_SPAN_PATTERNS);
         } else if (inputTagList.contains(Constants.CURRENT_DAY_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, currentDayPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, CURRENT_DAY_PATTERNS);
         } else {
             return null;
         }
@@ -138,13 +148,10 @@ public class TagPredictor {
 
     public static String datePredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                        ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> exactDatePattern = getPattern(TagConstants.EXACT_DATE_LIST);
-
         String matchedPattern;
 
         if (inputTagList.contains(Constants.EXACT_DATE_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, exactDatePattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, EXACT_DATE_PATTERNS);
         } else {
             return null;
         }
@@ -159,12 +166,9 @@ public class TagPredictor {
 
     public static String exactTimePredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                             ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> exactTimePattern = getPattern(TagConstants.EXACT_TIME_LIST);
-
         String matchedPattern;
         if (inputTagList.contains(Constants.EXACT_TIME_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, exactTimePattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, EXACT_TIME_PATTERNS);
         } else {
             return null;
         }
@@ -179,15 +183,12 @@ public class TagPredictor {
 
     public static String hourPredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                        ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> hourSpanPattern = getPattern(TagConstants.HOUR_SPAN_LIST);
-        ArrayList<String> partOfDayPattern = getPattern(TagConstants.PART_OF_DAY_LIST);
         String matchedPattern;
 
         if (inputTagList.contains(Constants.HOUR_SPAN_TAG) || inputTagList.contains(Constants.SET_HOUR_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, hourSpanPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, HOUR_SPAN_PATTERNS);
         } else if (inputTagList.contains(Constants.PART_OF_DAY_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, partOfDayPattern);
+            matchedPattern = getMatchedPattern(inputTagPattern, PART_OF_DAY_PATTERNS);
         } else {
             return null;
         }
@@ -201,12 +202,10 @@ public class TagPredictor {
 
     public static String minutePredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                          ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> minutePatterns = getPattern(TagConstants.MINUTE_SPAN_LIST);
         String matchedPattern;
 
         if (inputTagList.contains(Constants.MINUTE_SPAN_TAG) || inputTagList.contains(Constants.SET_MINUTE_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, minutePatterns);
+            matchedPattern = getMatchedPattern(inputTagPattern, MINUTE_SPAN_PATTERNS);
         } else {
             return null;
         }
@@ -220,17 +219,13 @@ public class TagPredictor {
 
     public static String monthPredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                         ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> monthOfYearSpanPatterns = getPattern(TagConstants.MONTH_OF_YEAR_SPAN_LIST);
-        ArrayList<String> monthSpanPatterns = getPattern(TagConstants.MONTH_SPAN_LIST);
-
         String matchedPattern;
 
         if (inputTagList.contains(Constants.MONTH_OF_YEAR_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, monthOfYearSpanPatterns);
+            matchedPattern = getMatchedPattern(inputTagPattern, MONTH_OF_YEAR_SPAN_PATTERNS);
         } else if (inputTagList.contains(Constants.MONTH_SPAN_TAG) ||
                 inputTagList.contains(Constants.SET_MONTH_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, monthSpanPatterns);
+            matchedPattern = getMatchedPattern(inputTagPattern, MONTH_SPAN_PATTERNS);
         } else {
             return null;
         }
@@ -244,13 +239,10 @@ public class TagPredictor {
 
     public static String secondPredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                          ArrayList<String> inputTagList, String inputTagPattern) {
-
-        ArrayList<String> secondPatterns = getPattern(TagConstants.SECOND_SPAN_LIST);
-
         String matchedPattern;
 
         if (inputTagList.contains(Constants.SECOND_SPAN_TAG) || inputTagList.contains(Constants.SET_SECOND_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, secondPatterns);
+            matchedPattern = getMatchedPattern(inputTagPattern, SECOND_SPAN_PATTERNS);
         } else {
             return null;
         }
@@ -264,11 +256,10 @@ public class TagPredictor {
 
     public static String weekPredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                        ArrayList<String> inputTagList, String inputTagPattern) {
-        ArrayList<String> weekPatterns = getPattern(TagConstants.WEEK_SPAN_LIST);
         String matchedPattern;
 
         if (inputTagList.contains(Constants.WEEK_SPAN_TAG) || inputTagList.contains(Constants.SET_WEEK_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, weekPatterns);
+            matchedPattern = getMatchedPattern(inputTagPattern, WEEK_SPAN_PATTERNS);
         } else {
             return null;
         }
@@ -282,16 +273,13 @@ public class TagPredictor {
 
     public static String yearPredictor(String input, List<Triple<String, Integer, Integer>> tagList,
                                        ArrayList<String> inputTagList, String inputTagPattern) {
-        ArrayList<String> exactYearPatterns = getPattern(TagConstants.EXACT_YEAR_SPAN_LIST);
-        ArrayList<String> yearSpanPatterns = getPattern(TagConstants.YEAR_SPAN_LIST);
-
         String matchedPattern;
 
         if (inputTagList.contains(Constants.EXACT_YEAR_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, exactYearPatterns);
+            matchedPattern = getMatchedPattern(inputTagPattern, EXACT_YEAR_SPAN_PATTERNS);
         } else if (inputTagList.contains(Constants.YEAR_SPAN_TAG) ||
                 inputTagList.contains(Constants.SET_YEAR_TAG)) {
-            matchedPattern = getMatchedPattern(inputTagPattern, yearSpanPatterns);
+            matchedPattern = getMatchedPattern(inputTagPattern, YEAR_SPAN_PATTERNS);
         } else {
             return null;
         }
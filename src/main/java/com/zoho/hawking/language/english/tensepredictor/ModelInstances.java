@@ -2,20 +2,18 @@
 package com.zoho.hawking.language.english.tensepredictor;
 
 
+import com.zoho.hawking.language.LazyModel;
 import edu.stanford.nlp.tagger.maxent.MaxentTagger;
 
 
 public class ModelInstances {
 
-  private static MaxentTagger tagger;
+  public static final String TAGGER_PATH = "tense/english-left3words-distsim.tagger"; //No I18N
 
-  static {
-    String taggerPath = "tense/english-left3words-distsim.tagger"; //No I18N
-    tagger = new MaxentTagger(taggerPath);
-  }
+  public static final LazyModel<MaxentTagger> TAGGER = new LazyModel<>(() -> new MaxentTagger(TAGGER_PATH));
 
   public static MaxentTagger getMaxentTaggerInstance() {
-    return tagger;
+    return TAGGER.get();
   }
 
 }
@@ -13,7 +13,6 @@ import edu.stanford.nlp.process.CoreLabelTokenFactory;
 import edu.stanford.nlp.process.DocumentPreprocessor;
 import edu.stanford.nlp.process.PTBTokenizer;
 import edu.stanford.nlp.process.WordToSentenceProcessor;
-import edu.stanford.nlp.tagger.maxent.MaxentTagger;
 
 import java.io.StringReader;
 import java.util.ArrayList;
@@ -59,8 +58,6 @@ public class CoreNlpUtils {
           TenseClass.FUTURE.name());
   private static final Tense DEFAULT_TENSE = new Tense("");
 
-  private static MaxentTagger tagger = ModelInstances.getMaxentTaggerInstance();
-
   public static List<String> sentenceTokenize(String inputPara) {
     List<CoreLabel> tokens = new ArrayList<>();
     PTBTokenizer<CoreLabel> tokenizer = new PTBTokenizer<>(new StringReader(inputPara),
@@ -91,7 +88,7 @@ public class CoreNlpUtils {
     Pair<String, String> pos_words = null;
     DocumentPreprocessor tokenizer = new DocumentPreprocessor(new StringReader(sentence));
     List<HasWord> document = tokenizer.iterator().next();
-    List<TaggedWord> tagged = tagger.tagSentence(document);
+    List<TaggedWord> tagged = ModelInstances.getMaxentTaggerInstance().tagSentence(document);
     for (int i = 0; i < tagged.size(); i++) {
       String pos = tagged.get(i).tag();
       String word = tagged.get(i).word();
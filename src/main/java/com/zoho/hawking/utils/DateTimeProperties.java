@@ -4,13 +4,16 @@ package com.zoho.hawking.utils;
 import com.zoho.hawking.HawkingTimeParser;
 import com.zoho.hawking.language.english.Recognizer;
 import com.zoho.hawking.datetimeparser.DateAndTime;
-import com.zoho.hawking.datetimeparser.utils.NumberParser;
+import com.zoho.hawking.datetimeparser.configuration.Configuration;
+import com.zoho.hawking.datetimeparser.configuration.DetailLevel;
+import com.zoho.hawking.datetimeparser.constants.ConfigurationConstants;
+import com.zoho.hawking.datetimeparser.utils.NumberNormalizer;
+import com.zoho.hawking.datetimeparser.utils.NumberNormalizer.NormalizedText;
 import com.zoho.hawking.language.english.model.*;
 import edu.stanford.nlp.util.Triple;
 import org.joda.time.DateTime;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -29,12 +32,12 @@ public class DateTimeProperties {
     private final static Pattern NUMBERFORMAT_23DIGIT = Pattern.compile("^\\d{2,3}$");
     private final static Pattern NUMBERFORMAT_4DIGIT = Pattern.compile("^\\d{4}$");
     private final static Pattern NUMBERFORMAT_1DIGIT = Pattern.compile("^\\d$");
-    private static List<String> cardinalNumberList = Arrays.asList("First", "Second", "Third", "Fourth", "Fifth", "Sixth", "Seventh", "Eighth", "Ninth", "Tenth",//No I18N
-        "Eleventh", "Twelfth", "Thirteenth", "Fourteenth", "Fifteenth", "Sixteenth", "Seventeenth", "Eighteenth", "Nineteenth", "Twentieth", "Twenty-first",//No I18N
-        "Twenty-second", "Twenty-third", "Twenty-fourth", "Twenty-fifth", "Twenty-sixth", "Twenty-seventh", "Twenty-eighth", "Twenty-ninth", "Thirtieth", "Thirty-first",//No I18N
-        "Twenty first", "Twenty second", "Twenty third", "Twenty fourth", "Twenty fifth", "Twenty sixth", "Twenty seventh", "Twenty eighth", "Twenty ninth", "Thirtieth", "Thirty first");//No I18N
     private final static Pattern DATETIMEWORDS = Pattern.compile("(afternoon|apr|april|aug|august|dawn|day|days|dec|december|eve|evening|feb|february|fri|friday|hour|hours|jan|january|jul|july|jun|june|mar|march|may|midnight|min|mins|minute|minutes|mon|monday|month|months|morning|night|noon|nov|november|now|oct|october|sat|saturday|sec|second|seconds|secs|sep|sept|september|sun|sunday|thu|thurs|thursday|today|tomorrow|tue|tuesday|wed|wednesday|week|weeks|year|years|yesterday)");
     private final static Pattern NUMBERR_REGEX = Pattern.compile("([0-9])");
+    private final static Pattern BARE_NUMBER = Pattern.compile("^(and |or |to )?([1-9][0-9]{0,2}|1000)$");
+    private final static Pattern START_DAY = Pattern.compile("\\b(?i)" + "start day" + "\\b");//No I18N
+    private final static Pattern END_DAY = Pattern.compile("\\b(?i)" + "end day" + "\\b");//No I18N
+    private final static Pattern TO_GO = Pattern.compile("\\b(?i)" + "to go" + "\\b");//No I18N
 
     public Map<String, String> getComponentsMap() {
         return componentsMap;
@@ -68,6 +71,8 @@ public class DateTimeProperties {
     private Triple<String, Integer, Integer> triple;
     private Map<String, String> componentsMap;
     private String parsedText;
+    private int parsedTextStart;
+    private NormalizedText recognizedText;
 
     public DateTimeProperties(DateTimeEssentials dateTimeEssentials, Triple<String, Integer, Integer> triple) {
         this.dateTimeEssentials = dateTimeEssentials;
@@ -82,11 +87,28 @@ public class DateTimeProperties {
         setParserOutput();
     }
 
-    private static boolean isContain(String dateText, String timezone) {
-        String pattern = "\\b" + timezone + "\\b"; //No I18N
-        Pattern p = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
-        Matcher m = p.matcher(dateText);
-        return m.find();
+    /*
+     * A compiled span to resolve, the recognition is not run again*/
+    public DateTimeProperties(DateTimeEssentials dateTimeEssentials, CompiledSpan compiledSpan) {
+        this.dateTimeEssentials = dateTimeEssentials;
+        this.componentsMap = compiledSpan.getComponentsMap();
+        this.parsedText = compiledSpan.getRecognizedText();
+        parserOutput.setId(compiledSpan.getId());
+        parserOutput.setParserLabel(compiledSpan.getLabel());
+        parserOutput.setText(compiledSpan.getText());
+        parserOutput.setParserStartIndex(compiledSpan.getStartIndex());
+        parserOutput.setParserEndIndex(compiledSpan.getEndIndex());
+        parserOutput.setIsExactTimePresent(compiledSpan.isExactTimePresent());
+        if (ConfigurationConstants.getDetailLevel() != DetailLevel.MINIMAL) {
+            parserOutput.setRecognizerOffsets(parsedText, compiledSpan.getRecognizerOffsets());
+        }
+    }
+
+    /*
+     * The span as setParsedDate left it, to be resolved later*/
+    public CompiledSpan toCompiledSpan() {
+        return new CompiledSpan(parserOutput, dateTimeEssentials.getTense(), componentsMap, parsedText,
+            parsedDate.getOutputWithOffsets(), parsedDate.getTaggedWithXML().contains("current_day")); //No I18N
     }
 
     public static boolean isDateContain(String dateText) {
@@ -94,30 +116,35 @@ public class DateTimeProperties {
     }
 
     public static String cardinalNumberFinder(String dateText) {
-        String cardinal = null;
+        return cardinalNumberFinder(NormalizedText.unchanged(dateText)).getText();
+    }
+
+    /*
+     * cardinalNumberFinder keeping the offsets into the text the given one was normalized from*/
+    static NormalizedText cardinalNumberFinder(NormalizedText normalizedText) {
+        String dateText = normalizedText.getText();
+        NormalizedText rewritten = normalizedText;
         if (dateText.contains("start day")) {
-            dateText = dateText.replaceAll("\\b(?i)" + "start day" + "\\b", "");//No I18N
-            dateText = "first day of " + dateText;//No I18N
+            rewritten = moveToFront(dateText, START_DAY, "first day of ").after(normalizedText);//No I18N
         } else if (dateText.contains("end day")) {
-            dateText = dateText.replaceAll("\\b(?i)" + "end day" + "\\b", "");//No I18N
-            dateText = "last day of " + dateText;//No I18N
+            rewritten = moveToFront(dateText, END_DAY, "last day of ").after(normalizedText);//No I18N
         } else if (dateText.endsWith("to go")) {
-            dateText = dateText.replaceAll("\\b(?i)" + "to go" + "\\b", "");//No I18N
-            dateText = "until " + dateText;//No I18N
+            rewritten = moveToFront(dateText, TO_GO, "until ").after(normalizedText);//No I18N
         }
-        for (String cardinalNumber : cardinalNumberList) {
-            if (isContain(dateText, cardinalNumber)) {
-                cardinal = cardinalNumber;
-            }
-        }
-        if (cardinal != null) {
-            dateText = dateText.replaceAll("\\b(?i)" + cardinal + "\\b", NumberParser.CARDINAL_NUMBERS.get(cardinal)); //No I18N
+        return NumberNormalizer.normalize(rewritten.getText()).after(rewritten);
+    }
 
+    /*
+     * Removes every match of the pattern and puts the prefix in front, the prefix maps to the start of the text*/
+    private static NormalizedText moveToFront(String dateText, Pattern pattern, String prefix) {
+        NormalizedText.Builder rewritten = new NormalizedText.Builder(dateText).append(prefix, 0);
+        Matcher matcher = pattern.matcher(dateText);
+        int copied = 0;
+        while (matcher.find()) {
+            rewritten.copy(copied, matcher.start());
+            copied = matcher.end();
         }
-
-
-        return dateText;
-
+        return rewritten.copy(copied, dateText.length()).build();
     }
 
     public ParserOutput getParserOutput() {
@@ -125,13 +152,9 @@ public class DateTimeProperties {
     }
 
     private void setParserOutput(ParsedDate parserDate) {
-        List<RecognizerOutput> recognizerOutputs = new ArrayList<>();
-        for (Triple<String, Integer, Integer> recognizeOutput : parserDate.getOutputWithOffsets()) {
-            String recognizedText = parsedText.substring(recognizeOutput.second, recognizeOutput.third);
-            RecognizerOutput recognizerOutput = new RecognizerOutput(recognizeOutput.first, recognizeOutput.second, recognizeOutput.third, recognizedText);
-            recognizerOutputs.add(recognizerOutput);
+        if (ConfigurationConstants.getDetailLevel() != DetailLevel.MINIMAL) {
+            parserOutput.setRecognizerOffsets(parsedText, parserDate.getOutputWithOffsets());
         }
-        parserOutput.setRecognizerOutputs(recognizerOutputs);
         this.parsedDate = parserDate;
     }
 
@@ -150,10 +173,9 @@ public class DateTimeProperties {
 
 
     public void setParsedDate() {
-        //remove time zone from input text
-        parsedText = removeTimeZone(parsedText);
-        //remove some parts of text and place at front (more filtering)
-        parsedText = cardinalNumberFinder(parsedText);
+        //remove time zone from input text, then remove some parts of text and place at front (more filtering)
+        recognizedText = cardinalNumberFinder(removeTimeZone(parsedText));
+        parsedText = recognizedText.getText();
         /*
             Tag each word inside the input text with a label (so 20 is a number, december is a month of the year, on
             is a prefix, etc.)
@@ -170,59 +192,60 @@ public class DateTimeProperties {
          */
         componentsMap = Recognizer.tagPredictor(parsedText, parserDate.getOutputWithOffsets());
         setParserOutput(parserDate);
-        parserOutput.setIsExactTimePresent(
-            parserDate.getTaggedWithXML().contains("exact_time") || //No I18N
-                parserDate.getTaggedWithXML().contains("hour_span") || //No I18N
-                parserDate.getTaggedWithXML().contains("minute_span") || //No I18N
-                parserDate.getTaggedWithXML().contains("second_span")); //No I18N
-    }
-
-    private String removeTimeZone(String parsedText) {
-        String returnText;
-        for (String timezone : TimeZoneExtractor.timeZoneList) {
-            if (isContain(parsedText, timezone)) {
-                returnText = parsedText.replaceAll("\\b(?i)" + timezone + "\\b", ""); //No I18N
-                returnText = returnText.replaceAll("([,“”\"~()@])", " "); //No I18N
-                returnText = returnText.replaceAll("(hrs|hr|Hr|Hrs)", " hrs"); //No I18N
-                returnText = returnText.replaceAll("date", "day"); //No I18N
-                returnText = returnText.replaceAll("nextweek", "next week"); //No I18N
-                returnText = returnText.replaceAll("Year", "year"); //No I18N
-                returnText = returnText.replaceAll("\\b(?i)" + "final", "last"); //No I18N
-                returnText = returnText.replaceAll("\\.$", " "); //No I18N
-                returnText = returnText.replaceAll("^- ", " "); //No I18N
-                returnText = returnText.replaceAll("post", "after"); //No I18N
-                returnText = returnText.replaceAll("breakfast", "8 AM"); //No I18N
-                returnText = returnText.replaceAll("lunch", "1 PM"); //No I18N
-                returnText = returnText.replaceAll("dinner", "8 PM"); //No I18N
-                returnText = returnText.replaceAll("around", "from"); //No I18N
-                returnText = returnText.endsWith("before") ? returnText.replaceAll("before", "back") : returnText; //No I18N
-                returnText = returnText.replaceAll("(?i)(last week\\s+(of\\s+)?(January|February|March|April|May|June|July|August|September|October|November|December)|((January|February|March|April|May|June|July|August|September|October|November|December)\\s+last week))", "4th week $3$5");
-                returnText = returnText.replaceAll("null",""); //No I18N
-                returnText = returnText.replaceAll("\\s{2,}", " ").trim();//No I18N
-                return returnText;
+        parserOutput.setIsExactTimePresent(isExactTimePresent(parserDate.getTaggedWithXML()));
+    }
+
+    /*
+     * Adds components taken from the other side of a relation to the ones this side was recognized with, the text
+     * and the recognizer offsets stay those of this side*/
+    public void inheritComponents(Map<String, String> inheritedComponents) {
+        for (Map.Entry<String, String> inheritedComponent : inheritedComponents.entrySet()) {
+            componentsMap.put(inheritedComponent.getKey(), inheritedComponent.getValue());
+            if (isExactTimePresent(inheritedComponent.getValue())) {
+                parserOutput.setIsExactTimePresent(true);
+            }
+        }
+    }
+
+    private static boolean isExactTimePresent(String taggedWithXML) {
+        return taggedWithXML.contains("exact_time") || //No I18N
+            taggedWithXML.contains("hour_span") || //No I18N
+            taggedWithXML.contains("minute_span") || //No I18N
+            taggedWithXML.contains("second_span"); //No I18N
+    }
+
+    /*
+     * Removes the time zone mentions and applies the normalization rules of the configuration.
+     * Text left with only a number is dropped when it had no time zone.*/
+    private NormalizedText removeTimeZone(String parsedText) {
+        List<TimeZoneMention> timeZoneMentions = TimeZoneMentionDetector.findAll(parsedText);
+        boolean isTimeZonePresent = !timeZoneMentions.isEmpty();
+        NormalizedText withoutTimeZone = NormalizedText.unchanged(parsedText);
+        if (isTimeZonePresent) {
+            NormalizedText.Builder builder = new NormalizedText.Builder(parsedText);
+            int copied = 0;
+            for (TimeZoneMention mention : timeZoneMentions) {
+                builder.copy(copied, mention.getStart());
+                copied = mention.getEnd();
             }
+            withoutTimeZone = builder.copy(copied, parsedText.length()).build();
         }
-        returnText = parsedText.replaceAll("([,“”\"~()@])", " "); //No I18N
-        returnText = returnText.replaceAll("(hrs|Hrs|Hr|hr)", " hrs"); //No I18N
-        returnText = returnText.replaceAll("date", "day"); //No I18N
-        returnText = returnText.replaceAll("nextweek", "next week"); //No I18N
-        returnText = returnText.replaceAll("Year", "year"); //No I18N
-        returnText = returnText.replaceAll("\\b(?i)" + "final", "last"); //No I18N
-        returnText = returnText.replaceAll("\\.$", " ").trim(); //No I18N
-        String test = returnText.replaceAll("^(and |or |to )?([1-9][0-9]{0,2}|1000)$","");  //No I18N
-        returnText = returnText.replaceAll("^- ", " "); //No I18N
-        returnText = returnText.replaceAll("post", "after"); //No I18N
-        returnText = returnText.replaceAll("breakfast", "8 AM"); //No I18N
-        returnText = returnText.replaceAll("lunch", "1 PM"); //No I18N
-        returnText = returnText.replaceAll("dinner", "8 PM"); //No I18N
-        returnText = returnText.replaceAll("around", "from"); //No I18N
-        returnText = returnText.endsWith("before") ? returnText.replaceAll("before", "back") : returnText; //No I18N
-        returnText = returnText.replaceAll("(?i)(last week\\s+(of\\s+)?(January|February|March|April|May|June|July|August|September|October|November|December)|((January|February|March|April|May|June|July|August|September|October|November|December)\\s+last week))", "4th week $3$5");
-        returnText = returnText.replaceAll("null",""); //No I18N
-        returnText = returnText.replaceAll("\\s{2,}", " ").trim();//No I18N
-        returnText = test.length() > 0 ? returnText : test;
-        return returnText;
+        Configuration configuration = ConfigurationConstants.getConfiguration();
+        TextNormalizer textNormalizer = configuration == null ? TextNormalizer.forRules(null) : configuration.getTextNormalizer();
+        NormalizedText returnText = textNormalizer.normalizeWithOffsets(withoutTimeZone.getText()).after(withoutTimeZone);
+        return (!isTimeZonePresent && BARE_NUMBER.matcher(returnText.getText()).matches()) ? NormalizedText.unchanged("") : returnText;
+    }
 
+    /*
+     * offset - position in the text the span was recognized in, after setParsedDate
+     *
+     * returns the position of the same character in the text of the parser output, the time zone removal, the
+     * normalization rules and the ordinal rewrites undone*/
+    public int getOriginalOffset(int offset) {
+        if (recognizedText == null) {
+            throw new IllegalStateException("The span has not been recognized"); //No I18N
+        }
+        return parsedTextStart + recognizedText.getOriginalOffset(offset);
     }
 
     public ParsedDate getParsedDate() {
@@ -257,16 +280,22 @@ public class DateTimeProperties {
     }
 
     public void cleanParsedText(String wordToRemove) {
-        this.parsedText = parsedText.replaceFirst("^"+wordToRemove, "");
+        String cleanedText = parsedText.replaceFirst("^"+wordToRemove, "");
+        parsedTextStart += parsedText.length() - cleanedText.length();
+        this.parsedText = cleanedText;
     }
+    public static boolean isEmptyDate(ParserOutput parserOutput) {
+        return parserOutput.getDateRange().getStartMillis() == DateRange.NO_DATE && parserOutput.getDateRange().getEndMillis() == DateRange.NO_DATE;
+    }
+
     private static Long getStartTimeInLong(List<ParserOutput> datesFound, int index) {
-        DateTime startDate = datesFound.get(index).getDateRange().getStart();
-        return (startDate != null) ? startDate.getMillis() : null;
+        long startDate = datesFound.get(index).getDateRange().getStartMillis();
+        return (startDate != DateRange.NO_DATE) ? startDate : null;
     }
 
     private static Long getEndTimeInLong(List<ParserOutput> datesFound, int index) {
-        DateTime endDate = datesFound.get(index).getDateRange().getEnd();
-        return (endDate != null) ? endDate.getMillis() : null;
+        long endDate = datesFound.get(index).getDateRange().getEndMillis();
+        return (endDate != DateRange.NO_DATE) ? endDate : null;
     }
     public static DatesFound emptyDatesRemover(DatesFound dates) {
         List<DateGroup> dateGroups = dates.getDateGroups();
@@ -295,11 +324,7 @@ public class DateTimeProperties {
             for (ParserOutput parserOutput : parserOutputs) {
                 DateTime start = parserOutput.getDateRange().getStart();
                 DateTime end = parserOutput.getDateRange().getEnd();
-                String recogizerLabel = "";
-                for (RecognizerOutput recognizerOutput : parserOutput.getRecognizerOutputs()) {
-                    recogizerLabel += " " + recognizerOutput.getRecognizerLabel();
-                }
-                if (!(parserOutput.getIsExactTimePresent()) && !recogizerLabel.contains("part_of_day")) {
+                if (!(parserOutput.getIsExactTimePresent()) && !parserOutput.containsRecognizerLabel("part_of_day")) { //No I18N
                     if (start != null && end != null) {
                         parserOutput.getDateRange().setStart(start.plusHours(dayhourStart));
                         parserOutput.getDateRange().setEnd(start.plusHours(dayhourEnd).minusSeconds(1));
@@ -0,0 +1,240 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.zoho.hawking.utils.DatesFoundEncoder.*;
+
+/*
+ * Reads the encoding of DatesFoundEncoder back into DatesFound, the layout is described there
+ *
+ * Decoded DateRanges hold the millis and the offset, their DateTimes and formats are built when read.
+ */
+public class DatesFoundDecoder {
+
+    private byte[] data;
+
+    private int position;
+
+    private long previousMillis;
+
+    private String[] dictionary;
+
+    public List<DatesFound> decode(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+        }
+        return decode(bytes.toByteArray());
+    }
+
+    /*
+     * throws IOException when the bytes are not an encoding of a supported version*/
+    public List<DatesFound> decode(byte[] encoded) throws IOException {
+        data = encoded;
+        position = 0;
+        previousMillis = 0;
+        try {
+            for (byte magicByte : MAGIC) {
+                if (readByte() != magicByte) {
+                    throw new IOException("Not an encoding of DatesFound"); //No I18N
+                }
+            }
+            int version = readByte();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported encoding version " + version); //No I18N
+            }
+            dictionary = new String[readCount()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString();
+            }
+            int datesFoundCount = readCount();
+            List<DatesFound> datesFoundList = new ArrayList<>(datesFoundCount);
+            for (int i = 0; i < datesFoundCount; i++) {
+                datesFoundList.add(readDatesFound());
+            }
+            return datesFoundList;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated encoding of DatesFound", e); //No I18N
+        } finally {
+            data = null;
+            dictionary = null;
+        }
+    }
+
+    private DatesFound readDatesFound() throws IOException {
+        DatesFound datesFound = new DatesFound();
+        int parserOutputCount = readCount();
+        if (parserOutputCount > 0) {
+            List<ParserOutput> parserOutputs = new ArrayList<>(parserOutputCount - 1);
+            for (int i = 1; i < parserOutputCount; i++) {
+                parserOutputs.add(readParserOutput());
+            }
+            datesFound.setParserOutputs(parserOutputs);
+        }
+        int dateGroupCount = readCount();
+        if (dateGroupCount > 0) {
+            List<DateGroup> dateGroups = new ArrayList<>(dateGroupCount - 1);
+            for (int i = 1; i < dateGroupCount; i++) {
+                dateGroups.add(readDateGroup());
+            }
+            datesFound.setDateGroups(dateGroups);
+        }
+        return datesFound;
+    }
+
+    private ParserOutput readParserOutput() throws IOException {
+        ParserOutput parserOutput = new ParserOutput();
+        int flags = (int) readVarint();
+        if ((flags & HAS_ID) != 0) {
+            parserOutput.setId((int) readSignedVarint());
+        }
+        if ((flags & HAS_LABEL) != 0) {
+            parserOutput.setParserLabel(readDictionary());
+        }
+        int startIndex = 0;
+        if ((flags & HAS_START_INDEX) != 0) {
+            startIndex = (int) readSignedVarint();
+            parserOutput.setParserStartIndex(startIndex);
+        }
+        if ((flags & HAS_END_INDEX) != 0) {
+            parserOutput.setParserEndIndex(startIndex + (int) readSignedVarint());
+        }
+        parserOutput.setText(readString());
+        if ((flags & HAS_TIME_ZONE_PRESENT) != 0) {
+            parserOutput.setIsTimeZonePresent((flags & TIME_ZONE_PRESENT) != 0);
+        }
+        if ((flags & HAS_EXACT_TIME_PRESENT) != 0) {
+            parserOutput.setIsExactTimePresent((flags & EXACT_TIME_PRESENT) != 0);
+        }
+        if ((flags & HAS_OFFSET) != 0) {
+            parserOutput.setTimezoneOffset(readDictionary());
+        }
+        if ((flags & HAS_DATE_RANGE) != 0) {
+            parserOutput.setDateRange(readDateRange(parserOutput.getTimezoneOffset()));
+        }
+        if ((flags & HAS_RECOGNIZER_OUTPUTS) != 0) {
+            int recognizerOutputCount = readCount();
+            List<RecognizerOutput> recognizerOutputs = new ArrayList<>(recognizerOutputCount);
+            for (int i = 0; i < recognizerOutputCount; i++) {
+                long labelIndex = readVarint();
+                String label = labelIndex == 0 ? null : dictionaryValue(labelIndex - 1);
+                int start = (int) readSignedVarint();
+                int end = start + (int) readSignedVarint();
+                recognizerOutputs.add(new RecognizerOutput(label, start, end, readString()));
+            }
+            parserOutput.setRecognizerOutputs(recognizerOutputs);
+        }
+        return parserOutput;
+    }
+
+    private DateRange readDateRange(String timeZoneOffset) throws IOException {
+        int flags = (int) readVarint();
+        String matchType = (flags & HAS_MATCH_TYPE) != 0 ? readDictionary() : null;
+        long start = DateRange.NO_DATE;
+        long end = DateRange.NO_DATE;
+        if ((flags & HAS_START) != 0) {
+            start = previousMillis + readSignedVarint();
+            previousMillis = start;
+        }
+        if ((flags & HAS_END) != 0) {
+            end = previousMillis + readSignedVarint();
+            previousMillis = end;
+        }
+        DateRange dateRange = new DateRange(matchType, start, end, timeZoneOffset);
+        if ((flags & HAS_START_FORMAT) != 0) {
+            dateRange.setStartDateFormat(readString());
+        }
+        if ((flags & HAS_END_FORMAT) != 0) {
+            dateRange.setEndDateFormat(readString());
+        }
+        return dateRange;
+    }
+
+    private DateGroup readDateGroup() throws IOException {
+        DateGroup dateGroup = new DateGroup();
+        int flags = (int) readVarint();
+        dateGroup.setSequenceType((flags & HAS_SEQUENCE_TYPE) != 0 ? readDictionary() : null);
+        if ((flags & HAS_RECURRENT_COUNT) != 0) {
+            dateGroup.setRecurrentCount(new RepeatCount(readSignedVarint(), readSignedVarint(), readSignedVarint(),
+                    readSignedVarint(), readSignedVarint(), readSignedVarint()));
+        }
+        if ((flags & HAS_RECURRENT_PERIOD) != 0) {
+            dateGroup.setRecurrentPeriod(new RepeatPeriod(readSignedVarint(), readSignedVarint(), readSignedVarint(),
+                    readSignedVarint(), readSignedVarint(), readSignedVarint()));
+        }
+        if ((flags & HAS_EXPRESSION) != 0) {
+            dateGroup.setExpression(readString());
+        }
+        if ((flags & HAS_FIRST_OCCURRENCE) != 0) {
+            long offsetIndex = readVarint();
+            dateGroup.setFirstOccurrence(readDateRange(offsetIndex == 0 ? null : dictionaryValue(offsetIndex - 1)));
+        }
+        if ((flags & HAS_OCCURRENCE_LIMIT) != 0) {
+            dateGroup.setOccurrenceLimit(readSignedVarint());
+        }
+        return dateGroup;
+    }
+
+    private String readDictionary() throws IOException {
+        return dictionaryValue(readVarint());
+    }
+
+    private String dictionaryValue(long index) throws IOException {
+        if (index < 0 || index >= dictionary.length) {
+            throw new IOException("Dictionary index " + index + " out of " + dictionary.length); //No I18N
+        }
+        return dictionary[(int) index];
+    }
+
+    private String readString() throws IOException {
+        int length = readCount();
+        if (length == 0) {
+            return null;
+        }
+        length--;
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /*
+     * Counts of values and string lengths, every counted value takes at least a byte*/
+    private int readCount() throws IOException {
+        long count = readVarint();
+        if (count < 0 || count > data.length - position + 1L) {
+            throw new IOException("Invalid count " + count); //No I18N
+        }
+        return (int) count;
+    }
+
+    private long readSignedVarint() throws IOException {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = data[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint"); //No I18N
+    }
+
+    private int readByte() {
+        return data[position++];
+    }
+}
@@ -0,0 +1,296 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/*
+ * Versioned binary encoding of DatesFound, read back with DatesFoundDecoder
+ *
+ * 	magic "HKDF", version byte
+ * 	dictionary   - varint count, then the strings; labels, offsets, match and sequence types are indexes into it,
+ * 	               recognizer labels the index + 1 with 0 for null
+ * 	dates found  - varint count, then each DatesFound as its parser outputs and date groups, each list a varint of
+ * 	               its size + 1 (0 for null) and the values
+ * A date group holds its first occurrence as the offset, the dictionary index + 1 with 0 for null, and the range,
+ * and its occurrence limit when the repetition ends; version 1 wrote neither and is still read.
+ * Numbers are varints, signed ones zigzag coded. Each epoch millis is a delta from the one written before it,
+ * an end from its start. Strings are a varint of length + 1 (0 for null) and the UTF-8 bytes. A date format is only
+ * written when it is not the wall clock of its instant at the offset, which is what a decoded DateRange gives.
+ */
+public class DatesFoundEncoder {
+
+    static final byte[] MAGIC = {'H', 'K', 'D', 'F'};
+
+    static final int VERSION = 2;
+
+    static final int HAS_ID = 1;
+    static final int HAS_DATE_RANGE = 1 << 1;
+    static final int HAS_LABEL = 1 << 2;
+    static final int HAS_START_INDEX = 1 << 3;
+    static final int HAS_END_INDEX = 1 << 4;
+    static final int HAS_TIME_ZONE_PRESENT = 1 << 5;
+    static final int TIME_ZONE_PRESENT = 1 << 6;
+    static final int HAS_EXACT_TIME_PRESENT = 1 << 7;
+    static final int EXACT_TIME_PRESENT = 1 << 8;
+    static final int HAS_OFFSET = 1 << 9;
+    static final int HAS_RECOGNIZER_OUTPUTS = 1 << 10;
+
+    static final int HAS_START = 1;
+    static final int HAS_END = 1 << 1;
+    static final int HAS_START_FORMAT = 1 << 2;
+    static final int HAS_END_FORMAT = 1 << 3;
+    static final int HAS_MATCH_TYPE = 1 << 4;
+
+    static final int HAS_SEQUENCE_TYPE = 1;
+    static final int HAS_RECURRENT_COUNT = 1 << 1;
+    static final int HAS_RECURRENT_PERIOD = 1 << 2;
+    static final int HAS_EXPRESSION = 1 << 3;
+    static final int HAS_FIRST_OCCURRENCE = 1 << 4;
+    static final int HAS_OCCURRENCE_LIMIT = 1 << 5;
+
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+    private byte[] body = new byte[1024];
+
+    private int position;
+
+    private long previousMillis;
+
+    public byte[] encode(DatesFound datesFound) {
+        return encode(Collections.singletonList(datesFound));
+    }
+
+    public byte[] encode(List<DatesFound> datesFoundList) {
+        writeBody(datesFoundList);
+        int bodyLength = position;
+        byte[] encodedBody = Arrays.copyOf(body, bodyLength);
+        position = 0;
+        writeHeader();
+        writeBytes(encodedBody, 0, bodyLength);
+        byte[] encoded = Arrays.copyOf(body, position);
+        position = 0;
+        return encoded;
+    }
+
+    public void encode(List<DatesFound> datesFoundList, OutputStream out) throws IOException {
+        out.write(encode(datesFoundList));
+    }
+
+    private void writeHeader() {
+        writeBytes(MAGIC, 0, MAGIC.length);
+        writeByte(VERSION);
+        writeVarint(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(value);
+        }
+        dictionary.clear();
+    }
+
+    private void writeBody(List<DatesFound> datesFoundList) {
+        dictionary.clear();
+        position = 0;
+        previousMillis = 0;
+        writeVarint(datesFoundList.size());
+        for (DatesFound datesFound : datesFoundList) {
+            List<ParserOutput> parserOutputs = datesFound.getParserOutputs();
+            List<DateGroup> dateGroups = datesFound.getDateGroups();
+            writeVarint(parserOutputs != null ? parserOutputs.size() + 1L : 0);
+            if (parserOutputs != null) {
+                for (ParserOutput parserOutput : parserOutputs) {
+                    writeParserOutput(parserOutput);
+                }
+            }
+            writeVarint(dateGroups != null ? dateGroups.size() + 1L : 0);
+            if (dateGroups != null) {
+                for (DateGroup dateGroup : dateGroups) {
+                    writeDateGroup(dateGroup);
+                }
+            }
+        }
+    }
+
+    private void writeParserOutput(ParserOutput parserOutput) {
+        int flags = 0;
+        flags |= parserOutput.getId() != null ? HAS_ID : 0;
+        flags |= parserOutput.getDateRange() != null ? HAS_DATE_RANGE : 0;
+        flags |= parserOutput.getParserLabel() != null ? HAS_LABEL : 0;
+        flags |= parserOutput.getParserStartIndex() != null ? HAS_START_INDEX : 0;
+        flags |= parserOutput.getParserEndIndex() != null ? HAS_END_INDEX : 0;
+        if (parserOutput.getIsTimeZonePresent() != null) {
+            flags |= HAS_TIME_ZONE_PRESENT | (parserOutput.getIsTimeZonePresent() ? TIME_ZONE_PRESENT : 0);
+        }
+        if (parserOutput.getIsExactTimePresent() != null) {
+            flags |= HAS_EXACT_TIME_PRESENT | (parserOutput.getIsExactTimePresent() ? EXACT_TIME_PRESENT : 0);
+        }
+        flags |= parserOutput.getTimezoneOffset() != null ? HAS_OFFSET : 0;
+        List<RecognizerOutput> recognizerOutputs = parserOutput.getRecognizerOutputs();
+        flags |= recognizerOutputs != null ? HAS_RECOGNIZER_OUTPUTS : 0;
+        writeVarint(flags);
+        if (parserOutput.getId() != null) {
+            writeSignedVarint(parserOutput.getId());
+        }
+        if (parserOutput.getParserLabel() != null) {
+            writeVarint(dictionaryIndex(parserOutput.getParserLabel()));
+        }
+        if (parserOutput.getParserStartIndex() != null) {
+            writeSignedVarint(parserOutput.getParserStartIndex());
+        }
+        if (parserOutput.getParserEndIndex() != null) {
+            int base = parserOutput.getParserStartIndex() != null ? parserOutput.getParserStartIndex() : 0;
+            writeSignedVarint(parserOutput.getParserEndIndex() - base);
+        }
+        writeString(parserOutput.getText());
+        if (parserOutput.getTimezoneOffset() != null) {
+            writeVarint(dictionaryIndex(parserOutput.getTimezoneOffset()));
+        }
+        if (parserOutput.getDateRange() != null) {
+            writeDateRange(parserOutput.getDateRange(), parserOutput.getTimezoneOffset());
+        }
+        if (recognizerOutputs != null) {
+            writeVarint(recognizerOutputs.size());
+            for (RecognizerOutput recognizerOutput : recognizerOutputs) {
+                writeVarint(recognizerOutput.getRecognizerLabel() != null ? dictionaryIndex(recognizerOutput.getRecognizerLabel()) + 1 : 0);
+                int start = recognizerOutput.getRecognizerStartIndex() != null ? recognizerOutput.getRecognizerStartIndex() : -1;
+                int end = recognizerOutput.getRecognizerEndIndex() != null ? recognizerOutput.getRecognizerEndIndex() : -1;
+                writeSignedVarint(start);
+                writeSignedVarint(end - start);
+                writeString(recognizerOutput.getText());
+            }
+        }
+    }
+
+    /*
+     * The offset of the range is the offset of its ParserOutput*/
+    private void writeDateRange(DateRange dateRange, String timeZoneOffset) {
+        long start = dateRange.getStartMillis();
+        long end = dateRange.getEndMillis();
+        String startFormat = dateRange.getStartDateFormat();
+        String endFormat = dateRange.getEndDateFormat();
+        int flags = 0;
+        flags |= start != DateRange.NO_DATE ? HAS_START : 0;
+        flags |= end != DateRange.NO_DATE ? HAS_END : 0;
+        flags |= !isDerivedFormat(startFormat, start, timeZoneOffset) ? HAS_START_FORMAT : 0;
+        flags |= !isDerivedFormat(endFormat, end, timeZoneOffset) ? HAS_END_FORMAT : 0;
+        flags |= dateRange.getMatchType() != null ? HAS_MATCH_TYPE : 0;
+        writeVarint(flags);
+        if (dateRange.getMatchType() != null) {
+            writeVarint(dictionaryIndex(dateRange.getMatchType()));
+        }
+        if (start != DateRange.NO_DATE) {
+            writeSignedVarint(start - previousMillis);
+            previousMillis = start;
+        }
+        if (end != DateRange.NO_DATE) {
+            writeSignedVarint(end - previousMillis);
+            previousMillis = end;
+        }
+        if ((flags & HAS_START_FORMAT) != 0) {
+            writeString(startFormat);
+        }
+        if ((flags & HAS_END_FORMAT) != 0) {
+            writeString(endFormat);
+        }
+    }
+
+    private static boolean isDerivedFormat(String format, long millis, String timeZoneOffset) {
+        if (millis == DateRange.NO_DATE) {
+            return format == null;
+        }
+        return format != null && format.equals(TimeZoneExtractor.dateFormatter(millis, timeZoneOffset));
+    }
+
+    private void writeDateGroup(DateGroup dateGroup) {
+        int flags = 0;
+        flags |= dateGroup.getSequenceType() != null ? HAS_SEQUENCE_TYPE : 0;
+        flags |= dateGroup.getRecurrentCount() != null ? HAS_RECURRENT_COUNT : 0;
+        flags |= dateGroup.getRecurrentPeriod() != null ? HAS_RECURRENT_PERIOD : 0;
+        flags |= dateGroup.getExpression() != null ? HAS_EXPRESSION : 0;
+        flags |= dateGroup.getFirstOccurrence() != null ? HAS_FIRST_OCCURRENCE : 0;
+        flags |= dateGroup.getOccurrenceLimit() != -1 ? HAS_OCCURRENCE_LIMIT : 0;
+        writeVarint(flags);
+        if (dateGroup.getSequenceType() != null) {
+            writeVarint(dictionaryIndex(dateGroup.getSequenceType()));
+        }
+        if (dateGroup.getRecurrentCount() != null) {
+            writeRepeatPeriod(dateGroup.getRecurrentCount());
+        }
+        if (dateGroup.getRecurrentPeriod() != null) {
+            writeRepeatPeriod(dateGroup.getRecurrentPeriod());
+        }
+        if (dateGroup.getExpression() != null) {
+            writeString(dateGroup.getExpression());
+        }
+        DateRange firstOccurrence = dateGroup.getFirstOccurrence();
+        if (firstOccurrence != null) {
+            String timeZoneOffset = firstOccurrence.getTimeZoneOffset();
+            writeVarint(timeZoneOffset != null ? dictionaryIndex(timeZoneOffset) + 1 : 0);
+            writeDateRange(firstOccurrence, timeZoneOffset);
+        }
+        if (dateGroup.getOccurrenceLimit() != -1) {
+            writeSignedVarint(dateGroup.getOccurrenceLimit());
+        }
+    }
+
+    private void writeRepeatPeriod(RepeatPeriod repeatPeriod) {
+        writeSignedVarint(repeatPeriod.getYears());
+        writeSignedVarint(repeatPeriod.getMonths());
+        writeSignedVarint(repeatPeriod.getWeeks());
+        writeSignedVarint(repeatPeriod.getDays());
+        writeSignedVarint(repeatPeriod.getHour());
+        writeSignedVarint(repeatPeriod.getCustomDate());
+    }
+
+    private int dictionaryIndex(String value) {
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.put(value, index);
+        }
+        return index;
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length + 1L);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    private void writeSignedVarint(long value) {
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            body[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        body[position++] = (byte) value;
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        body[position++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, body, position, length);
+        position += length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > body.length) {
+            body = Arrays.copyOf(body, Math.max(body.length * 2, position + length));
+        }
+    }
+}
@@ -0,0 +1,321 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.*;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.List;
+
+/*
+ * Writes DatesFound and its parts as JSON, without reflection and without toString of the models
+ *
+ * Every value is written into one reused buffer that is handed to the output once per top level value.
+ * A Writer gets the buffer through a reused char array and a stream gets it encoded as UTF-8 into a reused
+ * byte array, so no String is made for a value and nothing is buffered a second time.
+ * The property names are those of the getters; DateRange start and end are written as epoch millis next to
+ * their formats. writeLine and the batch writers give JSON lines, one value per line.
+ */
+public class DatesFoundWriter implements Flushable {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray(); //No I18N
+
+    private final Appendable out;
+
+    private final OutputStream stream;
+
+    private final StringBuilder buffer = new StringBuilder(512);
+
+    private char[] chars = new char[0];
+
+    private byte[] bytes = new byte[0];
+
+    public DatesFoundWriter(Appendable out) {
+        this.out = out;
+        this.stream = null;
+    }
+
+    /*
+     * Writes UTF-8 to the stream, each top level value with one write*/
+    public DatesFoundWriter(OutputStream out) {
+        this.out = null;
+        this.stream = out;
+    }
+
+    public void write(DatesFound datesFound) throws IOException {
+        appendDatesFound(datesFound);
+        emit();
+    }
+
+    public void writeLine(DatesFound datesFound) throws IOException {
+        appendDatesFound(datesFound);
+        buffer.append('\n');
+        emit();
+    }
+
+    public void write(ParserOutput parserOutput) throws IOException {
+        appendParserOutput(parserOutput);
+        emit();
+    }
+
+    public void write(DateGroup dateGroup) throws IOException {
+        appendDateGroup(dateGroup);
+        emit();
+    }
+
+    /*
+     * One line for the dates of each parse*/
+    public void writeLines(List<DatesFound> datesFoundList) throws IOException {
+        for (DatesFound datesFound : datesFoundList) {
+            writeLine(datesFound);
+        }
+    }
+
+    /*
+     * One line for each row of the batch, the ParserOutput of the row with its documentIndex*/
+    public void writeLines(DatesFoundBatch datesFoundBatch) throws IOException {
+        for (int row = 0; row < datesFoundBatch.size(); row++) {
+            buffer.append("{\"documentIndex\":").append(datesFoundBatch.getDocumentIndex(row)).append(','); //No I18N
+            appendParserOutputFields(datesFoundBatch.parserOutput(row));
+            buffer.append("}\n"); //No I18N
+            emit();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (stream != null) {
+            stream.flush();
+        } else if (out instanceof Flushable) {
+            ((Flushable) out).flush();
+        }
+    }
+
+    private void emit() throws IOException {
+        int length = buffer.length();
+        if (stream != null) {
+            int count = encodeUtf8(length);
+            stream.write(bytes, 0, count);
+        } else if (out instanceof Writer) {
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            buffer.getChars(0, length, chars, 0);
+            ((Writer) out).write(chars, 0, length);
+        } else {
+            out.append(buffer);
+        }
+        buffer.setLength(0);
+    }
+
+    /*
+     * Encodes the buffer into bytes, an unpaired surrogate is written as '?' as the JDK encoder does
+     * @return the number of bytes*/
+    private int encodeUtf8(int length) {
+        if (bytes.length < length * 3) {
+            bytes = new byte[Math.max(length * 3, bytes.length * 2)];
+        }
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = buffer.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xc0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(buffer.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, buffer.charAt(++i));
+                bytes[position++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                bytes[position++] = '?';
+            } else {
+                bytes[position++] = (byte) (0xe0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return position;
+    }
+
+    private void appendDatesFound(DatesFound datesFound) {
+        if (datesFound == null) {
+            buffer.append("null"); //No I18N
+            return;
+        }
+        buffer.append("{\"dateGroups\":"); //No I18N
+        List<DateGroup> dateGroups = datesFound.getDateGroups();
+        if (dateGroups == null) {
+            buffer.append("null"); //No I18N
+        } else {
+            buffer.append('[');
+            for (int i = 0; i < dateGroups.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendDateGroup(dateGroups.get(i));
+            }
+            buffer.append(']');
+        }
+        buffer.append(",\"parserOutputs\":"); //No I18N
+        List<ParserOutput> parserOutputs = datesFound.getParserOutputs();
+        if (parserOutputs == null) {
+            buffer.append("null"); //No I18N
+        } else {
+            buffer.append('[');
+            for (int i = 0; i < parserOutputs.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendParserOutput(parserOutputs.get(i));
+            }
+            buffer.append(']');
+        }
+        buffer.append('}');
+    }
+
+    private void appendParserOutput(ParserOutput parserOutput) {
+        if (parserOutput == null) {
+            buffer.append("null"); //No I18N
+            return;
+        }
+        buffer.append('{');
+        appendParserOutputFields(parserOutput);
+        buffer.append('}');
+    }
+
+    private void appendParserOutputFields(ParserOutput parserOutput) {
+        buffer.append("\"id\":").append(parserOutput.getId()); //No I18N
+        buffer.append(",\"dateRange\":"); //No I18N
+        appendDateRange(parserOutput.getDateRange());
+        buffer.append(",\"parserLabel\":"); //No I18N
+        appendString(parserOutput.getParserLabel());
+        buffer.append(",\"parserStartIndex\":").append(parserOutput.getParserStartIndex()); //No I18N
+        buffer.append(",\"parserEndIndex\":").append(parserOutput.getParserEndIndex()); //No I18N
+        buffer.append(",\"text\":"); //No I18N
+        appendString(parserOutput.getText());
+        buffer.append(",\"isTimeZonePresent\":").append(parserOutput.getIsTimeZonePresent()); //No I18N
+        buffer.append(",\"isExactTimePresent\":").append(parserOutput.getIsExactTimePresent()); //No I18N
+        buffer.append(",\"timezoneOffset\":"); //No I18N
+        appendString(parserOutput.getTimezoneOffset());
+        buffer.append(",\"recognizerOutputs\":"); //No I18N
+        List<RecognizerOutput> recognizerOutputs = parserOutput.getRecognizerOutputs();
+        if (recognizerOutputs == null) {
+            buffer.append("null"); //No I18N
+            return;
+        }
+        buffer.append('[');
+        for (int i = 0; i < recognizerOutputs.size(); i++) {
+            RecognizerOutput recognizerOutput = recognizerOutputs.get(i);
+            if (i > 0) {
+                buffer.append(',');
+            }
+            buffer.append("{\"recognizerLabel\":"); //No I18N
+            appendString(recognizerOutput.getRecognizerLabel());
+            buffer.append(",\"recognizerStartIndex\":").append(recognizerOutput.getRecognizerStartIndex()); //No I18N
+            buffer.append(",\"recognizerEndIndex\":").append(recognizerOutput.getRecognizerEndIndex()); //No I18N
+            buffer.append(",\"text\":"); //No I18N
+            appendString(recognizerOutput.getText());
+            buffer.append('}');
+        }
+        buffer.append(']');
+    }
+
+    private void appendDateRange(DateRange dateRange) {
+        if (dateRange == null) {
+            buffer.append("null"); //No I18N
+            return;
+        }
+        buffer.append("{\"matchType\":"); //No I18N
+        appendString(dateRange.getMatchType());
+        buffer.append(",\"start\":"); //No I18N
+        appendMillis(dateRange.getStartMillis());
+        buffer.append(",\"end\":"); //No I18N
+        appendMillis(dateRange.getEndMillis());
+        buffer.append(",\"startDateFormat\":"); //No I18N
+        appendString(dateRange.getStartDateFormat());
+        buffer.append(",\"endDateFormat\":"); //No I18N
+        appendString(dateRange.getEndDateFormat());
+        buffer.append('}');
+    }
+
+    private void appendDateGroup(DateGroup dateGroup) {
+        if (dateGroup == null) {
+            buffer.append("null"); //No I18N
+            return;
+        }
+        buffer.append("{\"sequenceType\":"); //No I18N
+        appendString(dateGroup.getSequenceType());
+        buffer.append(",\"recurrentCount\":"); //No I18N
+        appendRepeatPeriod(dateGroup.getRecurrentCount());
+        buffer.append(",\"recurrentPeriod\":"); //No I18N
+        appendRepeatPeriod(dateGroup.getRecurrentPeriod());
+        buffer.append(",\"expression\":"); //No I18N
+        appendString(dateGroup.getExpression());
+        buffer.append('}');
+    }
+
+    private void appendRepeatPeriod(RepeatPeriod repeatPeriod) {
+        if (repeatPeriod == null) {
+            buffer.append("null"); //No I18N
+            return;
+        }
+        buffer.append("{\"years\":").append(repeatPeriod.getYears()); //No I18N
+        buffer.append(",\"months\":").append(repeatPeriod.getMonths()); //No I18N
+        buffer.append(",\"weeks\":").append(repeatPeriod.getWeeks()); //No I18N
+        buffer.append(",\"days\":").append(repeatPeriod.getDays()); //No I18N
+        buffer.append(",\"hour\":").append(repeatPeriod.getHour()); //No I18N
+        buffer.append(",\"customDate\":").append(repeatPeriod.getCustomDate()); //No I18N
+        buffer.append('}');
+    }
+
+    private void appendMillis(long millis) {
+        if (millis == DateRange.NO_DATE) {
+            buffer.append("null"); //No I18N
+        } else {
+            buffer.append(millis);
+        }
+    }
+
+    private void appendString(String value) {
+        if (value == null) {
+            buffer.append("null"); //No I18N
+            return;
+        }
+        buffer.append('"');
+        int copied = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            buffer.append(value, copied, i);
+            switch (c) {
+                case '"':
+                    buffer.append("\\\""); //No I18N
+                    break;
+                case '\\':
+                    buffer.append("\\\\"); //No I18N
+                    break;
+                case '\n':
+                    buffer.append("\\n"); //No I18N
+                    break;
+                case '\r':
+                    buffer.append("\\r"); //No I18N
+                    break;
+                case '\t':
+                    buffer.append("\\t"); //No I18N
+                    break;
+                default:
+                    buffer.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]); //No I18N
+            }
+            copied = i + 1;
+        }
+        buffer.append(value, copied, value.length());
+        buffer.append('"');
+    }
+}
@@ -0,0 +1,266 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.Recurrence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Upcoming occurrences of many recurrences, sorted by start in primitive arrays
+ *
+ * Each added recurrence gets an id, its position in the index. extendTo expands every recurrence up to a horizon,
+ * only past the occurrences already held, so the index grows by sorted chunks that are appended; discardBefore
+ * drops the occurrences that have gone by, and those before it are not indexed later either. Occurrences with the same start are ordered by recurrence id, the order
+ * depends on nothing but the recurrences and the horizons.
+ */
+public class OccurrenceIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final long HOUR_MILLIS = 3600000L;
+
+    private final List<Recurrence> recurrences = new ArrayList<>();
+
+    private long[] nextIndexes = new long[INITIAL_CAPACITY];
+
+    private long horizon = Long.MIN_VALUE;
+
+    private long discardedBefore = Long.MIN_VALUE;
+
+    private long[] starts = new long[INITIAL_CAPACITY];
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+
+    private int first;
+
+    private int size;
+
+    /*
+     * Adds the recurrence, its occurrences before the horizon are indexed at once
+     *
+     * returns the id of the recurrence*/
+    public int add(Recurrence recurrence) {
+        int id = recurrences.size();
+        recurrences.add(recurrence);
+        if (id == nextIndexes.length) {
+            nextIndexes = Arrays.copyOf(nextIndexes, id * 2);
+        }
+        nextIndexes[id] = discardedBefore == Long.MIN_VALUE ? 0 : recurrence.indexAfter(discardedBefore - 1);
+        if (horizon != Long.MIN_VALUE) {
+            extend(id, id + 1, horizon);
+        }
+        return id;
+    }
+
+    public Recurrence getRecurrence(int id) {
+        return recurrences.get(id);
+    }
+
+    /*
+     * Indexes the occurrences starting before the horizon*/
+    public void extendTo(long newHorizon) {
+        if (newHorizon <= horizon) {
+            return;
+        }
+        extend(0, recurrences.size(), newHorizon);
+        horizon = newHorizon;
+    }
+
+    /*
+     * Extends the horizon until count occurrences start at or after the instant, or every recurrence has ended
+     *
+     * returns the position of the first of them*/
+    public int extendToCount(long epochMillis, int count) {
+        long span = HOUR_MILLIS;
+        while (size() - firstAtOrAfter(epochMillis) < count && !allEnded()) {
+            long base = Math.max(horizon, epochMillis);
+            extendTo(base > Long.MAX_VALUE - span ? Long.MAX_VALUE : base + span);
+            if (horizon == Long.MAX_VALUE) {
+                break;
+            }
+            span = span > Long.MAX_VALUE / 2 ? Long.MAX_VALUE : span * 2;
+        }
+        return firstAtOrAfter(epochMillis);
+    }
+
+    /*
+     * Drops the occurrences starting before the instant*/
+    public void discardBefore(long epochMillis) {
+        if (epochMillis <= discardedBefore) {
+            return;
+        }
+        discardedBefore = epochMillis;
+        first += firstAtOrAfter(epochMillis);
+        if (first > size / 2 && first > INITIAL_CAPACITY) {
+            System.arraycopy(starts, first, starts, 0, size - first);
+            System.arraycopy(ids, first, ids, 0, size - first);
+            size -= first;
+            first = 0;
+        }
+    }
+
+    public long getHorizon() {
+        return horizon;
+    }
+
+    /*
+     * returns the number of occurrences held*/
+    public int size() {
+        return size - first;
+    }
+
+    /*
+     * returns the position of the first occurrence starting at or after the instant, size() when there is none*/
+    public int firstAtOrAfter(long epochMillis) {
+        int low = first;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < epochMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - first;
+    }
+
+    public long getStart(int position) {
+        return starts[checkPosition(position)];
+    }
+
+    public int getId(int position) {
+        return ids[checkPosition(position)];
+    }
+
+    /*
+     * returns the ids of the occurrences starting at or after from and before to, in order of start;
+     * an id is there once for each of its occurrences in the range. The horizon is extended to toMillis first.*/
+    public int[] idsBetween(long fromMillis, long toMillis) {
+        if (toMillis > horizon) {
+            extendTo(toMillis);
+        }
+        int from = first + firstAtOrAfter(fromMillis);
+        int to = first + firstAtOrAfter(toMillis);
+        return Arrays.copyOfRange(ids, from, Math.max(from, to));
+    }
+
+    private void extend(int fromId, int toId, long newHorizon) {
+        int chunkStart = size;
+        for (int id = fromId; id < toId; id++) {
+            Recurrence recurrence = recurrences.get(id);
+            long k = nextIndexes[id];
+            if (k >= 0 && discardedBefore != Long.MIN_VALUE) {
+                long firstKept = recurrence.indexAfter(discardedBefore - 1);
+                k = firstKept < 0 ? -1 : Math.max(k, firstKept);
+            }
+            while (k >= 0 && (recurrence.getLimit() < 0 || k < recurrence.getLimit())) {
+                long start = recurrence.startOf(k);
+                if (start >= newHorizon) {
+                    break;
+                }
+                append(start, id);
+                k++;
+            }
+            nextIndexes[id] = k;
+        }
+        sortChunk(chunkStart, fromId == 0 && toId == recurrences.size());
+    }
+
+    private boolean allEnded() {
+        for (int id = 0; id < recurrences.size(); id++) {
+            long limit = recurrences.get(id).getLimit();
+            if (nextIndexes[id] >= 0 && (limit < 0 || nextIndexes[id] < limit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(long start, int id) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        starts[size] = start;
+        ids[size] = id;
+        size++;
+    }
+
+    /*
+     * Sorts the appended occurrences; a chunk of all recurrences starts at or after the old horizon and stays where it
+     * is, the chunk of a recurrence added late is merged into the occurrences held, which are already sorted*/
+    private void sortChunk(int chunkStart, boolean afterHeld) {
+        if (size - chunkStart < 2 && (afterHeld || size == chunkStart)) {
+            return;
+        }
+        long[] sortedStarts = Arrays.copyOfRange(starts, chunkStart, size);
+        int[] sortedIds = Arrays.copyOfRange(ids, chunkStart, size);
+        mergeSort(sortedStarts, sortedIds, starts, ids, chunkStart);
+        if (!afterHeld && chunkStart > first) {
+            mergeHeld(chunkStart);
+        }
+    }
+
+    /*
+     * Merges the sorted occurrences from chunkStart into the sorted occurrences held before them, by start then id*/
+    private void mergeHeld(int chunkStart) {
+        long[] chunkStarts = Arrays.copyOfRange(starts, chunkStart, size);
+        int[] chunkIds = Arrays.copyOfRange(ids, chunkStart, size);
+        int i = chunkStart - 1;
+        int j = chunkIds.length - 1;
+        for (int k = size - 1; j >= 0; k--) {
+            if (i >= first && (starts[i] > chunkStarts[j] || (starts[i] == chunkStarts[j] && ids[i] > chunkIds[j]))) {
+                starts[k] = starts[i];
+                ids[k] = ids[i--];
+            } else {
+                starts[k] = chunkStarts[j];
+                ids[k] = chunkIds[j--];
+            }
+        }
+    }
+
+    /*
+     * Bottom up merge sort by start then id, from the source arrays into the target from targetOffset*/
+    private static void mergeSort(long[] sourceStarts, int[] sourceIds, long[] targetStarts, int[] targetIds, int targetOffset) {
+        int length = sourceStarts.length;
+        long[] aStarts = sourceStarts;
+        int[] aIds = sourceIds;
+        long[] bStarts = new long[length];
+        int[] bIds = new int[length];
+        for (int width = 1; width < length; width *= 2) {
+            for (int low = 0; low < length; low += 2 * width) {
+                int mid = Math.min(low + width, length);
+                int high = Math.min(low + 2 * width, length);
+                int i = low;
+                int j = mid;
+                for (int k = low; k < high; k++) {
+                    if (i < mid && (j >= high || aStarts[i] < aStarts[j] || (aStarts[i] == aStarts[j] && aIds[i] <= aIds[j]))) {
+                        bStarts[k] = aStarts[i];
+                        bIds[k] = aIds[i++];
+                    } else {
+                        bStarts[k] = aStarts[j];
+                        bIds[k] = aIds[j++];
+                    }
+                }
+            }
+            long[] swapStarts = aStarts;
+            aStarts = bStarts;
+            bStarts = swapStarts;
+            int[] swapIds = aIds;
+            aIds = bIds;
+            bIds = swapIds;
+        }
+        System.arraycopy(aStarts, 0, targetStarts, targetOffset, length);
+        System.arraycopy(aIds, 0, targetIds, targetOffset, length);
+    }
+
+    private int checkPosition(int position) {
+        if (position < 0 || position >= size - first) {
+            throw new IndexOutOfBoundsException("Position " + position + " of " + (size - first)); //No I18N
+        }
+        return first + position;
+    }
+}
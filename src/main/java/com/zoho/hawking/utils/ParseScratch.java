@@ -0,0 +1,144 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Builders, lists and matchers a parse step works with, kept per thread and handed out again after reset
+ *
+ * A step calls reset when it starts, everything it took before is then free to be handed out again, so nothing
+ * taken from the scratch may be kept past the step or be returned from it. The first MAX_POOLED builders and lists
+ * taken between resets are pooled, past those a new one is made each time.
+ */
+public final class ParseScratch {
+
+    private static final ThreadLocal<ParseScratch> SCRATCH = ThreadLocal.withInitial(ParseScratch::new);
+
+    static final int MAX_POOLED = 16;
+
+    private final List<StringBuilder> builders = new ArrayList<>();
+    private int buildersTaken;
+
+    private final List<ArrayList<Object>> lists = new ArrayList<>();
+    private int listsTaken;
+
+    private final Map<Pattern, Matcher> matchers = new IdentityHashMap<>();
+
+    private ParseScratch() {
+    }
+
+    /*
+     * returns the scratch of the current thread*/
+    public static ParseScratch get() {
+        return SCRATCH.get();
+    }
+
+    /*
+     * Frees everything taken from the scratch since the last reset
+     *
+     * returns the scratch*/
+    public ParseScratch reset() {
+        buildersTaken = 0;
+        listsTaken = 0;
+        return this;
+    }
+
+    /*
+     * returns an empty builder*/
+    public StringBuilder builder() {
+        if (buildersTaken == builders.size()) {
+            if (buildersTaken == MAX_POOLED) {
+                return new StringBuilder();
+            }
+            builders.add(new StringBuilder());
+        }
+        StringBuilder builder = builders.get(buildersTaken++);
+        builder.setLength(0);
+        return builder;
+    }
+
+    /*
+     * returns an empty list*/
+    @SuppressWarnings("unchecked")
+    public <T> ArrayList<T> list() {
+        if (listsTaken == lists.size()) {
+            if (listsTaken == MAX_POOLED) {
+                return new ArrayList<>();
+            }
+            lists.add(new ArrayList<>());
+        }
+        ArrayList<Object> list = lists.get(listsTaken++);
+        list.clear();
+        return (ArrayList<T>) list;
+    }
+
+    /*
+     * returns the matcher of the pattern on the text, one matcher is kept for each pattern so a matcher taken
+     * before for the same pattern is reset*/
+    public Matcher matcher(Pattern pattern, CharSequence text) {
+        Matcher matcher = matchers.get(pattern);
+        if (matcher == null) {
+            matcher = pattern.matcher(text);
+            matchers.put(pattern, matcher);
+            return matcher;
+        }
+        return matcher.reset(text);
+    }
+
+    /*
+     * Splits the text on whitespace as text.split("\\s+") does
+     *
+     * returns the tokens in a list of the scratch*/
+    public List<String> split(String text) {
+        List<String> tokens = list();
+        if (text.isEmpty()) {
+            tokens.add(text);
+            return tokens;
+        }
+        int tokenStart = 0;
+        int i = 0;
+        while (i < text.length()) {
+            if (isWhitespace(text.charAt(i))) {
+                tokens.add(text.substring(tokenStart, i));
+                while (i < text.length() && isWhitespace(text.charAt(i))) {
+                    i++;
+                }
+                tokenStart = i;
+            } else {
+                i++;
+            }
+        }
+        tokens.add(text.substring(tokenStart));
+        while (!tokens.isEmpty() && tokens.get(tokens.size() - 1).isEmpty()) {
+            tokens.remove(tokens.size() - 1);
+        }
+        return tokens;
+    }
+
+    /*
+     * returns the number of tokens text.substring(0, end).split("\\s+") gives, without splitting*/
+    public static int tokenCount(String text, int end) {
+        if (end == 0) {
+            return 1;
+        }
+        int words = 0;
+        for (int i = 0; i < end; i++) {
+            if (!isWhitespace(text.charAt(i)) && (i == 0 || isWhitespace(text.charAt(i - 1)))) {
+                words++;
+            }
+        }
+        if (words == 0) {
+            return 0;
+        }
+        return isWhitespace(text.charAt(0)) ? words + 1 : words;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,203 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.DateGroup;
+import com.zoho.hawking.language.english.model.DateRange;
+import com.zoho.hawking.language.english.model.Recurrence;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Compiles the recurrence of a DateGroup into an RFC 5545 RRULE value and back
+ *
+ * The rule is relative to the first occurrence, which plays the part of DTSTART: the caller keeps the parsed
+ * DateRange (its start, end and offset) and the rule, not the occurrences. Steps of months and years that start after
+ * the 28th are written as BYMONTHDAY=28,..,day;BYSETPOS=-1, which is the last day of a shorter month as Recurrence
+ * expands it. Steps of days, weeks, months and years keep the wall clock of the first occurrence across daylight
+ * saving changes, as RFC 5545 expands a DTSTART with a time zone. Reading a rule back gives the same Recurrence, so
+ * expansions of a stored rule are the same every time.
+ */
+public class RecurrenceRuleCompiler {
+
+    private static final long SECOND_MILLIS = 1000L;
+    private static final long MINUTE_MILLIS = 60 * SECOND_MILLIS;
+    private static final long HOUR_MILLIS = 60 * MINUTE_MILLIS;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+    private static final long WEEK_MILLIS = 7 * DAY_MILLIS;
+
+    private static final String[] WEEK_DAYS = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"}; //No I18N
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'"); //No I18N
+
+    private static final String RRULE_PREFIX = "RRULE:"; //No I18N
+
+    private RecurrenceRuleCompiler() {
+    }
+
+    /*
+     * returns the RRULE value of the recurrence of the date group, null when it does not repeat
+     *
+     * throws IllegalArgumentException when the step is not a whole number of seconds*/
+    public static String compile(DateGroup dateGroup) {
+        Recurrence recurrence = dateGroup.getRecurrence();
+        return recurrence == null ? null : compile(recurrence);
+    }
+
+    /*
+     * throws IllegalArgumentException when the step is not a whole number of seconds, which a rule can not hold*/
+    public static String compile(Recurrence recurrence) {
+        StringBuilder rule = new StringBuilder();
+        for (Map.Entry<String, String> part : ruleParts(recurrence).entrySet()) {
+            if (rule.length() > 0) {
+                rule.append(';');
+            }
+            rule.append(part.getKey()).append('=').append(part.getValue());
+        }
+        return rule.toString();
+    }
+
+    /*
+     * Reads a rule written by compile, with or without the RRULE: prefix; UNTIL is taken as the last start allowed
+     *
+     * throws IllegalArgumentException for a rule that is not a single step from the first occurrence*/
+    public static Recurrence toRecurrence(String rule, DateRange firstOccurrence) {
+        if (rule.startsWith(RRULE_PREFIX)) {
+            rule = rule.substring(RRULE_PREFIX.length());
+        }
+        Map<String, String> parts = new LinkedHashMap<>();
+        for (String part : rule.split(";")) { //No I18N
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid rule part " + part); //No I18N
+            }
+            parts.put(part.substring(0, separator), part.substring(separator + 1));
+        }
+        String frequency = parts.remove("FREQ"); //No I18N
+        if (frequency == null) {
+            throw new IllegalArgumentException("No FREQ in rule " + rule); //No I18N
+        }
+        String interval = parts.remove("INTERVAL"); //No I18N
+        long step = interval == null ? 1 : parseCount(interval);
+        if (step <= 0) {
+            throw new IllegalArgumentException("Invalid INTERVAL in rule " + rule); //No I18N
+        }
+        String count = parts.remove("COUNT"); //No I18N
+        String until = parts.remove("UNTIL"); //No I18N
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("Both COUNT and UNTIL in rule " + rule); //No I18N
+        }
+        long limit = count == null ? -1 : parseCount(count);
+        Recurrence recurrence;
+        switch (frequency) {
+            case "YEARLY": //No I18N
+                recurrence = Recurrence.of(firstOccurrence, Math.toIntExact(step * 12), 0, limit);
+                break;
+            case "MONTHLY": //No I18N
+                recurrence = Recurrence.of(firstOccurrence, Math.toIntExact(step), 0, limit);
+                break;
+            case "WEEKLY": //No I18N
+                recurrence = Recurrence.of(firstOccurrence, 0, step * WEEK_MILLIS, limit);
+                break;
+            case "DAILY": //No I18N
+                recurrence = Recurrence.of(firstOccurrence, 0, step * DAY_MILLIS, limit);
+                break;
+            case "HOURLY": //No I18N
+                recurrence = Recurrence.of(firstOccurrence, 0, step * HOUR_MILLIS, limit);
+                break;
+            case "MINUTELY": //No I18N
+                recurrence = Recurrence.of(firstOccurrence, 0, step * MINUTE_MILLIS, limit);
+                break;
+            case "SECONDLY": //No I18N
+                recurrence = Recurrence.of(firstOccurrence, 0, step * SECOND_MILLIS, limit);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported FREQ " + frequency); //No I18N
+        }
+        if (recurrence == null) {
+            throw new IllegalArgumentException("First occurrence has no start"); //No I18N
+        }
+        Map<String, String> impliedParts = ruleParts(recurrence);
+        for (Map.Entry<String, String> part : parts.entrySet()) {
+            if (!part.getValue().equals(impliedParts.get(part.getKey()))) {
+                throw new IllegalArgumentException("Unsupported rule part " + part.getKey() + "=" + part.getValue()); //No I18N
+            }
+        }
+        if (until != null) {
+            long untilMillis = parseUntil(until);
+            long firstAfter = recurrence.indexAfter(untilMillis);
+            recurrence = Recurrence.of(firstOccurrence, recurrence.getStepMonths(), recurrence.getStepMillis(), firstAfter);
+        }
+        return recurrence;
+    }
+
+    /*
+     * FREQ, INTERVAL, the BY parts the first occurrence implies and COUNT, in that order*/
+    private static Map<String, String> ruleParts(Recurrence recurrence) {
+        Map<String, String> parts = new LinkedHashMap<>();
+        int stepMonths = recurrence.getStepMonths();
+        long stepMillis = recurrence.getStepMillis();
+        if (stepMonths > 0) {
+            boolean yearly = stepMonths % 12 == 0;
+            parts.put("FREQ", yearly ? "YEARLY" : "MONTHLY"); //No I18N
+            parts.put("INTERVAL", String.valueOf(yearly ? stepMonths / 12 : stepMonths)); //No I18N
+            int dayOfMonth = recurrence.getStartDayOfMonth();
+            if (dayOfMonth > 28) {
+                if (yearly) {
+                    parts.put("BYMONTH", String.valueOf(recurrence.getStartMonth())); //No I18N
+                }
+                StringBuilder days = new StringBuilder("28"); //No I18N
+                for (int day = 29; day <= dayOfMonth; day++) {
+                    days.append(',').append(day);
+                }
+                parts.put("BYMONTHDAY", days.toString()); //No I18N
+                parts.put("BYSETPOS", "-1"); //No I18N
+            }
+        } else if (stepMillis % WEEK_MILLIS == 0) {
+            parts.put("FREQ", "WEEKLY"); //No I18N
+            parts.put("INTERVAL", String.valueOf(stepMillis / WEEK_MILLIS)); //No I18N
+            parts.put("BYDAY", WEEK_DAYS[recurrence.getStartDayOfWeek() - 1]); //No I18N
+        } else if (stepMillis % DAY_MILLIS == 0) {
+            parts.put("FREQ", "DAILY"); //No I18N
+            parts.put("INTERVAL", String.valueOf(stepMillis / DAY_MILLIS)); //No I18N
+        } else if (stepMillis % HOUR_MILLIS == 0) {
+            parts.put("FREQ", "HOURLY"); //No I18N
+            parts.put("INTERVAL", String.valueOf(stepMillis / HOUR_MILLIS)); //No I18N
+        } else if (stepMillis % MINUTE_MILLIS == 0) {
+            parts.put("FREQ", "MINUTELY"); //No I18N
+            parts.put("INTERVAL", String.valueOf(stepMillis / MINUTE_MILLIS)); //No I18N
+        } else if (stepMillis % SECOND_MILLIS == 0) {
+            parts.put("FREQ", "SECONDLY"); //No I18N
+            parts.put("INTERVAL", String.valueOf(stepMillis / SECOND_MILLIS)); //No I18N
+        } else {
+            throw new IllegalArgumentException("A step of " + stepMillis + " millis is not a whole number of seconds"); //No I18N
+        }
+        if (recurrence.getLimit() >= 0) {
+            parts.put("COUNT", String.valueOf(recurrence.getLimit())); //No I18N
+        }
+        return parts;
+    }
+
+    private static long parseCount(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number " + value, e); //No I18N
+        }
+    }
+
+    private static long parseUntil(String value) {
+        try {
+            if (value.length() == 8) {
+                value = value + "T235959Z"; //No I18N
+            }
+            return LocalDateTime.parse(value, UNTIL_FORMAT).toInstant(ZoneOffset.UTC).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("UNTIL is not a UTC date time " + value, e); //No I18N
+        }
+    }
+}
@@ -0,0 +1,388 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.DateRange;
+import com.zoho.hawking.language.english.model.DatesFound;
+import com.zoho.hawking.language.english.model.ParserOutput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Dates found in many documents, indexed by the time they mention
+ *
+ * Each ParserOutput with a DateRange is an entry of its document, the range being [start, end] with an open end
+ * taken as the end of time and an open start as the beginning. The entries are nodes of a treap ordered by start,
+ * each node holding the latest end under it, so an overlap query skips every subtree that ends before it. The nodes
+ * live in parallel primitive arrays indexed by entry id; ids of removed entries are reused. addAll sorts the entries
+ * and rebuilds the tree in one pass, add and remove change it in place. Queries keep their state on the stack and
+ * change nothing, so they can run at the same time as long as nothing is added or removed meanwhile.
+ */
+public class TemporalIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final List<String> documents = new ArrayList<>();
+    private final Map<String, Integer> documentNumbers = new HashMap<>();
+    private final List<int[]> documentEntries = new ArrayList<>();
+    private final List<ParserOutput> parserOutputs = new ArrayList<>();
+
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private long[] maxEnds = new long[INITIAL_CAPACITY];
+    private int[] documentOfEntry = new int[INITIAL_CAPACITY];
+    private int[] lefts = new int[INITIAL_CAPACITY];
+    private int[] rights = new int[INITIAL_CAPACITY];
+    private int[] priorities = new int[INITIAL_CAPACITY];
+    private int[] freeEntries = new int[INITIAL_CAPACITY];
+    private int freeCount;
+
+    private int root = -1;
+    private int size;
+
+    private int splitLeft;
+    private int splitRight;
+
+    /*
+     * Adds the dates found in the document to the tree one by one*/
+    public void add(String documentId, DatesFound datesFound) {
+        for (int entry : addEntries(documentId, datesFound)) {
+            insert(entry);
+        }
+    }
+
+    /*
+     * Adds the dates found in each document and rebuilds the tree from the sorted entries*/
+    public void addAll(List<String> documentIds, List<DatesFound> datesFoundList) {
+        for (int i = 0; i < documentIds.size(); i++) {
+            addEntries(documentIds.get(i), datesFoundList.get(i));
+        }
+        rebuild();
+    }
+
+    /*
+     * Removes every entry of the document
+     *
+     * returns the number of entries removed*/
+    public int remove(String documentId) {
+        Integer documentNumber = documentNumbers.get(documentId);
+        if (documentNumber == null) {
+            return 0;
+        }
+        int[] entries = documentEntries.get(documentNumber);
+        for (int i = 1; i <= entries[0]; i++) {
+            int entry = entries[i];
+            root = remove(root, entry);
+            parserOutputs.set(entry, null);
+            if (freeCount == freeEntries.length) {
+                freeEntries = Arrays.copyOf(freeEntries, freeCount * 2);
+            }
+            freeEntries[freeCount++] = entry;
+            size--;
+        }
+        documentEntries.set(documentNumber, new int[1]);
+        return entries[0];
+    }
+
+    /*
+     * returns the number of entries*/
+    public int size() {
+        return size;
+    }
+
+    /*
+     * returns the ids of the documents mentioning a time overlapping [fromMillis, toMillis], each once, in order of
+     * the start of their first overlapping entry*/
+    public List<String> documentsOverlapping(long fromMillis, long toMillis) {
+        int[] entries = entriesOverlapping(fromMillis, toMillis);
+        BitSet seen = new BitSet(documents.size());
+        List<String> documentIds = new ArrayList<>();
+        for (int entry : entries) {
+            int documentNumber = documentOfEntry[entry];
+            if (!seen.get(documentNumber)) {
+                seen.set(documentNumber);
+                documentIds.add(documents.get(documentNumber));
+            }
+        }
+        return documentIds;
+    }
+
+    /*
+     * returns the entries overlapping [fromMillis, toMillis] in order of start*/
+    public int[] entriesOverlapping(long fromMillis, long toMillis) {
+        int[] found = collect(root, fromMillis, toMillis, new int[16]);
+        return Arrays.copyOfRange(found, 1, found[0] + 1);
+    }
+
+    /*
+     * returns the entry starting at or after the instant with the earliest start, -1 when there is none*/
+    public int nextStartingAt(long epochMillis) {
+        int node = root;
+        int next = -1;
+        while (node >= 0) {
+            if (starts[node] >= epochMillis) {
+                next = node;
+                node = lefts[node];
+            } else {
+                node = rights[node];
+            }
+        }
+        return next;
+    }
+
+    public String getDocumentId(int entry) {
+        return documents.get(documentOfEntry[checkEntry(entry)]);
+    }
+
+    public ParserOutput getParserOutput(int entry) {
+        return parserOutputs.get(checkEntry(entry));
+    }
+
+    public long getStart(int entry) {
+        return starts[checkEntry(entry)];
+    }
+
+    public long getEnd(int entry) {
+        return ends[checkEntry(entry)];
+    }
+
+    /*
+     * Appends the entries under the node overlapping [fromMillis, toMillis] to found, whose first element is the
+     * number of entries in it; the buffer belongs to the query, so queries only read the tree
+     *
+     * returns found, or a larger copy of it when it was full*/
+    private int[] collect(int node, long fromMillis, long toMillis, int[] found) {
+        if (node < 0 || maxEnds[node] < fromMillis) {
+            return found;
+        }
+        found = collect(lefts[node], fromMillis, toMillis, found);
+        if (starts[node] > toMillis) {
+            return found;
+        }
+        if (ends[node] >= fromMillis) {
+            if (found[0] + 1 == found.length) {
+                found = Arrays.copyOf(found, found.length * 2);
+            }
+            found[++found[0]] = node;
+        }
+        return collect(rights[node], fromMillis, toMillis, found);
+    }
+
+    private int[] addEntries(String documentId, DatesFound datesFound) {
+        Integer documentNumber = documentNumbers.get(documentId);
+        if (documentNumber == null) {
+            documentNumber = documents.size();
+            documents.add(documentId);
+            documentNumbers.put(documentId, documentNumber);
+            documentEntries.add(new int[1]);
+        }
+        int[] entries = documentEntries.get(documentNumber);
+        if (datesFound == null || datesFound.getParserOutputs() == null) {
+            return new int[0];
+        }
+        int addedFrom = entries[0] + 1;
+        for (ParserOutput parserOutput : datesFound.getParserOutputs()) {
+            DateRange dateRange = parserOutput.getDateRange();
+            if (dateRange == null || (dateRange.getStartMillis() == DateRange.NO_DATE && dateRange.getEndMillis() == DateRange.NO_DATE)) {
+                continue;
+            }
+            int entry = newEntry(documentNumber, parserOutput, dateRange);
+            if (entries[0] + 1 == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            entries[++entries[0]] = entry;
+        }
+        documentEntries.set(documentNumber, entries);
+        return Arrays.copyOfRange(entries, addedFrom, entries[0] + 1);
+    }
+
+    private int newEntry(int documentNumber, ParserOutput parserOutput, DateRange dateRange) {
+        int entry;
+        if (freeCount > 0) {
+            entry = freeEntries[--freeCount];
+            parserOutputs.set(entry, parserOutput);
+        } else {
+            entry = parserOutputs.size();
+            parserOutputs.add(parserOutput);
+            if (entry == starts.length) {
+                grow();
+            }
+        }
+        starts[entry] = dateRange.getStartMillis();
+        ends[entry] = dateRange.getEndMillis() == DateRange.NO_DATE ? Long.MAX_VALUE : dateRange.getEndMillis();
+        maxEnds[entry] = ends[entry];
+        documentOfEntry[entry] = documentNumber;
+        lefts[entry] = -1;
+        rights[entry] = -1;
+        priorities[entry] = priorityOf(entry);
+        size++;
+        return entry;
+    }
+
+    private void insert(int entry) {
+        split(root, entry);
+        int left = splitLeft;
+        int right = splitRight;
+        root = merge(merge(left, entry), right);
+    }
+
+    private int remove(int node, int entry) {
+        if (node == entry) {
+            return merge(lefts[node], rights[node]);
+        }
+        if (before(entry, node)) {
+            lefts[node] = remove(lefts[node], entry);
+        } else {
+            rights[node] = remove(rights[node], entry);
+        }
+        update(node);
+        return node;
+    }
+
+    /*
+     * Splits the tree into the entries before the key entry, in splitLeft, and the rest, in splitRight*/
+    private void split(int node, int key) {
+        if (node < 0) {
+            splitLeft = -1;
+            splitRight = -1;
+            return;
+        }
+        if (before(node, key)) {
+            split(rights[node], key);
+            rights[node] = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(lefts[node], key);
+            lefts[node] = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    private int merge(int left, int right) {
+        if (left < 0) {
+            return right;
+        }
+        if (right < 0) {
+            return left;
+        }
+        if (priorities[left] > priorities[right]) {
+            rights[left] = merge(rights[left], right);
+            update(left);
+            return left;
+        }
+        lefts[right] = merge(left, lefts[right]);
+        update(right);
+        return right;
+    }
+
+    /*
+     * Sorts the entries by start and builds the treap of them with a stack of its right spine*/
+    private void rebuild() {
+        int[] sorted = new int[size];
+        int count = 0;
+        for (int entry = 0; entry < parserOutputs.size(); entry++) {
+            if (parserOutputs.get(entry) != null) {
+                sorted[count++] = entry;
+            }
+        }
+        sortEntries(sorted);
+        int[] spine = new int[size];
+        int spineSize = 0;
+        for (int entry : sorted) {
+            lefts[entry] = -1;
+            rights[entry] = -1;
+            int last = -1;
+            while (spineSize > 0 && priorities[spine[spineSize - 1]] < priorities[entry]) {
+                last = spine[--spineSize];
+            }
+            lefts[entry] = last;
+            if (spineSize > 0) {
+                rights[spine[spineSize - 1]] = entry;
+            }
+            spine[spineSize++] = entry;
+        }
+        root = spineSize > 0 ? spine[0] : -1;
+        updateAll(root);
+    }
+
+    private long updateAll(int node) {
+        if (node < 0) {
+            return Long.MIN_VALUE;
+        }
+        maxEnds[node] = Math.max(ends[node], Math.max(updateAll(lefts[node]), updateAll(rights[node])));
+        return maxEnds[node];
+    }
+
+    private void update(int node) {
+        long maxEnd = ends[node];
+        if (lefts[node] >= 0) {
+            maxEnd = Math.max(maxEnd, maxEnds[lefts[node]]);
+        }
+        if (rights[node] >= 0) {
+            maxEnd = Math.max(maxEnd, maxEnds[rights[node]]);
+        }
+        maxEnds[node] = maxEnd;
+    }
+
+    private boolean before(int entry, int other) {
+        return starts[entry] < starts[other] || (starts[entry] == starts[other] && entry < other);
+    }
+
+    /*
+     * Bottom up merge sort of entry ids by start then id*/
+    private void sortEntries(int[] entries) {
+        int[] source = entries;
+        int[] target = new int[entries.length];
+        for (int width = 1; width < entries.length; width *= 2) {
+            for (int low = 0; low < entries.length; low += 2 * width) {
+                int mid = Math.min(low + width, entries.length);
+                int high = Math.min(low + 2 * width, entries.length);
+                int i = low;
+                int j = mid;
+                for (int k = low; k < high; k++) {
+                    target[k] = (i < mid && (j >= high || !before(source[j], source[i]))) ? source[i++] : source[j++];
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != entries) {
+            System.arraycopy(source, 0, entries, 0, entries.length);
+        }
+    }
+
+    /*
+     * Priorities are a hash of the entry id, so the same entries give the same tree*/
+    private static int priorityOf(int entry) {
+        int hash = entry * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    private int checkEntry(int entry) {
+        if (entry < 0 || entry >= parserOutputs.size() || parserOutputs.get(entry) == null) {
+            throw new IndexOutOfBoundsException("No entry " + entry); //No I18N
+        }
+        return entry;
+    }
+
+    private void grow() {
+        int capacity = starts.length * 2;
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        maxEnds = Arrays.copyOf(maxEnds, capacity);
+        documentOfEntry = Arrays.copyOf(documentOfEntry, capacity);
+        lefts = Arrays.copyOf(lefts, capacity);
+        rights = Arrays.copyOf(rights, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+    }
+}
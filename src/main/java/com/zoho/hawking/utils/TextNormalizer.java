@@ -0,0 +1,152 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.datetimeparser.configuration.NormalizationRule;
+import com.zoho.hawking.datetimeparser.utils.NumberNormalizer.NormalizedText;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Rewrites the date text with a table of NormalizationRules compiled into a single pattern
+ *
+ * Every rule becomes one alternative of the pattern, so the text is rewritten in one scan. Where rules
+ * start at the same position the earlier rule wins, tenant rules come before the default ones.
+ * Rules must not use back references, their groups are renumbered inside the combined pattern.
+ * normalizeWithOffsets keeps where each character of the result came from in the given text.
+ */
+public class TextNormalizer {
+
+    private static final String MONTHS = "January|February|March|April|May|June|July|August|September|October|November|December"; //No I18N
+
+    public static final List<NormalizationRule> DEFAULT_RULES = Collections.unmodifiableList(Arrays.asList(
+            new NormalizationRule("(?i:(?:last|final) week\\s+(?:of\\s+)?(" + MONTHS + ")|(" + MONTHS + ")\\s+last week)", "4th week $1$2"), //No I18N
+            new NormalizationRule("[,“”\"~()@]", " "), //No I18N
+            new NormalizationRule("hrs|Hrs|Hr|hr", " hrs"), //No I18N
+            new NormalizationRule("date", "day"), //No I18N
+            new NormalizationRule("nextweek", "next week"), //No I18N
+            new NormalizationRule("Year", "year"), //No I18N
+            new NormalizationRule("\\b(?i:final)", "last"), //No I18N
+            new NormalizationRule("\\.$", " "), //No I18N
+            new NormalizationRule("^- ", " "), //No I18N
+            new NormalizationRule("post", "after"), //No I18N
+            new NormalizationRule("breakfast", "8 AM"), //No I18N
+            new NormalizationRule("lunch", "1 PM"), //No I18N
+            new NormalizationRule("dinner", "8 PM"), //No I18N
+            new NormalizationRule("around", "from"), //No I18N
+            new NormalizationRule("before(?=\\.?\\s*$)", "back"), //No I18N
+            new NormalizationRule("null", ""))); //No I18N
+
+    private static final TextNormalizer DEFAULT = new TextNormalizer(Collections.emptyList());
+
+    private static final Map<List<NormalizationRule>, TextNormalizer> COMPILED = new ConcurrentHashMap<>();
+
+    private final Pattern pattern;
+    private final int[] ruleGroups;
+    private final String[] replacements;
+
+    private TextNormalizer(List<NormalizationRule> tenantRules) {
+        List<NormalizationRule> rules = new ArrayList<>(tenantRules);
+        rules.addAll(DEFAULT_RULES);
+        ruleGroups = new int[rules.size()];
+        replacements = new String[rules.size()];
+        StringBuilder combined = new StringBuilder();
+        int group = 1;
+        for (int i = 0; i < rules.size(); i++) {
+            NormalizationRule rule = rules.get(i);
+            if (i > 0) {
+                combined.append('|');
+            }
+            combined.append('(').append(rule.getPattern()).append(')');
+            ruleGroups[i] = group;
+            replacements[i] = rule.getReplacement();
+            group += Pattern.compile(rule.getPattern()).matcher("").groupCount() + 1;
+        }
+        pattern = Pattern.compile(combined.toString());
+    }
+
+    /*
+     * Returns the normalizer for the tenant rules, compiled once per distinct rule list*/
+    public static TextNormalizer forRules(List<NormalizationRule> tenantRules) {
+        if (tenantRules == null || tenantRules.isEmpty()) {
+            return DEFAULT;
+        }
+        return COMPILED.computeIfAbsent(new ArrayList<>(tenantRules), TextNormalizer::new);
+    }
+
+    /*
+     * Applies the rules in one scan, then collapses repeated white space and trims the text*/
+    public String normalize(String text) {
+        return normalizeWithOffsets(text).getText();
+    }
+
+    /*
+     * normalize with the offset of each character of the result in the given text, replacements map to the
+     * start of what they replaced*/
+    public NormalizedText normalizeWithOffsets(String text) {
+        Matcher matcher = pattern.matcher(text);
+        NormalizedText.Builder normalized = new NormalizedText.Builder(text);
+        int copied = 0;
+        while (matcher.find()) {
+            int rule = matchedRule(matcher);
+            normalized.copy(copied, matcher.start());
+            appendReplacement(normalized, matcher, ruleGroups[rule], replacements[rule]);
+            copied = matcher.end();
+        }
+        NormalizedText spaced = normalized.copy(copied, text.length()).build();
+        return collapseSpaces(spaced.getText()).after(spaced);
+    }
+
+    private int matchedRule(Matcher matcher) {
+        for (int i = 0; i < ruleGroups.length; i++) {
+            if (matcher.start(ruleGroups[i]) != -1) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No rule matched"); //No I18N
+    }
+
+    private static void appendReplacement(NormalizedText.Builder normalized, Matcher matcher, int ruleGroup, String replacement) {
+        for (int i = 0; i < replacement.length(); i++) {
+            char c = replacement.charAt(i);
+            if (c == '\\' && i + 1 < replacement.length()) {
+                normalized.append(replacement.charAt(++i), matcher.start());
+            } else if (c == '$' && i + 1 < replacement.length() && Character.isDigit(replacement.charAt(i + 1))) {
+                String value = matcher.group(ruleGroup + Character.digit(replacement.charAt(++i), 10));
+                if (value != null) {
+                    normalized.append(value, matcher.start());
+                }
+            } else {
+                normalized.append(c, matcher.start());
+            }
+        }
+    }
+
+    /*
+     * A collapsed space maps to the first white space it stands for*/
+    private static NormalizedText collapseSpaces(String text) {
+        NormalizedText.Builder collapsed = new NormalizedText.Builder(text);
+        int pendingSpace = -1;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (pendingSpace < 0 && collapsed.length() > 0) {
+                    pendingSpace = i;
+                }
+            } else {
+                if (pendingSpace >= 0) {
+                    collapsed.append(' ', pendingSpace);
+                    pendingSpace = -1;
+                }
+                collapsed.append(c, i);
+            }
+        }
+        return collapsed.build();
+    }
+}
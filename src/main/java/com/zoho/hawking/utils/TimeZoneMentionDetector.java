@@ -0,0 +1,177 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.TimeZoneMention;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Finds the time zones of TimeZoneExtractor.timeZoneList in a text
+ *
+ * The names are compiled once into a case insensitive Aho-Corasick automaton, so a text is scanned once
+ * whatever the number of zones. A mention counts only on word boundaries, like \b<zone>\b did.
+ */
+public class TimeZoneMentionDetector {
+
+    private static final int ROOT = 0;
+
+    private static final String[] ZONES = TimeZoneExtractor.timeZoneList.toArray(new String[0]);
+
+    private static final char[] ALPHABET;
+
+    private static final int[][] TRANSITIONS;
+
+    private static final int[] OUTPUT;
+
+    private static final int[] OUTPUT_LINK;
+
+    static {
+        StringBuilder letters = new StringBuilder();
+        for (String zone : ZONES) {
+            for (int i = 0; i < zone.length(); i++) {
+                char c = Character.toLowerCase(zone.charAt(i));
+                if (letters.indexOf(String.valueOf(c)) < 0) {
+                    letters.append(c);
+                }
+            }
+        }
+        ALPHABET = letters.toString().toCharArray();
+        Arrays.sort(ALPHABET);
+
+        List<int[]> transitions = new ArrayList<>();
+        List<Integer> output = new ArrayList<>();
+        transitions.add(newState());
+        output.add(-1);
+        for (int zone = 0; zone < ZONES.length; zone++) {
+            int state = ROOT;
+            for (int i = 0; i < ZONES[zone].length(); i++) {
+                int symbol = symbolOf(ZONES[zone].charAt(i));
+                if (transitions.get(state)[symbol] <= ROOT) {
+                    transitions.get(state)[symbol] = transitions.size();
+                    transitions.add(newState());
+                    output.add(-1);
+                }
+                state = transitions.get(state)[symbol];
+            }
+            if (output.get(state) < 0 || ZONES[output.get(state)].length() < ZONES[zone].length()) {
+                output.set(state, zone);
+            }
+        }
+
+        TRANSITIONS = transitions.toArray(new int[0][]);
+        OUTPUT = new int[TRANSITIONS.length];
+        OUTPUT_LINK = new int[TRANSITIONS.length];
+        int[] failure = new int[TRANSITIONS.length];
+        for (int state = 0; state < OUTPUT.length; state++) {
+            OUTPUT[state] = output.get(state);
+        }
+        int[] queue = new int[TRANSITIONS.length];
+        int head = 0;
+        int tail = 0;
+        for (int symbol = 0; symbol < ALPHABET.length; symbol++) {
+            int next = TRANSITIONS[ROOT][symbol];
+            if (next > ROOT) {
+                failure[next] = ROOT;
+                OUTPUT_LINK[next] = -1;
+                queue[tail++] = next;
+            } else {
+                TRANSITIONS[ROOT][symbol] = ROOT;
+            }
+        }
+        OUTPUT_LINK[ROOT] = -1;
+        while (head < tail) {
+            int state = queue[head++];
+            for (int symbol = 0; symbol < ALPHABET.length; symbol++) {
+                int next = TRANSITIONS[state][symbol];
+                if (next > ROOT) {
+                    int fallback = TRANSITIONS[failure[state]][symbol];
+                    failure[next] = fallback;
+                    OUTPUT_LINK[next] = OUTPUT[fallback] >= 0 ? fallback : OUTPUT_LINK[fallback];
+                    queue[tail++] = next;
+                } else {
+                    TRANSITIONS[state][symbol] = TRANSITIONS[failure[state]][symbol];
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns the longest time zone mention of the text, the leftmost one among equally long mentions,
+     * or null when there is none*/
+    public static TimeZoneMention find(String text) {
+        TimeZoneMention longest = null;
+        for (TimeZoneMention mention : scan(text, false)) {
+            if (longest == null || mention.getEnd() - mention.getStart() > longest.getEnd() - longest.getStart()) {
+                longest = mention;
+            }
+        }
+        return longest;
+    }
+
+    /*
+     * Returns the time zone mentions of the text that do not overlap, longest first at each position*/
+    public static List<TimeZoneMention> findAll(String text) {
+        return scan(text, true);
+    }
+
+    private static List<TimeZoneMention> scan(String text, boolean dropOverlaps) {
+        List<TimeZoneMention> mentions = new ArrayList<>();
+        int state = ROOT;
+        for (int position = 0; position < text.length(); position++) {
+            int symbol = symbolOf(text.charAt(position));
+            state = symbol < 0 ? ROOT : TRANSITIONS[state][symbol];
+            int end = position + 1;
+            if (!isBoundary(text, end)) {
+                continue;
+            }
+            for (int match = OUTPUT[state] >= 0 ? state : OUTPUT_LINK[state]; match > ROOT; match = OUTPUT_LINK[match]) {
+                int start = end - ZONES[OUTPUT[match]].length();
+                if (isBoundary(text, start)) {
+                    add(mentions, new TimeZoneMention(ZONES[OUTPUT[match]], start, end), dropOverlaps);
+                }
+            }
+        }
+        return mentions;
+    }
+
+    /*
+     * Mentions arrive ordered by end, so an overlapping mention can only clash with the last ones kept*/
+    private static void add(List<TimeZoneMention> mentions, TimeZoneMention mention, boolean dropOverlaps) {
+        if (!dropOverlaps) {
+            mentions.add(mention);
+            return;
+        }
+        int length = mention.getEnd() - mention.getStart();
+        while (!mentions.isEmpty()) {
+            TimeZoneMention last = mentions.get(mentions.size() - 1);
+            if (last.getEnd() <= mention.getStart()) {
+                break;
+            }
+            if (last.getEnd() - last.getStart() >= length) {
+                return;
+            }
+            mentions.remove(mentions.size() - 1);
+        }
+        mentions.add(mention);
+    }
+
+    private static boolean isBoundary(String text, int position) {
+        boolean before = position > 0 && isWordChar(text.charAt(position - 1));
+        boolean after = position < text.length() && isWordChar(text.charAt(position));
+        return before != after;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static int symbolOf(char c) {
+        return Arrays.binarySearch(ALPHABET, Character.toLowerCase(c));
+    }
+
+    private static int[] newState() {
+        return new int[ALPHABET.length];
+    }
+}
@@ -0,0 +1,172 @@
+//$Id$
+package com.zoho.hawking.utils;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Offsets of the time zone mentions at a reference instant
+ *
+ * Mentions that are zone ids (Asia/Kolkata, PST, Etc/GMT+5, GMT+05:30 ...) resolve to their zone rules, so daylight
+ * saving follows the reference instant. Display names and abbreviations Java does not know (Acre Time, EDT ...) name
+ * a fixed offset, kept below grouped by offset with the spaced form only; the form without spaces is registered too.
+ * The mention table is built on first use, and the transitions of each zone between 1970 and 2100 are cached
+ * on first use so the offset at an instant is a binary search.
+ */
+public class ZoneOffsetCache {
+
+    private static final String[][] NAMED_OFFSETS = {
+            {"-11:00", "Niue Time", "Samoa Standard Time"}, //No I18N
+            {"-10:00", "CookIs.Time", "Tahiti Time", "Hawaii Standard Time"}, //No I18N
+            {"-09:30", "Marquesas Time"}, //No I18N
+            {"-09:00", "Gambier Time", "Hawaii Daylight Time", "Alaska Standard Time"}, //No I18N
+            {"-08:00", "US/Pacific-New", "Alaska Daylight Time", "Pacific Standard Time", "Pitcairn Standard Time"}, //No I18N
+            {"-07:00", "PDT", "Pacific Daylight Time", "Mountain Standard Time"}, //No I18N
+            {"-06:00", "MDT", "Central Time", "Galapagos Time", "Central Standard Time", "Mountain Daylight Time"}, //No I18N
+            {"-05:00", "CDT", "Acre Time", "Peru Time", "Ecuador Time", "Colombia Time", "EasterIs.SummerTime", "Central Daylight Time", //No I18N
+                    "Eastern Standard Time"}, //No I18N
+            {"-04:00", "EDT", "Amazon Time", "Guyana Time", "Bolivia Time", "Paraguay Time", "Venezuela Time", "Cuba Daylight Time", //No I18N
+                    "Eastern Daylight Time", "Atlantic Standard Time"}, //No I18N
+            {"-03:00", "Chile Time", "Uruguay Time", "Rothera Time", "ArgentineTime", "Brasilia Time", "Suriname Time", "FalklandIs.Time", //No I18N
+                    "Chile Summer Time", "French Guiana Time", "Atlantic Daylight Time"}, //No I18N
+            {"-02:30", "Newfoundland Daylight Time"}, //No I18N
+            {"-02:00", "Miquelon Daylight Time", "Fernandode Noronha Time", "South Georgia Standard Time", "Western Greenland Summer Time"}, //No I18N
+            {"-01:00", "Cape Verde Time"}, //No I18N
+            {"+00:00", "Ghana Mean Time", "Azores Summer Time", "Greenwich Mean Time", "EasternGreenlandSummerTime", "Coordinated Universal Time"}, //No I18N
+            {"+01:00", "British Summer Time", "Western African Time", "Central European Time", "Western European Summer Time"}, //No I18N
+            {"+02:00", "Central African Time", "Eastern European Time", "Middle Europe Summer Time", "South Africa Standard Time", //No I18N
+                    "Central European Summer Time"}, //No I18N
+            {"+03:00", "Syowa Time", "Israel Daylight Time", "Eastern African Time", "Arabia Standard Time", "Moscow Standard Time", //No I18N
+                    "Eastern European Summer Time"}, //No I18N
+            {"+04:00", "Samara Time", "Georgia Time", "Armenia Time", "Reunion Time", "Mauritius Time", "Azerbaijan Time", "Seychelles Time", //No I18N
+                    "Gulf Standard Time"}, //No I18N
+            {"+04:30", "Afghanistan Time", "Iran Daylight Time"}, //No I18N
+            {"+05:00", "OralTime", "Aqtau Time", "Mawson Time", "Aqtobe Time", "Pakistan Time", "Maldives Time", "Tajikistan Time", "Uzbekistan Time", //No I18N
+                    "Turkmenistan Time", "Yekaterinburg Time"}, //No I18N
+            {"+05:30", "India Standard Time", "Indian Standard Time", "Indian Time"}, //No I18N
+            {"+05:45", "Nepal Time"}, //No I18N
+            {"+06:00", "OmskTime", "Vostok Time", "Bhutan Time", "Alma-AtaTime", "Qyzylorda Time", "Kirgizstan Time", "Bangladesh Time", //No I18N
+                    "Xinjiang Standard Time", "Indian Ocean Territory Time"}, //No I18N
+            {"+06:30", "Myanmar Time", "Cocos Islands Time"}, //No I18N
+            {"+07:00", "Hovd Time", "Davis Time", "Indochina Time", "Krasnoyarsk Time", "Novosibirsk Time", "West Indonesia Time", //No I18N
+                    "ChristmasIslandTime"}, //No I18N
+            {"+08:00", "Brunei Time", "Irkutsk Time", "HongKong Time", "Malaysia Time", "Singapore Time", "Choibalsan Time", "Ulaanbaatar Time", //No I18N
+                    "China Standard Time", "Central Indonesia Time", "Philippines Standard Time", "AustralianWesternStandardTime"}, //No I18N
+            {"+08:45", "Australian Central Western Standard Time"}, //No I18N
+            {"+09:00", "Palau Time", "Yakutsk Time", "Timor-Leste Time", "East Indonesia Time", "Korea Standard Time", "Japan Standard Time"}, //No I18N
+            {"+09:30", "SouthAustralia", "NorthernTerritory", "SouthAustralia/NewSouthWales", "Australian Central Standard Time"}, //No I18N
+            {"+10:00", "AEST", "Tasmania", "Victoria", "Queensland", "Chuuk Time", "NewSouthWales", "Ust-Nera Time", "Vladivostok Time", //No I18N
+                    "Dumont-d'UrvilleTime", "Papua New Guinea Time", "Chamorro Standard Time", "Australian Eastern Standard Time"}, //No I18N
+            {"+10:30", "Lord Howe Standard Time"}, //No I18N
+            {"+11:00", "Kosrae Time", "Magadan Time", "Vanuatu Time", "Norfolk Time", "Pohnpei Time", "Sakhalin Time", "SolomonIs.Time", //No I18N
+                    "Srednekolymsk Time", "New Caledonia Time", "Bougainville Standard Time", "Macquarie Island Standard Time"}, //No I18N
+            {"+12:00", "Fiji Time", "Wake Time", "Nauru Time", "Anadyr Time", "Tuvalu Time", "Futuna Time", "GilbertIs.Time", "Marshall Islands Time", //No I18N
+                    "New Zealand Standard Time", "Petropavlovsk-KamchatskiTime"}, //No I18N
+            {"+12:45", "Chatham Standard Time"}, //No I18N
+            {"+13:00", "Tonga Time", "Tokelau Time", "PhoenixIs.Time", "West Samoa Standard Time"}, //No I18N
+            {"+14:00", "LineIs.Time"} //No I18N
+    };
+
+    private static final long WINDOW_START = Instant.parse("1970-01-01T00:00:00Z").getEpochSecond(); //No I18N
+
+    private static final long WINDOW_END = Instant.parse("2100-01-01T00:00:00Z").getEpochSecond(); //No I18N
+
+    private static final Map<ZoneId, Transitions> TRANSITIONS = new ConcurrentHashMap<>();
+
+    /*
+     * mention - a time zone of TimeZoneExtractor.timeZoneList
+     *
+     * returns the zone of the mention or null when it is not a known mention*/
+    public static ZoneId zoneOf(String mention) {
+        return mention == null ? null : MentionTable.ZONES.get(mention);
+    }
+
+    public static ZoneOffset offsetAt(ZoneId zone, long epochMillis) {
+        return TRANSITIONS.computeIfAbsent(zone, Transitions::new).offsetAt(Math.floorDiv(epochMillis, 1000L));
+    }
+
+    /*
+     * returns the offset like +05:30, with +00:00 for UTC*/
+    public static String offsetIdAt(ZoneId zone, long epochMillis) {
+        ZoneOffset offset = offsetAt(zone, epochMillis);
+        return offset.getTotalSeconds() == 0 ? "+00:00" : offset.getId(); //No I18N
+    }
+
+    /*
+     * Mention to zone table, loaded with the first lookup*/
+    private static class MentionTable {
+
+        private static final Map<String, ZoneId> ZONES = build();
+
+        private static Map<String, ZoneId> build() {
+            Map<String, ZoneId> zones = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (String[] group : NAMED_OFFSETS) {
+                ZoneOffset offset = ZoneOffset.of(group[0]);
+                for (int i = 1; i < group.length; i++) {
+                    zones.put(group[i], offset);
+                    zones.putIfAbsent(group[i].replace(" ", ""), offset); //No I18N
+                }
+            }
+            Set<String> zoneIds = new HashSet<>(Arrays.asList(TimeZone.getAvailableIDs()));
+            for (String mention : TimeZoneExtractor.timeZoneList) {
+                if (zones.containsKey(mention)) {
+                    continue;
+                }
+                if (zoneIds.contains(mention)) {
+                    zones.put(mention, TimeZone.getTimeZone(mention).toZoneId());
+                } else {
+                    try {
+                        zones.put(mention, ZoneId.of(mention));
+                    } catch (DateTimeException e) {
+                        //Not a zone, the mention has no offset
+                    }
+                }
+            }
+            return zones;
+        }
+    }
+
+    /*
+     * Offsets of a zone between its transitions in the window, offsets[i] holds before instants[i]*/
+    private static class Transitions {
+
+        private final ZoneRules rules;
+
+        private final long[] instants;
+
+        private final ZoneOffset[] offsets;
+
+        private Transitions(ZoneId zone) {
+            rules = zone.getRules();
+            List<ZoneOffsetTransition> transitions = new ArrayList<>();
+            if (!rules.isFixedOffset()) {
+                ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(WINDOW_START - 1));
+                while (transition != null && transition.toEpochSecond() < WINDOW_END) {
+                    transitions.add(transition);
+                    transition = rules.nextTransition(transition.getInstant());
+                }
+            }
+            instants = new long[transitions.size()];
+            offsets = new ZoneOffset[transitions.size() + 1];
+            offsets[0] = rules.getOffset(Instant.ofEpochSecond(WINDOW_START));
+            for (int i = 0; i < instants.length; i++) {
+                instants[i] = transitions.get(i).toEpochSecond();
+                offsets[i + 1] = transitions.get(i).getOffsetAfter();
+            }
+        }
+
+        private ZoneOffset offsetAt(long epochSecond) {
+            if (epochSecond < WINDOW_START || epochSecond >= WINDOW_END) {
+                return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+            }
+            int index = Arrays.binarySearch(instants, epochSecond);
+            return offsets[index >= 0 ? index + 1 : -index - 1];
+        }
+    }
+}
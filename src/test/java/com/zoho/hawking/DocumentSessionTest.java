@@ -0,0 +1,46 @@
+package com.zoho.hawking;
+
+import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
+import com.zoho.hawking.language.english.model.DatesFound;
+import com.zoho.hawking.language.english.model.ParserOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentSessionTest {
+
+    private static void assertOffsets(String text, DatesFound datesFound) {
+        assertFalse(datesFound.getParserOutputs().isEmpty());
+        for (ParserOutput parserOutput : datesFound.getParserOutputs()) {
+            assertEquals(parserOutput.getText(), text.substring(parserOutput.getParserStartIndex(), parserOutput.getParserEndIndex()));
+        }
+    }
+
+    @Test
+    @DisplayName("Only the edited sentences are parsed again, the others move with the text")
+    public void testUpdate() {
+        DocumentSession documentSession = new DocumentSession(new HawkingConfiguration(), "eng"); //No I18N
+        Date referenceDate = new Date(1600000000000L);
+        String draft = "I will meet you tomorrow. Call me on Friday."; //No I18N
+        DatesFound first = documentSession.update(draft, referenceDate);
+        assertEquals(2, documentSession.getCompiledCount());
+        assertEquals(2, documentSession.getResolvedCount());
+        assertOffsets(draft, first);
+
+        String edited = "Hello there. I will meet you tomorrow. Call me on Monday."; //No I18N
+        DatesFound second = documentSession.update(edited, referenceDate);
+        assertEquals(2, documentSession.getCompiledCount());
+        assertEquals(2, documentSession.getResolvedCount());
+        assertOffsets(edited, second);
+        assertEquals(first.getParserOutputs().get(0).getDateRange().getStartMillis(),
+                second.getParserOutputs().get(0).getDateRange().getStartMillis());
+
+        DatesFound later = documentSession.update(edited, new Date(1600000000000L + 86400000L));
+        assertEquals(0, documentSession.getCompiledCount());
+        assertEquals(3, documentSession.getResolvedCount());
+        assertOffsets(edited, later);
+    }
+}
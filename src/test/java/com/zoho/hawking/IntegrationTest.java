@@ -1,5 +1,6 @@
 package com.zoho.hawking;
 
+import com.zoho.hawking.datetimeparser.configuration.DetailLevel;
 import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
 import com.zoho.hawking.language.english.model.DateRange;
 import com.zoho.hawking.language.english.model.DatesFound;
@@ -15,6 +16,7 @@ import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class IntegrationTest {
   private HawkingConfiguration hawkingConfiguration;
@@ -286,4 +288,23 @@ public class IntegrationTest {
     }
   }
 
+  @Test
+  @DisplayName("Detail Level: minimal keeps the spans and their dates")
+  public void detailLevelMinimal() {
+    String inputText = "In 5 days, Robert is going on vacation. In 10 days, Elizabeth is leaving her family.";
+    hawkingConfiguration.setTimeZone("EDT");
+    hawkingConfiguration.setDetailLevel(DetailLevel.MINIMAL);
+    DatesFound datesFound = parser.parse(inputText, referenceDate, hawkingConfiguration, "eng");
+    String[] segments = {"5 days", "10 days"};
+    String[] endDates = {"2020-12-06", "2020-12-11"};
+    assertEquals(2, datesFound.getParserOutputs().size());
+    for (int i = 0; i < datesFound.getParserOutputs().size(); i++) {
+      ParserOutput output = datesFound.getParserOutputs().get(i);
+      assertEquals(segments[i], output.getText());
+      assertEquals(endDates[i], getDate(output.getDateRange().getEnd().toString()));
+      assertNull(output.getRecognizerOutputs());
+      assertNull(datesFound.getDateGroups().get(i).getExpression());
+    }
+  }
+
 }
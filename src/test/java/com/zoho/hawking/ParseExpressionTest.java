@@ -0,0 +1,56 @@
+package com.zoho.hawking;
+
+import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
+import com.zoho.hawking.language.english.model.DatesFound;
+import com.zoho.hawking.language.english.model.ParserOutput;
+import com.zoho.hawking.language.english.tensepredictor.TenseClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseExpressionTest {
+
+    private static final Date REFERENCE_DATE = new Date(1600000000000L);
+
+    private static long millis(String dateTime) {
+        return OffsetDateTime.parse(dateTime).toInstant().toEpochMilli();
+    }
+
+    private static DatesFound parseExpression(String expression, TenseClass hint) {
+        HawkingConfiguration hawkingConfiguration = new HawkingConfiguration();
+        hawkingConfiguration.setTimeZone("UTC"); //No I18N
+        return new HawkingTimeParser().parseExpression(expression, REFERENCE_DATE, hawkingConfiguration, "eng", hint); //No I18N
+    }
+
+    @Test
+    @DisplayName("The whole field is parsed as one date")
+    public void testExpression() {
+        DatesFound datesFound = parseExpression("  tomorrow at 9am ", null); //No I18N
+        assertEquals(1, datesFound.getParserOutputs().size());
+        ParserOutput parserOutput = datesFound.getParserOutputs().get(0);
+        assertEquals("tomorrow at 9am", parserOutput.getText()); //No I18N
+        assertEquals(Integer.valueOf(2), parserOutput.getParserStartIndex());
+        assertEquals(Integer.valueOf(17), parserOutput.getParserEndIndex());
+        assertEquals(millis("2020-09-14T09:00:00Z"), parserOutput.getDateRange().getStartMillis()); //No I18N
+    }
+
+    @Test
+    @DisplayName("The tense hint decides which monday is meant")
+    public void testTenseHint() {
+        assertEquals(millis("2020-09-07T00:00:00Z"), //No I18N
+                parseExpression("monday", TenseClass.PAST).getParserOutputs().get(0).getDateRange().getStartMillis()); //No I18N
+        assertEquals(millis("2020-09-14T00:00:00Z"), //No I18N
+                parseExpression("monday", TenseClass.FUTURE).getParserOutputs().get(0).getDateRange().getStartMillis()); //No I18N
+    }
+
+    @Test
+    @DisplayName("Fields without a date give no dates")
+    public void testNoDate() {
+        assertTrue(parseExpression("   ", null).getParserOutputs().isEmpty()); //No I18N
+        assertTrue(parseExpression("hello", null).getParserOutputs().isEmpty()); //No I18N
+    }
+}
@@ -0,0 +1,68 @@
+package com.zoho.hawking;
+
+import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
+import com.zoho.hawking.language.english.Recognizer;
+import com.zoho.hawking.language.english.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolveAllTest {
+
+    private static long millis(String dateTime) {
+        return OffsetDateTime.parse(dateTime).toInstant().toEpochMilli();
+    }
+
+    /*
+     * The expression as compile leaves it, built from the recognizer so the CRF and the dependency parse are not needed*/
+    private static CompiledDateExpression compiled(String text) {
+        ParsedDate parsedDate = Recognizer.recognize(text);
+        Map<String, String> componentsMap = Recognizer.tagPredictor(text, parsedDate.getOutputWithOffsets());
+        ParserOutput parserOutput = new ParserOutput();
+        parserOutput.setId(0);
+        parserOutput.setParserLabel("D"); //No I18N
+        parserOutput.setText(text);
+        parserOutput.setParserStartIndex(10);
+        parserOutput.setParserEndIndex(10 + text.length());
+        parserOutput.setIsExactTimePresent(true);
+        CompiledDate compiledDate = new CompiledDate();
+        compiledDate.setSentence("remind me " + text); //No I18N
+        compiledDate.setReferenceText(text);
+        compiledDate.addSpan(new CompiledSpan(parserOutput, "", componentsMap, text, parsedDate.getOutputWithOffsets(), false)); //No I18N
+        return new CompiledDateExpression("eng", "remind me " + text, Collections.singletonList(compiledDate)); //No I18N
+    }
+
+    @Test
+    @DisplayName("Tomorrow at 9am is 9am on the wall clock of each zone")
+    public void testZones() {
+        ResolvedDates resolvedDates = new HawkingTimeParser().resolveAll(compiled("tomorrow at 9am"), //No I18N
+                new long[]{millis("2020-09-13T12:26:40Z")}, //No I18N
+                Arrays.asList("Asia/Kolkata", "Europe/Paris", "Europe/Berlin", "UTC"), new HawkingConfiguration()); //No I18N
+        assertEquals(1, resolvedDates.getDateCount());
+        assertEquals(4, resolvedDates.size());
+        assertArrayEquals(new long[]{millis("2020-09-14T09:00:00+05:30"), millis("2020-09-14T09:00:00+02:00"), //No I18N
+                millis("2020-09-14T09:00:00+02:00"), millis("2020-09-14T09:00:00Z")}, resolvedDates.getStarts(0)); //No I18N
+        assertEquals(3, resolvedDates.getResolutionCount());
+    }
+
+    @Test
+    @DisplayName("One zone pairs with every reference date, the same inputs are resolved once")
+    public void testReferences() {
+        long first = millis("2020-09-13T12:00:00Z"); //No I18N
+        long second = millis("2020-09-20T12:00:00Z"); //No I18N
+        ResolvedDates resolvedDates = new HawkingTimeParser().resolveAll(compiled("tomorrow at 9am"), //No I18N
+                new long[]{first, second, first}, Collections.singletonList("UTC"), new HawkingConfiguration()); //No I18N
+        assertArrayEquals(new long[]{millis("2020-09-14T09:00:00Z"), millis("2020-09-21T09:00:00Z"), millis("2020-09-14T09:00:00Z")}, //No I18N
+                resolvedDates.getStarts(0));
+        assertEquals(2, resolvedDates.getResolutionCount());
+
+        assertThrows(IllegalArgumentException.class, () -> new HawkingTimeParser().resolveAll(compiled("tomorrow"), //No I18N
+                new long[]{first, second}, Arrays.asList("UTC", "UTC", "UTC"), new HawkingConfiguration())); //No I18N
+    }
+}
@@ -0,0 +1,34 @@
+package com.zoho.hawking.datetimeparser;
+
+import com.zoho.hawking.datetimeparser.configuration.CompiledConfiguration;
+import com.zoho.hawking.datetimeparser.configuration.Configuration;
+import com.zoho.hawking.datetimeparser.configuration.HawkingConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarContextTest {
+
+    @Test
+    @DisplayName("The quarter and half of a month follow the fiscal year")
+    public void testCustomDates() {
+        CalendarContext calendarContext = CompiledConfiguration.of(new HawkingConfiguration()).getConfiguration().getCalendarContext();
+        assertEquals("q2", calendarContext.getCurrentQuarter(9)); //No I18N
+        assertEquals("h1", calendarContext.getCurrentHalf(9)); //No I18N
+        assertEquals(6, calendarContext.getWeekDiff());
+    }
+
+    @Test
+    @DisplayName("A compiled configuration works out its context once")
+    public void testKept() throws Exception {
+        Configuration configuration = CompiledConfiguration.of(new HawkingConfiguration()).getConfiguration();
+        assertSame(configuration.getCalendarContext(), configuration.getCalendarContext());
+
+        HawkingConfiguration mondayWeek = new HawkingConfiguration();
+        mondayWeek.setWeekStart(1);
+        CalendarContext mondayContext = CompiledConfiguration.of(mondayWeek).getConfiguration().getCalendarContext();
+        assertNotSame(configuration.getCalendarContext(), mondayContext);
+        assertEquals(mondayWeek.getWeekStart(), mondayContext.getWeekStart());
+    }
+}
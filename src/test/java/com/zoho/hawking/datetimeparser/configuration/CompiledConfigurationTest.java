@@ -0,0 +1,84 @@
+package com.zoho.hawking.datetimeparser.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledConfigurationTest {
+
+    private static HawkingConfiguration fiscalConfiguration() throws Exception {
+        HawkingConfiguration hawkingConfiguration = new HawkingConfiguration();
+        hawkingConfiguration.setFiscalYearStart(10);
+        hawkingConfiguration.setFiscalYearEnd(9);
+        hawkingConfiguration.setWeekStart(2);
+        hawkingConfiguration.setDays(3);
+        hawkingConfiguration.setTimeZone("IST"); //No I18N
+        return hawkingConfiguration;
+    }
+
+    @Test
+    @DisplayName("Configurations with the same values share one compiled configuration")
+    public void testInterned() throws Exception {
+        CompiledConfiguration first = CompiledConfiguration.of(fiscalConfiguration());
+        CompiledConfiguration second = CompiledConfiguration.of(fiscalConfiguration());
+        assertSame(first, second);
+        assertNotSame(first, CompiledConfiguration.of(new HawkingConfiguration()));
+
+        HawkingConfiguration changed = fiscalConfiguration();
+        changed.addNormalizationRule("\\bEOD\\b", "end of day"); //No I18N
+        assertNotSame(first, CompiledConfiguration.of(changed));
+    }
+
+    @Test
+    @DisplayName("Only the most recently used configurations are kept")
+    public void testBounded() throws Exception {
+        CompiledConfiguration first = CompiledConfiguration.of(fiscalConfiguration());
+        for (int maxParseDate = 1; maxParseDate <= CompiledConfiguration.MAX_COMPILED; maxParseDate++) {
+            HawkingConfiguration hawkingConfiguration = new HawkingConfiguration();
+            hawkingConfiguration.setMaxParseDate(maxParseDate);
+            CompiledConfiguration.of(hawkingConfiguration);
+        }
+        HawkingConfiguration recent = new HawkingConfiguration();
+        recent.setMaxParseDate(CompiledConfiguration.MAX_COMPILED);
+        CompiledConfiguration kept = CompiledConfiguration.of(recent);
+        assertNotSame(first, CompiledConfiguration.of(fiscalConfiguration()));
+        assertSame(kept, CompiledConfiguration.of(recent));
+    }
+
+    @Test
+    @DisplayName("The compiled configuration holds the values of the HawkingConfiguration")
+    public void testValues() throws Exception {
+        Configuration configuration = CompiledConfiguration.of(fiscalConfiguration()).getConfiguration();
+        assertEquals(3, configuration.getRangeDefault().getDays());
+        assertEquals(2, configuration.getWeekDayAndEnd().getWeekStart());
+        assertEquals(10, configuration.getCustomDate().getFiscalYearStart());
+        assertEquals(Integer.valueOf(10), configuration.getCustomDate().getQuarter().get("q1").getKey()); //No I18N
+        assertEquals(Integer.valueOf(9), configuration.getCustomDate().getQuarter().get("q4").getValue()); //No I18N
+        assertEquals(DetailLevel.FULL, configuration.getDetailLevel());
+        assertEquals("IST", CompiledConfiguration.of(fiscalConfiguration()).getTimeZone()); //No I18N
+    }
+
+    @Test
+    @DisplayName("The shared configuration can not be changed")
+    public void testReadOnly() throws Exception {
+        Configuration configuration = CompiledConfiguration.of(fiscalConfiguration()).getConfiguration();
+        assertThrows(UnsupportedOperationException.class, () -> configuration.setDetailLevel(DetailLevel.MINIMAL));
+        assertThrows(UnsupportedOperationException.class, () -> configuration.getRangeDefault().setDays(5));
+        assertThrows(UnsupportedOperationException.class, () -> configuration.getWeekDayAndEnd().setWeekStart(1));
+        assertThrows(UnsupportedOperationException.class, () -> configuration.getSpanDefault().setDaySpan(1));
+        assertThrows(UnsupportedOperationException.class, () -> configuration.getCustomDate().setFiscalYearStart(1));
+        assertThrows(UnsupportedOperationException.class, () -> configuration.getCustomDate().getQuarter().remove("q1")); //No I18N
+        assertEquals(3, configuration.getRangeDefault().getDays());
+        assertEquals(Integer.valueOf(10), configuration.getCustomDate().getQuarter().get("q1").getKey()); //No I18N
+    }
+
+    @Test
+    @DisplayName("Day hours that do not make a day are rejected")
+    public void testValidate() {
+        HawkingConfiguration hawkingConfiguration = new HawkingConfiguration();
+        hawkingConfiguration.setDayhourStart(18);
+        hawkingConfiguration.setDayhourEnd(9);
+        assertThrows(IllegalArgumentException.class, () -> CompiledConfiguration.of(hawkingConfiguration));
+    }
+}
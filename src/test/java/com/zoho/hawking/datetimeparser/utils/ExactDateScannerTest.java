@@ -0,0 +1,57 @@
+package com.zoho.hawking.datetimeparser.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExactDateScannerTest {
+
+    private static final int REFERENCE_YEAR = 2020;
+
+    @Test
+    @DisplayName("Layouts detected without a user format")
+    public void testDefaultLayouts() {
+        assertEquals(20201002, ExactDateScanner.scan("02/10/2020", "", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("2020-10-02", "", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("2.10.2020", "", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("02 oct 2020", "", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("2020/october/02", "", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("Oct-02-2020", "", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("on 02/10/2020", "dd/MM/YYYY", REFERENCE_YEAR));
+    }
+
+    @Test
+    @DisplayName("Trailing time is accepted and ignored")
+    public void testTimeSuffix() {
+        assertEquals(20201002, ExactDateScanner.scan("02/10/2020 10:30", "", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("02 10 2020 5 pm", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("02/10/2020 noon", "", REFERENCE_YEAR));
+    }
+
+    @Test
+    @DisplayName("Numeric dates follow the configured date format")
+    public void testUserFormat() {
+        assertEquals(20200210, ExactDateScanner.scan("02/10/2020", "MM/dd/yyyy", REFERENCE_YEAR));
+        assertEquals(20200210, ExactDateScanner.scan("02-10-2020", "mm.dd.yyyy", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("2020/02/10", "yyyy/dd/MM", REFERENCE_YEAR));
+        assertEquals(20200605, ExactDateScanner.scan("6/5", "MM/dd/yyyy", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("02 oct 2020", "MM/dd/yyyy", REFERENCE_YEAR));
+        assertEquals(20201002, ExactDateScanner.scan("20201002", "yyyyMMdd", REFERENCE_YEAR));
+    }
+
+    @Test
+    @DisplayName("Invalid dates are rejected without exceptions")
+    public void testRejected() {
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("31/02/2020", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("12/25/2020", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("02/10-2020", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("02/10/", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("6/5", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("02/foo/2020", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("2020/10/02", "MM/dd/yyyy", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("20201302", "yyyyMMdd", REFERENCE_YEAR));
+        assertEquals(20200229, ExactDateScanner.scan("29/02/2020", "", REFERENCE_YEAR));
+        assertEquals(ExactDateScanner.NO_DATE, ExactDateScanner.scan("29/02/2021", "", REFERENCE_YEAR));
+    }
+}
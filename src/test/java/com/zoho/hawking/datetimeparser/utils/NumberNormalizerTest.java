@@ -0,0 +1,51 @@
+package com.zoho.hawking.datetimeparser.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumberNormalizerTest {
+
+    @Test
+    @DisplayName("Spelled out ordinals are rewritten to numeric tokens")
+    public void testNormalize() {
+        assertEquals("1st day of 21st week", NumberNormalizer.normalize("First day of twenty-first week").getText());
+        assertEquals("on the 22nd and 3rd", NumberNormalizer.normalize("on the Twenty second and third").getText());
+        assertEquals("5th of may", NumberNormalizer.normalize("5ᵗʰ of may").getText());
+        assertEquals("in 30 seconds", NumberNormalizer.normalize("in 30 seconds").getText());
+        assertEquals("firstly, two days", NumberNormalizer.normalize("firstly, two days").getText());
+        assertFalse(NumberNormalizer.normalize("next monday").isRewritten());
+    }
+
+    @Test
+    @DisplayName("Offsets of the normalized text point into the original text")
+    public void testOffsets() {
+        NumberNormalizer.NormalizedText normalizedText = NumberNormalizer.normalize("the twenty first of june");
+        assertEquals("the 21st of june", normalizedText.getText());
+        assertEquals(4, normalizedText.getOriginalOffset(4));
+        assertEquals(4, normalizedText.getOriginalOffset(7));
+        assertEquals(17, normalizedText.getOriginalOffset(9));
+        assertEquals(24, normalizedText.getOriginalOffset(normalizedText.getText().length()));
+    }
+
+    @Test
+    @DisplayName("Exact number tag values")
+    public void testParseNumber() {
+        assertNumber(5, false, NumberNormalizer.parseNumber("5"));
+        assertNumber(21, true, NumberNormalizer.parseNumber("21st"));
+        assertNumber(3, true, NumberNormalizer.parseNumber("3 rd"));
+        assertNumber(4, true, NumberNormalizer.parseNumber("4ᵗʰ"));
+        assertNumber(21, true, NumberNormalizer.parseNumber("Twenty-first"));
+        assertNumber(2, false, NumberNormalizer.parseNumber("two"));
+        assertNumber(45, false, NumberNormalizer.parseNumber("forty five"));
+        assertEquals(NumberNormalizer.NOT_A_NUMBER, NumberNormalizer.parseNumber("one hundred"));
+        assertEquals(NumberNormalizer.NOT_A_NUMBER, NumberNormalizer.parseNumber("5 days"));
+        assertEquals(NumberNormalizer.NOT_A_NUMBER, NumberNormalizer.parseNumber(""));
+    }
+
+    private static void assertNumber(int number, boolean isOrdinal, int parsedNumber) {
+        assertEquals(number, NumberNormalizer.getNumber(parsedNumber));
+        assertEquals(isOrdinal, NumberNormalizer.isOrdinal(parsedNumber));
+    }
+}
@@ -0,0 +1,62 @@
+package com.zoho.hawking.datetimeparser.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelationShipMatchingTest {
+
+    private static final String MONDAY = "<day_of_week>monday</day_of_week>"; //No I18N
+    private static final String FIVE_PM = "<exact_time>5 pm</exact_time>"; //No I18N
+    private static final String TWO_DAYS = "<exact_number>2</exact_number> <day_span>days</day_span>"; //No I18N
+
+    private static Map<String, String> componentMap(String day, String time) {
+        Map<String, String> componentMap = new HashMap<>();
+        componentMap.put("year", null); //No I18N
+        componentMap.put("month", null); //No I18N
+        componentMap.put("day", day); //No I18N
+        componentMap.put("time", time); //No I18N
+        return componentMap;
+    }
+
+    @Test
+    @DisplayName("The side matched at the start of the other takes the component after it")
+    public void testInheritedByOne() {
+        Map<String, String> componentMapOne = componentMap(MONDAY, null);
+        Map<String, String> componentMapTwo = componentMap(MONDAY, FIVE_PM);
+        RelationShipMatching relationShipMatching = new RelationShipMatching(componentMapOne, componentMapTwo,
+                MONDAY, MONDAY + " " + FIVE_PM);
+        assertEquals(Arrays.asList("day", "time"), relationShipMatching.getComponentOrderTwo()); //No I18N
+        assertEquals(FIVE_PM, relationShipMatching.getInheritedByOne().get("time")); //No I18N
+        assertTrue(relationShipMatching.getInheritedByTwo().isEmpty());
+        assertNull(componentMapOne.get("time")); //No I18N
+    }
+
+    @Test
+    @DisplayName("The side that ends the other takes the components before it")
+    public void testInheritedByTwo() {
+        RelationShipMatching relationShipMatching = new RelationShipMatching(componentMap(MONDAY, FIVE_PM),
+                componentMap(null, FIVE_PM), MONDAY + " " + FIVE_PM, FIVE_PM);
+        assertEquals(MONDAY, relationShipMatching.getInheritedByTwo().get("day")); //No I18N
+        assertTrue(relationShipMatching.getInheritedByOne().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Sides that do not line up take nothing")
+    public void testNotAligned() {
+        RelationShipMatching sameSize = new RelationShipMatching(componentMap(MONDAY, null), componentMap(TWO_DAYS, null),
+                MONDAY, TWO_DAYS);
+        assertTrue(sameSize.getInheritedByOne().isEmpty());
+        assertTrue(sameSize.getInheritedByTwo().isEmpty());
+
+        RelationShipMatching notFound = new RelationShipMatching(componentMap(null, FIVE_PM), componentMap(MONDAY, null),
+                FIVE_PM, MONDAY);
+        assertTrue(notFound.getInheritedByOne().isEmpty());
+        assertTrue(notFound.getInheritedByTwo().isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.zoho.hawking.datetimeparser.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOfDayScannerTest {
+
+    private static int millisOfDay(int hour, int minute, int second, int millis) {
+        return ((hour * 60 + minute) * 60 + second) * 1000 + millis;
+    }
+
+    @Test
+    @DisplayName("24 hour times")
+    public void testTwentyFourHour() {
+        assertEquals(millisOfDay(9, 0, 0, 0), TimeOfDayScanner.scan("9"));
+        assertEquals(millisOfDay(14, 0, 0, 0), TimeOfDayScanner.scan("14"));
+        assertEquals(millisOfDay(9, 30, 0, 0), TimeOfDayScanner.scan("0930"));
+        assertEquals(millisOfDay(9, 30, 0, 0), TimeOfDayScanner.scan("9.30"));
+        assertEquals(millisOfDay(14, 30, 0, 0), TimeOfDayScanner.scan("14:30"));
+        assertEquals(millisOfDay(14, 30, 15, 0), TimeOfDayScanner.scan("14.30.15"));
+        assertEquals(millisOfDay(14, 30, 15, 250), TimeOfDayScanner.scan("14:30:15:250"));
+        assertEquals(millisOfDay(14, 30, 15, 250), TimeOfDayScanner.scan("14:30:15.25"));
+        assertEquals(millisOfDay(14, 30, 15, 250), TimeOfDayScanner.scan("14:30:15250"));
+    }
+
+    @Test
+    @DisplayName("Times with am and pm")
+    public void testMeridiem() {
+        assertEquals(millisOfDay(9, 0, 0, 0), TimeOfDayScanner.scan("9am"));
+        assertEquals(millisOfDay(21, 30, 0, 0), TimeOfDayScanner.scan("9:30 p.m."));
+        assertEquals(millisOfDay(19, 45, 0, 0), TimeOfDayScanner.scan("7:45 PM"));
+        assertEquals(millisOfDay(0, 30, 0, 0), TimeOfDayScanner.scan("12:30am"));
+        assertEquals(millisOfDay(12, 0, 0, 0), TimeOfDayScanner.scan("12pm"));
+        assertEquals(millisOfDay(9, 30, 0, 0), TimeOfDayScanner.scan("9:30:am"));
+        assertEquals(millisOfDay(21, 30, 15, 500), TimeOfDayScanner.scan("9:30:15:5pm"));
+        assertEquals(millisOfDay(17, 0, 0, 0), TimeOfDayScanner.scan("by 5pm"));
+    }
+
+    @Test
+    @DisplayName("Fields of the scanned time")
+    public void testFields() {
+        int millisOfDay = TimeOfDayScanner.scan("23:59:58.999");
+        assertEquals(23, TimeOfDayScanner.getHour(millisOfDay));
+        assertEquals(59, TimeOfDayScanner.getMinute(millisOfDay));
+        assertEquals(58, TimeOfDayScanner.getSecond(millisOfDay));
+        assertEquals(999, TimeOfDayScanner.getMillis(millisOfDay));
+    }
+
+    @Test
+    @DisplayName("Text that is not a time")
+    public void testRejected() {
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan(null));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan(""));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("pm"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("24"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("25:00"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("2360"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("0am"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("13pm"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("10:"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("9&30"));
+        assertEquals(TimeOfDayScanner.NO_TIME, TimeOfDayScanner.scan("noon"));
+    }
+}
@@ -0,0 +1,22 @@
+package com.zoho.hawking.language;
+
+import com.zoho.hawking.language.english.EnglishLanguage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageFactoryTest {
+
+    @Test
+    @DisplayName("Languages are found through their providers")
+    public void testProviders() {
+        assertTrue(LanguageFactory.getLanguages().contains("eng")); //No I18N
+        LanguageProvider provider = LanguageFactory.getProvider("eng"); //No I18N
+        assertNotNull(provider);
+        assertFalse(provider.getResources().isEmpty());
+        assertTrue(LanguageFactory.getLanguageImpl("eng") instanceof EnglishLanguage); //No I18N
+        assertNull(LanguageFactory.getLanguageImpl("xyz")); //No I18N
+        assertNull(LanguageFactory.getLanguageImpl(null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.zoho.hawking.language;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyModelTest {
+
+    @Test
+    @DisplayName("A model is loaded once on first use, however many threads ask for it")
+    public void testGet() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyModel<String> lazyModel = new LazyModel<>(() -> "model" + loads.incrementAndGet()); //No I18N
+        assertFalse(lazyModel.isLoaded());
+        assertEquals(0, loads.get());
+
+        List<CompletableFuture<String>> gets = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            gets.add(CompletableFuture.supplyAsync(lazyModel::get));
+        }
+        for (CompletableFuture<String> get : gets) {
+            assertEquals("model1", get.join()); //No I18N
+        }
+        assertTrue(lazyModel.isLoaded());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("An unloaded model is loaded again on the next use")
+    public void testUnload() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyModel<String> lazyModel = new LazyModel<>(() -> "model" + loads.incrementAndGet()); //No I18N
+        assertEquals("model1", lazyModel.get()); //No I18N
+        lazyModel.unload();
+        assertFalse(lazyModel.isLoaded());
+        assertEquals("model2", lazyModel.get()); //No I18N
+    }
+
+    @Test
+    @DisplayName("A failed load is reported on every use without loading again until the model is unloaded")
+    public void testFailure() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyModel<String> lazyModel = new LazyModel<>(() -> loads.incrementAndGet() < 3 ? null : "model"); //No I18N
+        IllegalStateException failure = assertThrows(IllegalStateException.class, lazyModel::get);
+        assertSame(failure, assertThrows(IllegalStateException.class, lazyModel::get));
+        assertFalse(lazyModel.isLoaded());
+        assertEquals(1, loads.get());
+
+        lazyModel.unload();
+        assertThrows(IllegalStateException.class, lazyModel::get);
+        lazyModel.unload();
+        assertEquals("model", lazyModel.get()); //No I18N
+        assertEquals(3, loads.get());
+    }
+}
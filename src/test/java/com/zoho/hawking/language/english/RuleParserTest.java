@@ -0,0 +1,66 @@
+package com.zoho.hawking.language.english;
+
+import com.zoho.hawking.datetimeparser.configuration.DetectionMode;
+import edu.stanford.nlp.util.Triple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleParserTest {
+
+    private static List<String> found(String sentence, List<Triple<String, Integer, Integer>> triples) {
+        List<String> found = new ArrayList<>();
+        for (Triple<String, Integer, Integer> triple : triples) {
+            found.add(triple.first() + ":" + sentence.substring(triple.second(), triple.third())); //No I18N
+        }
+        return found;
+    }
+
+    private static List<String> found(String sentence) {
+        return found(sentence, RuleParser.parse(sentence));
+    }
+
+    @Test
+    @DisplayName("Dates are found from the tags of their words")
+    public void testDates() {
+        assertEquals(Arrays.asList("D:5 days"), found("In 5 days, Robert is going on vacation.")); //No I18N
+        assertEquals(Arrays.asList("D:April 20 2025"), found("April 20 2025")); //No I18N
+        assertEquals(Arrays.asList("D:at 5 pm tomorrow"), found("meet me at 5 pm tomorrow")); //No I18N
+        assertEquals(Arrays.asList("D:tomorrow"), found("Can we go to the movie tomorrow ?")); //No I18N
+        assertTrue(found("I am sure this is great").isEmpty()); //No I18N
+        assertTrue(found("I have 1000 apples").isEmpty()); //No I18N
+    }
+
+    @Test
+    @DisplayName("Relation words between two dates are labelled R")
+    public void testRelations() {
+        assertEquals(Arrays.asList("D:from monday", "R:to", "D:friday"), found("from monday to friday")); //No I18N
+        assertEquals(Arrays.asList("D:2 days", "R:after", "D:monday"), found("2 days after monday")); //No I18N
+        assertEquals(Arrays.asList("D:monday", "R:or", "D:tuesday"), found("monday or tuesday")); //No I18N
+    }
+
+    @Test
+    @DisplayName("Dates that could be everyday words are left out and reported")
+    public void testAmbiguous() {
+        for (String sentence : new String[]{"Sun rises in the east", "I may come", "Good morning, I am so happy to see you", //No I18N
+                "I watched Tomorrow Never Dies", "Tomorrow Never Dies is on at 8"}) { //No I18N
+            RuleParser ruleParser = new RuleParser(sentence);
+            assertTrue(ruleParser.isAmbiguous(), sentence);
+            assertTrue(ruleParser.getTriples().isEmpty(), sentence);
+        }
+        assertFalse(new RuleParser("I will meet you on Monday").isAmbiguous()); //No I18N
+    }
+
+    @Test
+    @DisplayName("Clear sentences are not sent to the CRF in the adaptive mode")
+    public void testAdaptive() {
+        String sentence = "last monday 3pm"; //No I18N
+        assertEquals(Arrays.asList("D:last monday 3pm"), found(sentence, EnglishLanguage.detect(sentence, DetectionMode.ADAPTIVE))); //No I18N
+        assertEquals(Arrays.asList("D:last monday 3pm"), found(sentence, EnglishLanguage.detect(sentence, DetectionMode.RULES))); //No I18N
+    }
+}
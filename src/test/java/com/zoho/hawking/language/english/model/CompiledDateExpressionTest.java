@@ -0,0 +1,89 @@
+package com.zoho.hawking.language.english.model;
+
+import edu.stanford.nlp.util.Triple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledDateExpressionTest {
+
+    private static CompiledSpan span(int id, String text, int startIndex, String tense, boolean isCurrentDay) {
+        ParserOutput parserOutput = new ParserOutput();
+        parserOutput.setId(id);
+        parserOutput.setParserLabel("D"); //No I18N
+        parserOutput.setText(text);
+        parserOutput.setParserStartIndex(startIndex);
+        parserOutput.setParserEndIndex(startIndex + text.length());
+        parserOutput.setIsExactTimePresent(false);
+        Map<String, String> componentsMap = new HashMap<>();
+        componentsMap.put("day_of_week", text); //No I18N
+        componentsMap.put("month", null); //No I18N
+        List<Triple<String, Integer, Integer>> recognizerOffsets = Arrays.asList(Triple.makeTriple("day_of_week", 0, text.length())); //No I18N
+        return new CompiledSpan(parserOutput, tense, componentsMap, text, recognizerOffsets, isCurrentDay);
+    }
+
+    @Test
+    @DisplayName("A compiled expression survives Java serialization")
+    public void testSerialization() throws Exception {
+        CompiledDate compiledDate = new CompiledDate();
+        compiledDate.setRelationType(CompiledDate.RelationType.PAIR);
+        compiledDate.setRelation("and"); //No I18N
+        compiledDate.setRelationWord("and"); //No I18N
+        compiledDate.setSentence("meet on monday and tuesday"); //No I18N
+        compiledDate.setReferenceText("monday"); //No I18N
+        compiledDate.setExpressionId(1);
+        compiledDate.addSpan(span(0, "monday", 8, "PRESENT", false)); //No I18N
+        compiledDate.addSpan(span(1, "tuesday", 19, "FUTURE", true)); //No I18N
+        CompiledDateExpression expression = new CompiledDateExpression("eng", "meet on monday and tuesday", Arrays.asList(compiledDate)); //No I18N
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(expression);
+        }
+        CompiledDateExpression read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (CompiledDateExpression) in.readObject();
+        }
+
+        assertEquals("eng", read.getLanguage()); //No I18N
+        assertEquals("meet on monday and tuesday", read.getText()); //No I18N
+        CompiledDate readDate = read.getCompiledDates().get(0);
+        assertEquals(CompiledDate.RelationType.PAIR, readDate.getRelationType());
+        assertEquals("and", readDate.getRelation()); //No I18N
+        assertEquals("monday", readDate.getReferenceText()); //No I18N
+        assertEquals(1, readDate.getExpressionId());
+        assertEquals(2, readDate.getSpans().size());
+        CompiledSpan readSpan = readDate.getSpans().get(1);
+        assertEquals(1, readSpan.getId());
+        assertEquals("tuesday", readSpan.getText()); //No I18N
+        assertEquals(19, readSpan.getStartIndex());
+        assertEquals(26, readSpan.getEndIndex());
+        assertEquals("FUTURE", readSpan.getTense()); //No I18N
+        assertTrue(readSpan.isCurrentDay());
+        assertFalse(readSpan.isExactTimePresent());
+        assertEquals("tuesday", readSpan.getComponentsMap().get("day_of_week")); //No I18N
+        assertTrue(readSpan.getComponentsMap().containsKey("month")); //No I18N
+        Triple<String, Integer, Integer> recognizerOffset = readSpan.getRecognizerOffsets().get(0);
+        assertEquals("day_of_week", recognizerOffset.first); //No I18N
+        assertEquals(0, recognizerOffset.second.intValue());
+        assertEquals(7, recognizerOffset.third.intValue());
+    }
+
+    @Test
+    @DisplayName("The components map of a span is copied for each resolution")
+    public void testComponentsMapCopy() {
+        CompiledSpan compiledSpan = span(0, "monday", 0, "PRESENT", false); //No I18N
+        compiledSpan.getComponentsMap().put("day_of_week", "friday"); //No I18N
+        assertEquals("monday", compiledSpan.getComponentsMap().get("day_of_week")); //No I18N
+    }
+}
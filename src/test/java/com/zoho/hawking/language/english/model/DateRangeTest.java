@@ -0,0 +1,48 @@
+package com.zoho.hawking.language.english.model;
+
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateRangeTest {
+
+    private static final long START = Instant.parse("2020-12-15T11:30:00Z").toEpochMilli(); //No I18N
+
+    private static final long END = Instant.parse("2020-12-15T12:29:59Z").toEpochMilli(); //No I18N
+
+    @Test
+    @DisplayName("Dates and formats are built from the millis when read")
+    public void testLazyOutput() {
+        DateRange dateRange = new DateRange("", START, END, "+05:30"); //No I18N
+        assertEquals(START, dateRange.getStartMillis());
+        assertEquals(new DateTime(START), dateRange.getStart());
+        assertSame(dateRange.getStart(), dateRange.getStart());
+        assertEquals("2020-12-15T17:00:00", dateRange.getStartDateFormat()); //No I18N
+        assertEquals("2020-12-15T17:59:59", dateRange.getEndDateFormat()); //No I18N
+    }
+
+    @Test
+    @DisplayName("Open ends have no date and no format")
+    public void testOpenEnd() {
+        DateRange dateRange = new DateRange("", START, DateRange.NO_DATE, "-03:00"); //No I18N
+        assertEquals("2020-12-15T08:30:00", dateRange.getStartDateFormat()); //No I18N
+        assertEquals(DateRange.NO_DATE, dateRange.getEndMillis());
+        assertNull(dateRange.getEnd());
+        assertNull(dateRange.getEndDateFormat());
+    }
+
+    @Test
+    @DisplayName("Moving the start keeps the format of the parsed start")
+    public void testSetStart() {
+        DateRange dateRange = new DateRange("", START, END, "+00:00"); //No I18N
+        dateRange.setStart(new DateTime(START).plusHours(9));
+        assertEquals(START + 9 * 3600000L, dateRange.getStartMillis());
+        assertEquals("2020-12-15T11:30:00", dateRange.getStartDateFormat()); //No I18N
+        dateRange.setEnd(null);
+        assertEquals(DateRange.NO_DATE, dateRange.getEndMillis());
+    }
+}
@@ -0,0 +1,95 @@
+package com.zoho.hawking.language.english.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatesFoundBatchTest {
+
+    private static final long START = 1607970068000L;
+
+    private static ParserOutput parserOutput(int id, String text, int start, String label, String offset, long end) {
+        ParserOutput parserOutput = new ParserOutput();
+        parserOutput.setId(id);
+        parserOutput.setText(text);
+        parserOutput.setParserStartIndex(start);
+        parserOutput.setParserEndIndex(start + text.length());
+        parserOutput.setParserLabel(label);
+        parserOutput.setTimezoneOffset(offset);
+        parserOutput.setIsTimeZonePresent(offset != null);
+        parserOutput.setIsExactTimePresent(false);
+        parserOutput.setDateRange(new DateRange("", START, end, offset)); //No I18N
+        return parserOutput;
+    }
+
+    private static DatesFound datesFound(ParserOutput... parserOutputs) {
+        DatesFound datesFound = new DatesFound();
+        datesFound.setParserOutputs(Arrays.asList(parserOutputs));
+        datesFound.setDateGroups(Collections.emptyList());
+        return datesFound;
+    }
+
+    @Test
+    @DisplayName("Rows keep the columns of the dates of each document")
+    public void testColumns() {
+        DatesFoundBatch batch = new DatesFoundBatch();
+        assertEquals(0, batch.add("Meet me tomorrow at 5 pm IST", datesFound( //No I18N
+                parserOutput(1, "tomorrow at 5 pm IST", 8, "D", "+05:30", START + 3600000L)))); //No I18N
+        assertEquals(1, batch.add("No dates here", null)); //No I18N
+        assertEquals(2, batch.add("Call on friday or next monday", datesFound( //No I18N
+                parserOutput(1, "friday", 8, "D", "+00:00", DateRange.NO_DATE), //No I18N
+                parserOutput(2, "next monday", 18, "D", null, START)))); //No I18N
+        assertEquals(3, batch.size());
+        assertEquals(3, batch.getDocumentCount());
+        assertEquals(2, batch.getDocumentIndex(2));
+        assertEquals("tomorrow at 5 pm IST", batch.getText(0)); //No I18N
+        assertEquals(START + 3600000L, batch.getEndMillis(0));
+        assertEquals(19800, batch.getOffsetSeconds(0));
+        assertEquals(DateRange.NO_DATE, batch.getEndMillis(1));
+        assertEquals(batch.getLabelCode(0), batch.getLabelCode(2));
+        assertEquals("D", batch.getLabel(batch.getLabelCode(1))); //No I18N
+        assertEquals(DatesFoundBatch.TIME_ZONE_PRESENT | DatesFoundBatch.HAS_OFFSET, batch.getFlags(1));
+        assertEquals(0, batch.getFlags(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getStartMillis(3));
+    }
+
+    @Test
+    @DisplayName("Rows are read back as ParserOutput views")
+    public void testParserOutputViews() {
+        DatesFoundBatch batch = new DatesFoundBatch();
+        batch.add("Call on friday or next monday", datesFound( //No I18N
+                parserOutput(1, "friday", 8, "D", "+00:00", DateRange.NO_DATE), //No I18N
+                parserOutput(2, "monday next", 23, "D", null, START))); //No I18N
+        List<ParserOutput> views = new ArrayList<>();
+        for (ParserOutput parserOutput : batch) {
+            views.add(parserOutput);
+        }
+        assertEquals(2, views.size());
+        assertEquals("friday", views.get(0).getText()); //No I18N
+        assertEquals("+00:00", views.get(0).getTimezoneOffset()); //No I18N
+        assertEquals(START, views.get(0).getDateRange().getStartMillis());
+        assertNull(views.get(0).getDateRange().getEnd());
+        assertEquals("monday next", views.get(1).getText()); //No I18N
+        assertNull(views.get(1).getTimezoneOffset());
+        assertEquals(Integer.valueOf(2), views.get(1).getId());
+        assertFalse(views.get(1).getIsTimeZonePresent());
+    }
+
+    @Test
+    @DisplayName("Columns grow past the initial capacity")
+    public void testGrow() {
+        DatesFoundBatch batch = new DatesFoundBatch();
+        for (int i = 0; i < 100; i++) {
+            batch.add("at " + i, datesFound(parserOutput(1, String.valueOf(i), 3, "D", null, START + i))); //No I18N
+        }
+        assertEquals(100, batch.size());
+        assertEquals("57", batch.getText(57)); //No I18N
+        assertEquals(START + 99, batch.getEndMillis(99));
+    }
+}
@@ -0,0 +1,123 @@
+package com.zoho.hawking.language.english.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceTest {
+
+    private static final long DAY = 86400000L;
+
+    private static long millis(String dateTime) {
+        return OffsetDateTime.parse(dateTime).toInstant().toEpochMilli();
+    }
+
+    private static DateGroup dateGroup(DateRange firstOccurrence, RepeatPeriod repeatPeriod, long limit) {
+        DateGroup dateGroup = new DateGroup();
+        dateGroup.setSequenceType("REPEAT"); //No I18N
+        dateGroup.setRecurrentPeriod(repeatPeriod);
+        dateGroup.setOccurrenceLimit(limit);
+        dateGroup.setFirstOccurrence(firstOccurrence);
+        return dateGroup;
+    }
+
+    @Test
+    @DisplayName("Every Monday steps by a week from the first occurrence")
+    public void testWeekly() {
+        long monday = millis("2020-12-14T17:00:00+05:30"); //No I18N
+        DateGroup dateGroup = dateGroup(new DateRange("", monday, monday + 3600000L, "+05:30"), new RepeatPeriod(0, 0, 0, 7 * DAY, 0, 0), -1); //No I18N
+        assertEquals(monday, dateGroup.nextOccurrenceAfter(monday - 1));
+        assertEquals(monday + 7 * DAY, dateGroup.nextOccurrenceAfter(monday));
+        assertEquals(monday + 1000 * 7 * DAY, dateGroup.nextOccurrenceAfter(monday + 999 * 7 * DAY + 5));
+
+        Iterator<DateRange> occurrences = dateGroup.occurrences(millis("2021-01-01T00:00:00+05:30"), millis("2021-02-01T00:00:00+05:30")); //No I18N
+        List<String> formats = new ArrayList<>();
+        while (occurrences.hasNext()) {
+            DateRange occurrence = occurrences.next();
+            assertEquals(3600000L, occurrence.getEndMillis() - occurrence.getStartMillis());
+            formats.add(occurrence.getStartDateFormat());
+        }
+        assertEquals(4, formats.size());
+        assertEquals("2021-01-04T17:00:00", formats.get(0)); //No I18N
+        assertEquals("2021-01-25T17:00:00", formats.get(3)); //No I18N
+    }
+
+    @Test
+    @DisplayName("Monthly occurrences keep the wall clock and the day of month")
+    public void testMonthly() {
+        long first = millis("2020-01-31T09:00:00-05:00"); //No I18N
+        long monthMillis = 31 * DAY;
+        DateGroup dateGroup = dateGroup(new DateRange("", first, DateRange.NO_DATE, "-05:00"), new RepeatPeriod(0, monthMillis, 0, 0, 0, 0), 3); //No I18N
+        Recurrence recurrence = dateGroup.getRecurrence();
+        assertEquals(1, recurrence.getStepMonths());
+        assertEquals(millis("2020-02-29T09:00:00-05:00"), recurrence.startOf(1)); //No I18N
+        assertEquals(millis("2020-03-31T09:00:00-05:00"), recurrence.startOf(2)); //No I18N
+        assertEquals(millis("2021-01-31T09:00:00-05:00"), recurrence.startOf(12)); //No I18N
+        assertEquals(DateRange.NO_DATE, recurrence.endOf(1));
+        assertEquals(millis("2020-03-31T09:00:00-05:00"), dateGroup.nextOccurrenceAfter(millis("2020-03-01T00:00:00-05:00"))); //No I18N
+        assertEquals(DateRange.NO_DATE, dateGroup.nextOccurrenceAfter(millis("2020-03-31T09:00:00-05:00"))); //No I18N
+
+        int count = 0;
+        for (Iterator<DateRange> occurrences = dateGroup.occurrences(Long.MIN_VALUE, Long.MAX_VALUE); occurrences.hasNext(); occurrences.next()) {
+            count++;
+        }
+        assertEquals(3, count);
+
+        Recurrence yearly = Recurrence.of(new DateRange("", first, DateRange.NO_DATE, "-05:00"), new RepeatPeriod(366 * DAY, 0, 0, 0, 0, 0), -1); //No I18N
+        assertEquals(12, yearly.getStepMonths());
+        assertEquals(millis("2030-01-31T09:00:00-05:00"), yearly.nextOccurrenceAfter(millis("2029-06-01T00:00:00-05:00"))); //No I18N
+    }
+
+    @Test
+    @DisplayName("A date that does not repeat is its only occurrence")
+    public void testSingle() {
+        long start = millis("2020-12-14T17:00:00Z"); //No I18N
+        DateGroup dateGroup = new DateGroup();
+        dateGroup.setFirstOccurrence(new DateRange("", start, DateRange.NO_DATE, "+00:00")); //No I18N
+        assertNull(dateGroup.getRecurrence());
+        assertEquals(start, dateGroup.nextOccurrenceAfter(start - 1));
+        assertEquals(DateRange.NO_DATE, dateGroup.nextOccurrenceAfter(start));
+        assertTrue(dateGroup.occurrences(start, start + 1).hasNext());
+        assertFalse(dateGroup.occurrences(start + 1, Long.MAX_VALUE).hasNext());
+        assertEquals(Recurrence.daysFromCivil(2020, 12, 14), start / DAY);
+        assertArrayEquals(new int[]{2020, 12, 14}, Recurrence.civilFromDays(start / DAY));
+    }
+
+    @Test
+    @DisplayName("Without an offset the wall clock is kept across a daylight saving change of the system zone")
+    public void testDaylightSaving() {
+        TimeZone systemZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York")); //No I18N
+        try {
+            long first = millis("2021-03-10T09:00:00-05:00"); //No I18N
+            Recurrence daily = Recurrence.of(new DateRange("", first, first + 3600000L, null), 0, DAY, -1); //No I18N
+            assertEquals(millis("2021-03-13T09:00:00-05:00"), daily.startOf(3)); //No I18N
+            assertEquals(millis("2021-03-14T09:00:00-04:00"), daily.startOf(4)); //No I18N
+            assertEquals(millis("2021-03-15T10:00:00-04:00"), daily.endOf(5)); //No I18N
+            assertEquals(millis("2021-11-08T09:00:00-05:00"), daily.startOf(243)); //No I18N
+            assertEquals(4, daily.indexAfter(millis("2021-03-13T09:00:00-05:00"))); //No I18N
+            assertEquals(5, daily.indexAfter(millis("2021-03-14T09:00:00-04:00"))); //No I18N
+            assertEquals(millis("2021-03-16T09:00:00-04:00"), daily.nextOccurrenceAfter(millis("2021-03-15T09:30:00-04:00"))); //No I18N
+
+            Recurrence monthly = Recurrence.of(new DateRange("", millis("2021-02-15T09:00:00-05:00"), DateRange.NO_DATE, null), 1, 0, -1); //No I18N
+            assertEquals(millis("2021-03-15T09:00:00-04:00"), monthly.startOf(1)); //No I18N
+            assertEquals(millis("2021-11-15T09:00:00-05:00"), monthly.startOf(9)); //No I18N
+
+            Recurrence skipped = Recurrence.of(new DateRange("", millis("2021-03-13T02:30:00-05:00"), DateRange.NO_DATE, null), 0, DAY, -1); //No I18N
+            assertEquals(millis("2021-03-14T03:30:00-04:00"), skipped.startOf(1)); //No I18N
+            assertEquals(millis("2021-03-15T02:30:00-04:00"), skipped.startOf(2)); //No I18N
+
+            Recurrence hourly = Recurrence.of(new DateRange("", first, DateRange.NO_DATE, null), 0, 3600000L, -1); //No I18N
+            assertEquals(first + 100 * 3600000L, hourly.startOf(100));
+        } finally {
+            TimeZone.setDefault(systemZone);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.*;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatesFoundCodecTest {
+
+    private static ParserOutput parserOutput(int id, String text, DateRange dateRange) {
+        ParserOutput parserOutput = new ParserOutput();
+        parserOutput.setId(id);
+        parserOutput.setText(text);
+        parserOutput.setParserLabel("D"); //No I18N
+        parserOutput.setParserStartIndex(3);
+        parserOutput.setParserEndIndex(3 + text.length());
+        parserOutput.setIsTimeZonePresent(true);
+        parserOutput.setIsExactTimePresent(false);
+        parserOutput.setTimezoneOffset("+05:30"); //No I18N
+        parserOutput.setDateRange(dateRange);
+        return parserOutput;
+    }
+
+    private static String json(List<DatesFound> datesFoundList) throws IOException {
+        StringBuilder out = new StringBuilder();
+        new DatesFoundWriter(out).writeLines(datesFoundList);
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Encoded DatesFound decode to the same values")
+    public void testRoundTrip() throws Exception {
+        ParserOutput first = parserOutput(1, "tomorrow 5 pm", new DateRange("", 1607970068000L, 1607973668000L, "+05:30")); //No I18N
+        first.setRecognizerOutputs(Arrays.asList(new RecognizerOutput("exact_time", 9, 13, "5 pm"), new RecognizerOutput(null, 0, 8, "tomorrow"))); //No I18N
+        ParserOutput second = parserOutput(2, "from à demain", new DateRange("", 1607900000000L, DateRange.NO_DATE, "+05:30")); //No I18N
+        DateRange shifted = new DateRange("", 1607970068000L, DateRange.NO_DATE, "+05:30"); //No I18N
+        shifted.setStart(new DateTime(1607990000000L, DateTimeZone.UTC));
+        ParserOutput third = parserOutput(3, "at noon", shifted); //No I18N
+        third.setTimezoneOffset(null);
+        DateGroup dateGroup = new DateGroup();
+        dateGroup.setExpressionId(1);
+        dateGroup.setRecurrentPeriod(new RepeatPeriod(0, 0, 1, 0, 0, 0));
+        dateGroup.setRecurrentCount(new RepeatCount(0, 0, 0, 0, 0, 3));
+        DatesFound datesFound = new DatesFound();
+        datesFound.setParserOutputs(Arrays.asList(first, second, third));
+        datesFound.setDateGroups(Collections.singletonList(dateGroup));
+        List<DatesFound> datesFoundList = Arrays.asList(datesFound, new DatesFound());
+
+        byte[] encoded = new DatesFoundEncoder().encode(datesFoundList);
+        List<DatesFound> decoded = new DatesFoundDecoder().decode(new ByteArrayInputStream(encoded));
+        assertEquals(json(datesFoundList), json(decoded));
+        assertEquals(1607990000000L, decoded.get(0).getParserOutputs().get(2).getDateRange().getStart().getMillis());
+        assertTrue(encoded.length < json(datesFoundList).length() / 4);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DatesFoundEncoder().encode(datesFoundList, out);
+        assertArrayEquals(encoded, out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("A repeated date group keeps its occurrences through the encoding")
+    public void testRecurrenceRoundTrip() throws Exception {
+        DateGroup dateGroup = new DateGroup();
+        dateGroup.setSequenceType("REPEAT"); //No I18N
+        dateGroup.setRecurrentPeriod(new RepeatPeriod(0, 0, 0, 7 * 86400000L, 0, 0));
+        dateGroup.setFirstOccurrence(new DateRange("", 1607904000000L, 1607990399000L, "+05:30")); //No I18N
+        dateGroup.setOccurrenceLimit(3);
+        DatesFound datesFound = new DatesFound();
+        datesFound.setParserOutputs(Collections.singletonList(parserOutput(1, "every monday for 3 weeks", dateGroup.getFirstOccurrence()))); //No I18N
+        datesFound.setDateGroups(Collections.singletonList(dateGroup));
+
+        DateGroup decoded = new DatesFoundDecoder().decode(new DatesFoundEncoder().encode(datesFound)).get(0).getDateGroups().get(0);
+        assertEquals(3, decoded.getOccurrenceLimit());
+        assertNotNull(decoded.getRecurrence());
+        assertEquals(RecurrenceRuleCompiler.compile(dateGroup), RecurrenceRuleCompiler.compile(decoded));
+        assertEquals(dateGroup.nextOccurrenceAfter(1607904000000L), decoded.nextOccurrenceAfter(1607904000000L));
+        List<Long> expected = new ArrayList<>();
+        dateGroup.occurrences(Long.MIN_VALUE + 1, Long.MAX_VALUE).forEachRemaining(range -> expected.add(range.getStartMillis()));
+        List<Long> actual = new ArrayList<>();
+        decoded.occurrences(Long.MIN_VALUE + 1, Long.MAX_VALUE).forEachRemaining(range -> actual.add(range.getStartMillis()));
+        assertEquals(3, expected.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Bytes of another format or version are rejected")
+    public void testRejected() throws Exception {
+        byte[] encoded = new DatesFoundEncoder().encode(new DatesFound());
+        DatesFoundDecoder decoder = new DatesFoundDecoder();
+        byte[] otherVersion = encoded.clone();
+        otherVersion[4] = (byte) (DatesFoundEncoder.VERSION + 1);
+        assertThrows(IOException.class, () -> decoder.decode(otherVersion));
+        assertThrows(IOException.class, () -> decoder.decode("{\"dateGroups\":[]}".getBytes())); //No I18N
+        assertThrows(IOException.class, () -> decoder.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+        assertEquals(1, decoder.decode(encoded).size());
+    }
+}
@@ -0,0 +1,80 @@
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatesFoundWriterTest {
+
+    private static DatesFound datesFound(String text) {
+        ParserOutput parserOutput = new ParserOutput();
+        parserOutput.setId(1);
+        parserOutput.setText(text);
+        parserOutput.setParserLabel("D"); //No I18N
+        parserOutput.setParserStartIndex(3);
+        parserOutput.setParserEndIndex(3 + text.length());
+        parserOutput.setIsTimeZonePresent(true);
+        parserOutput.setIsExactTimePresent(false);
+        parserOutput.setTimezoneOffset("+05:30"); //No I18N
+        parserOutput.setDateRange(new DateRange("", 1607970068000L, DateRange.NO_DATE, "+05:30")); //No I18N
+        parserOutput.setRecognizerOutputs(Collections.singletonList(new RecognizerOutput("exact_time", 0, 4, "5 pm"))); //No I18N
+        DateGroup dateGroup = new DateGroup();
+        dateGroup.setExpressionId(1);
+        DatesFound datesFound = new DatesFound();
+        datesFound.setParserOutputs(Collections.singletonList(parserOutput));
+        datesFound.setDateGroups(Collections.singletonList(dateGroup));
+        return datesFound;
+    }
+
+    @Test
+    @DisplayName("DatesFound is written as JSON")
+    public void testWrite() throws Exception {
+        StringBuilder out = new StringBuilder();
+        new DatesFoundWriter(out).write(datesFound("5 pm \"IST\"\n")); //No I18N
+        assertEquals("{\"dateGroups\":[{\"sequenceType\":\"SINGLE\",\"recurrentCount\":null,\"recurrentPeriod\":null,\"expression\":\"(1)\"}]," //No I18N
+                + "\"parserOutputs\":[{\"id\":1,\"dateRange\":{\"matchType\":\"\",\"start\":1607970068000,\"end\":null," //No I18N
+                + "\"startDateFormat\":\"2020-12-14T23:51:08\",\"endDateFormat\":null},\"parserLabel\":\"D\",\"parserStartIndex\":3," //No I18N
+                + "\"parserEndIndex\":14,\"text\":\"5 pm \\\"IST\\\"\\n\",\"isTimeZonePresent\":true,\"isExactTimePresent\":false," //No I18N
+                + "\"timezoneOffset\":\"+05:30\",\"recognizerOutputs\":[{\"recognizerLabel\":\"exact_time\",\"recognizerStartIndex\":0," //No I18N
+                + "\"recognizerEndIndex\":4,\"text\":\"5 pm\"}]}]}", out.toString()); //No I18N
+    }
+
+    @Test
+    @DisplayName("Batches are written as JSON lines")
+    public void testWriteLines() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DatesFoundWriter writer = new DatesFoundWriter(bytes);
+        writer.writeLines(Arrays.asList(datesFound("today"), datesFound("à demain\u0001"))); //No I18N
+        writer.flush();
+        String[] lines = new String(bytes.toByteArray(), StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].contains("\"text\":\"à demain\\u0001\"")); //No I18N
+        assertEquals("", lines[2]);
+
+        DatesFoundBatch batch = new DatesFoundBatch();
+        batch.add("at today", datesFound("today")); //No I18N
+        StringBuilder out = new StringBuilder();
+        new DatesFoundWriter(out).writeLines(batch);
+        assertTrue(out.toString().startsWith("{\"documentIndex\":0,\"id\":1,")); //No I18N
+        assertTrue(out.toString().endsWith("\"recognizerOutputs\":null}\n")); //No I18N
+    }
+
+    @Test
+    @DisplayName("Streams get the same UTF-8 as a Writer")
+    public void testEncoding() throws Exception {
+        DatesFound datesFound = datesFound("à 5 pm \u20ac \ud83d\udcc5 \ud800"); //No I18N
+        StringWriter chars = new StringWriter();
+        new DatesFoundWriter(chars).write(datesFound);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DatesFoundWriter(bytes).write(datesFound);
+        assertArrayEquals(chars.toString().getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+    }
+}
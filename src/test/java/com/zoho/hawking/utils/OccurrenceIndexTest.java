@@ -0,0 +1,99 @@
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.DateRange;
+import com.zoho.hawking.language.english.model.Recurrence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccurrenceIndexTest {
+
+    private static final long HOUR = 3600000L;
+
+    private static Recurrence recurrence(long start, long stepMillis, long limit) {
+        return Recurrence.of(new DateRange("", start, DateRange.NO_DATE, "+00:00"), 0, stepMillis, limit); //No I18N
+    }
+
+    @Test
+    @DisplayName("Occurrences are indexed by start and scanned by range")
+    public void testRangeScan() {
+        OccurrenceIndex occurrenceIndex = new OccurrenceIndex();
+        assertEquals(0, occurrenceIndex.add(recurrence(0, 2 * HOUR, -1)));
+        assertEquals(1, occurrenceIndex.add(recurrence(HOUR, 3 * HOUR, 2)));
+        occurrenceIndex.extendTo(6 * HOUR);
+        assertEquals(5, occurrenceIndex.size());
+        assertArrayEquals(new int[]{0, 1, 0, 0, 1}, occurrenceIndex.idsBetween(0, 6 * HOUR));
+        assertArrayEquals(new int[]{0, 0}, occurrenceIndex.idsBetween(6 * HOUR, 10 * HOUR));
+        assertEquals(10 * HOUR, occurrenceIndex.getHorizon());
+
+        assertEquals(2, occurrenceIndex.add(recurrence(2 * HOUR, 24 * HOUR, -1)));
+        assertArrayEquals(new int[]{0, 2, 0, 1}, occurrenceIndex.idsBetween(2 * HOUR, 5 * HOUR));
+
+        occurrenceIndex.discardBefore(5 * HOUR);
+        assertEquals(6 * HOUR, occurrenceIndex.getStart(0));
+        assertEquals(0, occurrenceIndex.firstAtOrAfter(0));
+        assertEquals(3, occurrenceIndex.add(recurrence(0, HOUR, 7)));
+        assertArrayEquals(new int[]{3, 0, 3}, occurrenceIndex.idsBetween(5 * HOUR, 7 * HOUR));
+    }
+
+    @Test
+    @DisplayName("The horizon is extended until enough occurrences are upcoming")
+    public void testExtendToCount() {
+        OccurrenceIndex occurrenceIndex = new OccurrenceIndex();
+        occurrenceIndex.add(recurrence(0, 24 * HOUR, -1));
+        occurrenceIndex.add(recurrence(0, HOUR, 3));
+        int position = occurrenceIndex.extendToCount(HOUR, 10);
+        assertTrue(occurrenceIndex.size() - position >= 10);
+        assertEquals(HOUR, occurrenceIndex.getStart(position));
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < occurrenceIndex.size(); i++) {
+            assertTrue(occurrenceIndex.getStart(i) >= previous);
+            previous = occurrenceIndex.getStart(i);
+        }
+
+        OccurrenceIndex ended = new OccurrenceIndex();
+        ended.add(recurrence(0, HOUR, 2));
+        assertEquals(0, ended.extendToCount(0, 10));
+        assertEquals(2, ended.size());
+    }
+
+    @Test
+    @DisplayName("Recurrences added after the horizon is set are merged in as if they were there from the start")
+    public void testLateMerge() {
+        OccurrenceIndex late = new OccurrenceIndex();
+        OccurrenceIndex upfront = new OccurrenceIndex();
+        for (int id = 0; id < 6; id++) {
+            Recurrence recurrence = recurrence(id % 3 * HOUR, (id + 1) * HOUR, id % 2 == 0 ? -1 : 5);
+            upfront.add(recurrence);
+            late.add(recurrence);
+            if (id == 1) {
+                late.extendTo(24 * HOUR);
+            }
+        }
+        upfront.extendTo(24 * HOUR);
+        assertEquals(upfront.size(), late.size());
+        for (int i = 0; i < upfront.size(); i++) {
+            assertEquals(upfront.getStart(i), late.getStart(i));
+            assertEquals(upfront.getId(i), late.getId(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Occurrences discarded past the horizon are not indexed when the horizon catches up")
+    public void testDiscardPastHorizon() {
+        OccurrenceIndex occurrenceIndex = new OccurrenceIndex();
+        occurrenceIndex.add(recurrence(0, HOUR, -1));
+        occurrenceIndex.add(recurrence(0, 2 * HOUR, 4));
+        occurrenceIndex.extendTo(2 * HOUR);
+        occurrenceIndex.discardBefore(10 * HOUR);
+        assertEquals(0, occurrenceIndex.size());
+        occurrenceIndex.extendTo(12 * HOUR);
+        assertEquals(2, occurrenceIndex.size());
+        assertEquals(10 * HOUR, occurrenceIndex.getStart(0));
+        assertArrayEquals(new int[]{0, 0}, occurrenceIndex.idsBetween(0, 12 * HOUR));
+        int position = occurrenceIndex.extendToCount(10 * HOUR, 5);
+        assertEquals(0, position);
+        assertEquals(10 * HOUR, occurrenceIndex.getStart(position));
+    }
+}
@@ -0,0 +1,63 @@
+package com.zoho.hawking.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseScratchTest {
+
+    private static final String[] TEXTS = {"", " ", "   ", "tomorrow", " next monday", "at  9am ", "q1\tof\nnext year", "a \u000B b\f\r"}; //No I18N
+
+    @Test
+    @DisplayName("Split gives the tokens String.split gives")
+    public void testSplit() {
+        ParseScratch scratch = ParseScratch.get().reset();
+        for (String text : TEXTS) {
+            List<String> tokens = scratch.split(text);
+            assertEquals(Arrays.asList(text.split("\\s+")), tokens, text); //No I18N
+            for (int end = 0; end <= text.length(); end++) {
+                assertEquals(text.substring(0, end).split("\\s+").length, ParseScratch.tokenCount(text, end), text + " " + end); //No I18N
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Builders and lists are handed out again after reset")
+    public void testReset() {
+        ParseScratch scratch = ParseScratch.get().reset();
+        StringBuilder builder = scratch.builder().append("tomorrow"); //No I18N
+        List<String> list = scratch.list();
+        list.add("tomorrow"); //No I18N
+        assertNotSame(builder, scratch.builder());
+
+        scratch.reset();
+        assertSame(builder, scratch.builder());
+        assertEquals(0, builder.length());
+        List<String> again = scratch.list();
+        assertSame(list, again);
+        assertTrue(again.isEmpty());
+
+        scratch.reset();
+        for (int i = 0; i < ParseScratch.MAX_POOLED; i++) {
+            scratch.builder();
+        }
+        assertNotSame(scratch.builder(), scratch.builder());
+    }
+
+    @Test
+    @DisplayName("One matcher is kept for each pattern")
+    public void testMatcher() {
+        Pattern pattern = Pattern.compile("\\d+am"); //No I18N
+        ParseScratch scratch = ParseScratch.get().reset();
+        Matcher matcher = scratch.matcher(pattern, "at 9am"); //No I18N
+        assertTrue(matcher.find());
+        assertSame(matcher, scratch.matcher(pattern, "at noon")); //No I18N
+        assertFalse(matcher.find());
+    }
+}
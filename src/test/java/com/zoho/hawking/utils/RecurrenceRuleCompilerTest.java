@@ -0,0 +1,68 @@
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.DateGroup;
+import com.zoho.hawking.language.english.model.DateRange;
+import com.zoho.hawking.language.english.model.Recurrence;
+import com.zoho.hawking.language.english.model.RepeatPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleCompilerTest {
+
+    private static final long DAY = 86400000L;
+
+    private static DateRange firstOccurrence(String start) {
+        return new DateRange("", OffsetDateTime.parse(start).toInstant().toEpochMilli(), DateRange.NO_DATE, start.substring(19)); //No I18N
+    }
+
+    @Test
+    @DisplayName("Repeat periods of the parsers compile to rules")
+    public void testCompile() {
+        DateGroup weekly = new DateGroup();
+        weekly.setRecurrentPeriod(new RepeatPeriod(0, 0, 0, 7 * DAY, 0, 0));
+        weekly.setFirstOccurrence(firstOccurrence("2020-12-14T17:00:00+05:30")); //No I18N
+        assertEquals("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO", RecurrenceRuleCompiler.compile(weekly)); //No I18N
+
+        DateGroup quarterly = new DateGroup();
+        quarterly.setRecurrentPeriod(new RepeatPeriod(0, 0, 0, 0, 0, 91 * DAY));
+        quarterly.setOccurrenceLimit(4);
+        quarterly.setFirstOccurrence(firstOccurrence("2021-01-01T00:00:00+00:00")); //No I18N
+        assertEquals("FREQ=MONTHLY;INTERVAL=3;COUNT=4", RecurrenceRuleCompiler.compile(quarterly)); //No I18N
+
+        DateGroup hourly = new DateGroup();
+        hourly.setRecurrentPeriod(new RepeatPeriod(0, 0, 0, 0, 3600000L, 0));
+        hourly.setFirstOccurrence(firstOccurrence("2021-01-01T10:00:00+00:00")); //No I18N
+        assertEquals("FREQ=HOURLY;INTERVAL=1", RecurrenceRuleCompiler.compile(hourly)); //No I18N
+
+        Recurrence endOfMonth = Recurrence.of(firstOccurrence("2020-01-31T09:00:00-05:00"), 1, 0, -1); //No I18N
+        assertEquals("FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=28,29,30,31;BYSETPOS=-1", RecurrenceRuleCompiler.compile(endOfMonth)); //No I18N
+        Recurrence leapDay = Recurrence.of(firstOccurrence("2020-02-29T09:00:00-05:00"), 12, 0, -1); //No I18N
+        assertEquals("FREQ=YEARLY;INTERVAL=1;BYMONTH=2;BYMONTHDAY=28,29;BYSETPOS=-1", RecurrenceRuleCompiler.compile(leapDay)); //No I18N
+        assertNull(RecurrenceRuleCompiler.compile(new DateGroup()));
+    }
+
+    @Test
+    @DisplayName("Rules read back expand to the same occurrences")
+    public void testToRecurrence() {
+        DateRange first = firstOccurrence("2020-01-31T09:00:00-05:00"); //No I18N
+        Recurrence recurrence = Recurrence.of(first, 1, 0, 20);
+        Recurrence stored = RecurrenceRuleCompiler.toRecurrence("RRULE:" + RecurrenceRuleCompiler.compile(recurrence), first); //No I18N
+        for (int k = 0; k < 20; k++) {
+            assertEquals(recurrence.startOf(k), stored.startOf(k));
+        }
+        assertEquals(20, stored.getLimit());
+
+        Recurrence until = RecurrenceRuleCompiler.toRecurrence("FREQ=DAILY;UNTIL=20200203T140000Z", first); //No I18N
+        assertEquals(4, until.getLimit());
+        assertEquals(DateRange.NO_DATE, until.nextOccurrenceAfter(until.startOf(3)));
+
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRuleCompiler.toRecurrence("FREQ=WEEKLY;BYDAY=MO,WE", first)); //No I18N
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRuleCompiler.toRecurrence("INTERVAL=2", first)); //No I18N
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRuleCompiler.toRecurrence("FREQ=DAILY;COUNT=x", first)); //No I18N
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRuleCompiler.compile(Recurrence.of(first, 0, 1500, -1)));
+    }
+}
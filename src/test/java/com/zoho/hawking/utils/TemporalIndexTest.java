@@ -0,0 +1,139 @@
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.DateRange;
+import com.zoho.hawking.language.english.model.DatesFound;
+import com.zoho.hawking.language.english.model.ParserOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemporalIndexTest {
+
+    private static DatesFound datesFound(long... startsAndEnds) {
+        List<ParserOutput> parserOutputs = new ArrayList<>();
+        for (int i = 0; i < startsAndEnds.length; i += 2) {
+            ParserOutput parserOutput = new ParserOutput();
+            parserOutput.setDateRange(new DateRange("", startsAndEnds[i], startsAndEnds[i + 1], "+00:00")); //No I18N
+            parserOutputs.add(parserOutput);
+        }
+        DatesFound datesFound = new DatesFound();
+        datesFound.setParserOutputs(parserOutputs);
+        return datesFound;
+    }
+
+    @Test
+    @DisplayName("Documents are found by overlap and by the next start")
+    public void testQueries() {
+        TemporalIndex temporalIndex = new TemporalIndex();
+        temporalIndex.add("a", datesFound(10, 20, 50, 60)); //No I18N
+        temporalIndex.add("b", datesFound(15, 16)); //No I18N
+        temporalIndex.add("c", datesFound(30, DateRange.NO_DATE)); //No I18N
+        temporalIndex.add("d", datesFound(DateRange.NO_DATE, DateRange.NO_DATE)); //No I18N
+        assertEquals(4, temporalIndex.size());
+        assertEquals(Arrays.asList("a", "b"), temporalIndex.documentsOverlapping(16, 25)); //No I18N
+        assertEquals(Arrays.asList("c", "a"), temporalIndex.documentsOverlapping(40, 55)); //No I18N
+        assertEquals(Collections.singletonList("c"), temporalIndex.documentsOverlapping(1000, 2000)); //No I18N
+        int next = temporalIndex.nextStartingAt(31);
+        assertEquals("a", temporalIndex.getDocumentId(next)); //No I18N
+        assertEquals(50, temporalIndex.getStart(next));
+        assertEquals(-1, temporalIndex.nextStartingAt(51));
+
+        assertEquals(2, temporalIndex.remove("a")); //No I18N
+        assertEquals(Collections.singletonList("c"), temporalIndex.documentsOverlapping(40, 55)); //No I18N
+        assertEquals(-1, temporalIndex.nextStartingAt(31));
+        temporalIndex.add("a", datesFound(40, 41)); //No I18N
+        assertEquals(Arrays.asList("c", "a"), temporalIndex.documentsOverlapping(40, 55)); //No I18N
+        assertThrows(IndexOutOfBoundsException.class, () -> temporalIndex.getStart(99));
+    }
+
+    @Test
+    @DisplayName("Bulk loads and incremental changes answer as a scan of every entry")
+    public void testAgainstScan() {
+        Random random = new Random(7);
+        List<String> documentIds = new ArrayList<>();
+        List<DatesFound> datesFoundList = new ArrayList<>();
+        List<long[]> ranges = new ArrayList<>();
+        for (int document = 0; document < 300; document++) {
+            long[] startsAndEnds = new long[2 + 2 * random.nextInt(3)];
+            for (int i = 0; i < startsAndEnds.length; i += 2) {
+                startsAndEnds[i] = random.nextInt(10000);
+                startsAndEnds[i + 1] = startsAndEnds[i] + random.nextInt(200);
+            }
+            documentIds.add("doc" + document); //No I18N
+            datesFoundList.add(datesFound(startsAndEnds));
+            ranges.add(startsAndEnds);
+        }
+        TemporalIndex temporalIndex = new TemporalIndex();
+        temporalIndex.addAll(documentIds.subList(0, 200), datesFoundList.subList(0, 200));
+        for (int document = 200; document < 300; document++) {
+            temporalIndex.add(documentIds.get(document), datesFoundList.get(document));
+        }
+        for (int document = 0; document < 300; document += 3) {
+            temporalIndex.remove(documentIds.get(document));
+            ranges.set(document, new long[0]);
+        }
+        for (int query = 0; query < 200; query++) {
+            long from = random.nextInt(10500);
+            long to = from + random.nextInt(300);
+            List<String> expected = new ArrayList<>();
+            for (int document = 0; document < 300; document++) {
+                long[] startsAndEnds = ranges.get(document);
+                for (int i = 0; i < startsAndEnds.length; i += 2) {
+                    if (startsAndEnds[i] <= to && startsAndEnds[i + 1] >= from) {
+                        expected.add(documentIds.get(document));
+                        break;
+                    }
+                }
+            }
+            List<String> found = temporalIndex.documentsOverlapping(from, to);
+            Collections.sort(expected);
+            Collections.sort(found);
+            assertEquals(expected, found);
+        }
+        int[] entries = temporalIndex.entriesOverlapping(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(temporalIndex.size(), entries.length);
+        for (int i = 1; i < entries.length; i++) {
+            assertTrue(temporalIndex.getStart(entries[i - 1]) <= temporalIndex.getStart(entries[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Queries running at the same time each get their own entries")
+    public void testConcurrentQueries() throws Exception {
+        TemporalIndex temporalIndex = new TemporalIndex();
+        for (int document = 0; document < 500; document++) {
+            temporalIndex.add("doc" + document, datesFound(document * 10, document * 10 + 25)); //No I18N
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                long from = task * 500 + 100;
+                results.add(executor.submit(() -> {
+                    int[] expected = temporalIndex.entriesOverlapping(from, from + 300);
+                    for (int query = 0; query < 2000; query++) {
+                        if (!Arrays.equals(expected, temporalIndex.entriesOverlapping(from, from + 300))) {
+                            return false;
+                        }
+                    }
+                    return expected.length == 33 && temporalIndex.getStart(expected[0]) == from - 20;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
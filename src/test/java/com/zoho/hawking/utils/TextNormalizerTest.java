@@ -0,0 +1,62 @@
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.datetimeparser.configuration.NormalizationRule;
+import com.zoho.hawking.datetimeparser.utils.NumberNormalizer;
+import com.zoho.hawking.datetimeparser.utils.NumberNormalizer.NormalizedText;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextNormalizerTest {
+
+    @Test
+    @DisplayName("Default rules rewrite the text in one scan")
+    public void testDefaultRules() {
+        TextNormalizer textNormalizer = TextNormalizer.forRules(null);
+        assertEquals("4th week March", textNormalizer.normalize("final week of March")); //No I18N
+        assertEquals("4th week june", textNormalizer.normalize("june last week")); //No I18N
+        assertEquals("after 1 PM day", textNormalizer.normalize("post lunch date")); //No I18N
+        assertEquals("2 hrs from 8 AM", textNormalizer.normalize("(2hrs) around breakfast.")); //No I18N
+        assertEquals("2 days back", textNormalizer.normalize("2 days before.")); //No I18N
+        assertEquals("the last day", textNormalizer.normalize("- the Final day")); //No I18N
+    }
+
+    @Test
+    @DisplayName("Tenant rules are compiled once and applied before the default rules")
+    public void testTenantRules() {
+        TextNormalizer textNormalizer = TextNormalizer.forRules(Arrays.asList(
+                new NormalizationRule("\\b(?i:EOD)\\b", "today 6 PM"), //No I18N
+                new NormalizationRule("\\bCOB (\\w+)", "$1 5 PM"))); //No I18N
+        assertEquals("today 6 PM", textNormalizer.normalize("EOD")); //No I18N
+        assertEquals("friday 5 PM", textNormalizer.normalize("COB friday")); //No I18N
+        assertEquals("4th week May", textNormalizer.normalize("last week of May")); //No I18N
+        assertSame(textNormalizer, TextNormalizer.forRules(Arrays.asList(
+                new NormalizationRule("\\b(?i:EOD)\\b", "today 6 PM"), //No I18N
+                new NormalizationRule("\\bCOB (\\w+)", "$1 5 PM")))); //No I18N
+        assertSame(TextNormalizer.forRules(null), TextNormalizer.forRules(Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("Offsets point into the text before the rules and the ordinal rewrite")
+    public void testOffsets() {
+        NormalizedText normalizedText = TextNormalizer.forRules(null).normalizeWithOffsets("(2hrs) around breakfast."); //No I18N
+        assertEquals("2 hrs from 8 AM", normalizedText.getText()); //No I18N
+        assertEquals(1, normalizedText.getOriginalOffset(0));
+        assertEquals(2, normalizedText.getOriginalOffset(2));
+        assertEquals(5, normalizedText.getOriginalOffset(5));
+        assertEquals(7, normalizedText.getOriginalOffset(6));
+        assertEquals(14, normalizedText.getOriginalOffset(11));
+        assertEquals(24, normalizedText.getOriginalOffset(15));
+
+        NormalizedText withoutParentheses = TextNormalizer.forRules(null).normalizeWithOffsets("(the twenty first)"); //No I18N
+        NormalizedText withOrdinals = NumberNormalizer.normalize(withoutParentheses.getText()).after(withoutParentheses);
+        assertEquals("the 21st", withOrdinals.getText()); //No I18N
+        assertEquals(1, withOrdinals.getOriginalOffset(0));
+        assertEquals(5, withOrdinals.getOriginalOffset(4));
+        assertEquals(18, withOrdinals.getOriginalOffset(8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.zoho.hawking.utils;
+
+import com.zoho.hawking.language.english.model.TimeZoneMention;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeZoneMentionDetectorTest {
+
+    @Test
+    @DisplayName("Longest mention with its offsets")
+    public void testFind() {
+        TimeZoneMention mention = TimeZoneMentionDetector.find("meet at 5 pm est tomorrow"); //No I18N
+        assertEquals("EST", mention.getTimeZone()); //No I18N
+        assertEquals(13, mention.getStart());
+        assertEquals(16, mention.getEnd());
+
+        mention = TimeZoneMentionDetector.find("call at 9 Etc/GMT0"); //No I18N
+        assertEquals("Etc/GMT0", mention.getTimeZone()); //No I18N
+        assertEquals(10, mention.getStart());
+    }
+
+    @Test
+    @DisplayName("Mentions only count on word boundaries")
+    public void testWordBoundary() {
+        assertNull(TimeZoneMentionDetector.find("the best restaurant")); //No I18N
+        assertNull(TimeZoneMentionDetector.find("")); //No I18N
+        assertNotNull(TimeZoneMentionDetector.find("(PST)")); //No I18N
+    }
+
+    @Test
+    @DisplayName("All mentions without overlaps")
+    public void testFindAll() {
+        List<TimeZoneMention> mentions = TimeZoneMentionDetector.findAll("5 pm PST or 8 pm EST5EDT"); //No I18N
+        assertEquals(2, mentions.size());
+        assertEquals("PST", mentions.get(0).getTimeZone()); //No I18N
+        assertEquals("EST5EDT", mentions.get(1).getTimeZone()); //No I18N
+    }
+}
@@ -0,0 +1,42 @@
+package com.zoho.hawking.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneOffsetCacheTest {
+
+    private static long millisOf(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("Zone ids follow daylight saving at the reference instant")
+    public void testZoneRules() {
+        ZoneId london = ZoneOffsetCache.zoneOf("Europe/London"); //No I18N
+        assertEquals("+00:00", ZoneOffsetCache.offsetIdAt(london, millisOf("2021-01-15T10:00:00Z"))); //No I18N
+        assertEquals("+01:00", ZoneOffsetCache.offsetIdAt(london, millisOf("2021-07-15T10:00:00Z"))); //No I18N
+        ZoneId pacific = ZoneOffsetCache.zoneOf("PST"); //No I18N
+        assertEquals("-08:00", ZoneOffsetCache.offsetIdAt(pacific, millisOf("2021-03-14T09:59:59Z"))); //No I18N
+        assertEquals("-07:00", ZoneOffsetCache.offsetIdAt(pacific, millisOf("2021-03-14T10:00:00Z"))); //No I18N
+        assertEquals("-07:00", ZoneOffsetCache.offsetIdAt(pacific, millisOf("2150-07-01T00:00:00Z"))); //No I18N
+        assertEquals("+05:30", ZoneOffsetCache.offsetIdAt(ZoneOffsetCache.zoneOf("IST"), millisOf("2021-07-15T10:00:00Z"))); //No I18N
+    }
+
+    @Test
+    @DisplayName("Display names and abbreviations have a fixed offset")
+    public void testNamedOffsets() {
+        assertEquals(ZoneOffset.of("-07:00"), ZoneOffsetCache.zoneOf("Pacific Daylight Time")); //No I18N
+        assertEquals(ZoneOffset.of("-07:00"), ZoneOffsetCache.zoneOf("PacificDaylightTime")); //No I18N
+        assertEquals(ZoneOffset.of("-04:00"), ZoneOffsetCache.zoneOf("edt")); //No I18N
+        assertEquals(ZoneOffset.of("-03:00"), ZoneOffsetCache.zoneOf("UruguayTime")); //No I18N
+        assertEquals("+05:00", ZoneOffsetCache.offsetIdAt(ZoneOffsetCache.zoneOf("GMT+05:00"), 0L)); //No I18N
+        assertNull(ZoneOffsetCache.zoneOf("Eastern Greenland Summer Time")); //No I18N
+        assertNull(ZoneOffsetCache.zoneOf("Mars Time")); //No I18N
+    }
+}